@@ -0,0 +1,28 @@
+package benchmark.blockblast;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Block Blast benchmarks with the GC profiler, so every result reports allocation
+ * rate (gc.alloc.rate.norm, bytes per op) next to throughput.
+ * Accepts the usual JMH command line, e.g. {@code -Djmh.args="BoardBenchmark.canPlace -p boardSize=8"}.
+ */
+public class BlockBlastBenchmarks {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include("benchmark\\.blockblast\\..*");
+        }
+        new Runner(options.build()).run();
+    }
+}
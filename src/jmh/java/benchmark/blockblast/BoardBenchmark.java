@@ -0,0 +1,167 @@
+package benchmark.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.LegalAnchorTracker;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceColor;
+import entity.blockblast.PieceGenerator;
+import entity.blockblast.Position;
+import entity.blockblast.Shape;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board operations on the hot path of a move, across board sizes, fill ratios and piece mixes.
+ * Boards are filled at random but never contain a full line, so clearFullLines measures the scan
+ * unless a benchmark sets a line up first. Benchmarks that mutate work on a colour-free copy;
+ * {@link #copyBaseline} gives the cost of that copy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    private static final int ANCHORS = 1024;
+
+    @Param({"8", "16", "32", "64"})
+    public int boardSize;
+
+    @Param({"0.25", "0.5", "0.75"})
+    public double fillRatio;
+
+    @Param({"small", "mixed", "large"})
+    public String pieceMix;
+
+    private Board board;
+    private Board boardWithFullRow;
+    private Piece[] pieces;
+    private int[] anchorRows;
+    private int[] anchorCols;
+    private Piece[] tray;
+    private Piece[] placeable;
+    private int[] placeableRows;
+    private int[] placeableCols;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(boardSize * 31L + (long) (fillRatio * 100));
+        Piece dot = Shape.of(List.of(new Position(0, 0))).piece(PieceColor.RED);
+
+        board = new Board(boardSize, boardSize);
+        for (int r = 0; r < boardSize; r++) {
+            for (int c = 0; c < boardSize; c++) {
+                // Leave the diagonal empty so no row or column is ever full.
+                if (c != r && random.nextDouble() < fillRatio) {
+                    board.place(dot, r, c);
+                }
+            }
+        }
+        boardWithFullRow = board.copyWithoutColors();
+        for (int c = 0; c < boardSize; c++) {
+            if (!boardWithFullRow.isFilled(0, c)) boardWithFullRow.place(dot, 0, c);
+        }
+
+        List<Piece> mix = new ArrayList<>();
+        for (Shape shape : PieceGenerator.getShapes()) {
+            boolean small = shape.getSize() <= 2;
+            if ("mixed".equals(pieceMix) || small == "small".equals(pieceMix)) {
+                mix.add(shape.piece(PieceColor.BLUE));
+            }
+        }
+        pieces = mix.toArray(new Piece[0]);
+        tray = new Piece[] {pieces[0], pieces[pieces.length / 2], pieces[pieces.length - 1]};
+
+        anchorRows = new int[ANCHORS];
+        anchorCols = new int[ANCHORS];
+        List<int[]> legal = new ArrayList<>();
+        for (int i = 0; i < ANCHORS; i++) {
+            anchorRows[i] = random.nextInt(boardSize);
+            anchorCols[i] = random.nextInt(boardSize);
+            Piece p = pieces[i % pieces.length];
+            if (board.canPlace(p, anchorRows[i], anchorCols[i])) {
+                legal.add(new int[] {i % pieces.length, anchorRows[i], anchorCols[i]});
+            }
+        }
+        if (legal.isEmpty()) {
+            legal.add(new int[] {0, 0, 0});
+        }
+        placeable = new Piece[legal.size()];
+        placeableRows = new int[legal.size()];
+        placeableCols = new int[legal.size()];
+        for (int i = 0; i < legal.size(); i++) {
+            placeable[i] = pieces[legal.get(i)[0]];
+            placeableRows[i] = legal.get(i)[1];
+            placeableCols[i] = legal.get(i)[2];
+        }
+    }
+
+    @Benchmark
+    public boolean canPlace() {
+        int i = next++ & (ANCHORS - 1);
+        return board.canPlace(pieces[i % pieces.length], anchorRows[i], anchorCols[i]);
+    }
+
+    @Benchmark
+    public Board copyBaseline() {
+        return board.copyWithoutColors();
+    }
+
+    @Benchmark
+    public Board place() {
+        int i = next++ % placeable.length;
+        Board copy = board.copyWithoutColors();
+        copy.place(placeable[i], placeableRows[i], placeableCols[i]);
+        return copy;
+    }
+
+    @Benchmark
+    public int clearFullLinesScan() {
+        return board.clearFullLines();
+    }
+
+    @Benchmark
+    public int clearFullLinesWithClear() {
+        return boardWithFullRow.copyWithoutColors().clearFullLines();
+    }
+
+    /** The game-over check before the anchor tracker: try every anchor of every tray piece. */
+    @Benchmark
+    public boolean validMoveRescan() {
+        for (Piece p : tray) {
+            for (int r = 0; r < boardSize; r++) {
+                for (int c = 0; c < boardSize; c++) {
+                    if (board.canPlace(p, r, c)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /** The game-over check from scratch with the anchor tracker (what a new tray costs). */
+    @Benchmark
+    public boolean validMoveTrackerRebuild() {
+        LegalAnchorTracker tracker = new LegalAnchorTracker(board);
+        tracker.sync(tray);
+        return tracker.hasLegalMove();
+    }
+}
@@ -0,0 +1,62 @@
+package benchmark.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.FairPieceGenerator;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceColor;
+import entity.blockblast.PieceGenerator;
+import entity.blockblast.Position;
+import entity.blockblast.Shape;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceGeneratorBenchmark {
+    private final PieceGenerator generator = new PieceGenerator(42L);
+    private final FairPieceGenerator fairGenerator = new FairPieceGenerator(42L, 0);
+    private final Piece[] tray = new Piece[3];
+    private Board crowded;
+
+    @Setup
+    public void setUp() {
+        // About 60% full with no full lines, where a uniform tray is often unplayable.
+        Piece cell = Shape.of(List.of(new Position(0, 0))).piece(PieceColor.RED);
+        Random random = new Random(42);
+        crowded = new Board(8, 8);
+        for (int r = 0; r < 8; r++) {
+            for (int c = 0; c < 8; c++) {
+                if (random.nextDouble() < 0.6) crowded.place(cell, r, c);
+            }
+        }
+        crowded.clearFullLines();
+    }
+
+    @Benchmark
+    public Piece generateRandomPiece() {
+        return generator.generateRandomPiece();
+    }
+
+    @Benchmark
+    public Piece[] dealFairTrayOnCrowdedBoard() {
+        fairGenerator.deal(tray, crowded);
+        return tray;
+    }
+}
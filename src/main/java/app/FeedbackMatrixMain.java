@@ -0,0 +1,37 @@
+package app;
+
+import data_access.wordle.FileFeedbackMatrixDataAccess;
+import data_access.wordle.FileWordListDataAccess;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Precomputes the Wordle feedback matrix, every valid guess against every answer, on all
+ * cores. The game rebuilds a stale matrix by itself; this builds it ahead of time.
+ * Usage: FeedbackMatrixMain [outputFile] [--force]
+ */
+public class FeedbackMatrixMain {
+
+    public static void main(String[] args) throws IOException {
+        boolean force = List.of(args).contains("--force");
+        Path file = args.length > 0 && !args[0].equals("--force")
+                ? Paths.get(args[0]) : FileFeedbackMatrixDataAccess.DEFAULT_FILE;
+
+        FileWordListDataAccess words = new FileWordListDataAccess();
+        List<String> guesses = words.getAllValidWords();
+        List<String> answers = words.getAllAnswers();
+        FileFeedbackMatrixDataAccess matrix = new FileFeedbackMatrixDataAccess(file);
+        if (!force && matrix.isCurrent(guesses, answers)) {
+            System.out.println(file + " is up to date");
+            return;
+        }
+
+        long start = System.nanoTime();
+        matrix.build(guesses, answers);
+        System.out.printf("%d x %d feedback codes written to %s in %.2f s%n",
+                guesses.size(), answers.size(), file, (System.nanoTime() - start) / 1e9);
+    }
+}
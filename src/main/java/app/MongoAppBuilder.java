@@ -35,11 +35,13 @@ import interface_adapter.leaderboard.LeaderBoardPresenter;
 import interface_adapter.leaderboard.LeaderBoardViewModel;
 import view.*;
 // Wordle imports
+import data_access.wordle.FileFeedbackMatrixDataAccess;
 import data_access.wordle.FileWordListDataAccess;
 import data_access.wordle.InMemoryGameSessionGateway;
 import interface_adapter.wordle.WordleController;
 import interface_adapter.wordle.WordlePresenter;
 import interface_adapter.wordle.WordleViewModel;
+import use_case.wordle.HintInteractor;
 import use_case.wordle.StartGameInteractor;
 import use_case.wordle.SubmitGuessInteractor;
 import wordle.WordleView;
@@ -52,6 +54,9 @@ import use_case.chess_puzzle.*;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * AppBuilder configured to use MongoDB for user storage.
@@ -205,7 +210,20 @@ public class MongoAppBuilder {
         SubmitGuessInteractor submitGuessInteractor = new SubmitGuessInteractor(wordListDao, sessionGateway, wordlePresenter);
 
         // Controller
-        wordleController = new WordleController(startGameInteractor, submitGuessInteractor, sessionGateway);
+        // Hints share one memory-mapped feedback matrix. Hints run one at a time on a daemon worker,
+        // which first loads, or rebuilds, the matrix; requests made meanwhile wait behind it.
+        ExecutorService hintWorker = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "wordle-hint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        HintInteractor hintInteractor = new HintInteractor(wordListDao, sessionGateway,
+                new FileFeedbackMatrixDataAccess(FileFeedbackMatrixDataAccess.DEFAULT_FILE), wordlePresenter,
+                ForkJoinPool.commonPool(), hintWorker);
+        hintWorker.execute(hintInteractor::prepare);
+
+        wordleController = new WordleController(startGameInteractor, submitGuessInteractor, sessionGateway,
+                hintInteractor);
 
         //View
         wordleView = new WordleView(wordleController, viewManagerModel, vm -> {
@@ -1,20 +1,179 @@
 package app.blockblast;
 
+import data_access.blockblast.FileChallengePackDataAccess;
+import data_access.blockblast.FileGameSaveDataAccess;
+import data_access.blockblast.FileHeatmapDataAccess;
+import data_access.blockblast.FileMoveEventLog;
+import data_access.blockblast.FileReplayDataAccess;
 import entity.blockblast.*;
 import interface_adapter.ViewManagerModel;
 import interface_adapter.blockblast.BlockBlastController;
 import interface_adapter.blockblast.BlockBlastPresenter;
 import interface_adapter.blockblast.BlockBlastViewModel;
 import interface_adapter.leaderboard.LeaderBoardController;
+import use_case.blockblast.ChallengeImporter;
+import use_case.blockblast.ChallengeSolver;
+import use_case.blockblast.ChallengeTracker;
+import use_case.blockblast.DefaultPlacementHeuristic;
+import use_case.blockblast.GameAutoSaver;
+import use_case.blockblast.GreedyBotPolicy;
+import use_case.blockblast.HeatmapInteractor;
+import use_case.blockblast.HeatmapSnapshot;
+import use_case.blockblast.HintInputBoundary;
+import use_case.blockblast.HintInteractor;
 import use_case.blockblast.PlacePieceInputBoundary;
 import use_case.blockblast.PlacePieceInteractor;
+import use_case.blockblast.PlacementHeatmap;
+import use_case.blockblast.PlacementSolver;
+import use_case.blockblast.ReplayRecorder;
+import use_case.blockblast.ResumeGameInputBoundary;
+import use_case.blockblast.ResumeGameInteractor;
+import use_case.blockblast.SurvivalEstimator;
 import view.ImagePanel;
 import view.blockblast.BlockBlastView;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class BlockBlastAppBuilder {
+    private static final long HINT_BUDGET_MILLIS = 300;
+    private static final String REPLAY_DIR = "replays";
+    private static final String SAVE_DIR = "saves";
+    private static final String EVENT_DIR = "events";
+    private static final String STATS_DIR = "stats";
+    private static final long HEATMAP_FLUSH_SECONDS = 30;
+    // Board size, e.g. -Dblockblast.rows=16 -Dblockblast.cols=16; anything up to 64x64 works.
+    private static final int BOARD_ROWS = Integer.getInteger("blockblast.rows", 8);
+    private static final int BOARD_COLS = Integer.getInteger("blockblast.cols", 8);
+    // Trays are checked to be placeable unless -Dblockblast.fairDeals=false; raising
+    // -Dblockblast.minAnchors asks for trays with more room to place them.
+    private static final boolean FAIR_DEALS =
+            Boolean.parseBoolean(System.getProperty("blockblast.fairDeals", "true"));
+    private static final int MIN_ANCHORS = Integer.getInteger("blockblast.minAnchors", 0);
+    // -Dblockblast.challenges=<pack file> plays the pack's challenges instead of endless games.
+    private static final String CHALLENGE_PACK = System.getProperty("blockblast.challenges");
+    private static final int SURVIVAL_TRAYS = 3;
+    private static final int SURVIVAL_ROLLOUTS = 1000;
+    private static final int SURVIVAL_WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    // Daemon workers shared by every frame, so an open estimate never keeps the JVM alive.
+    private static final ExecutorService SURVIVAL_POOL = Executors.newFixedThreadPool(SURVIVAL_WORKERS, r -> {
+        Thread thread = new Thread(r, "blockblast-survival");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    // One move event log shared by every frame, opened with the first frame and written out when the JVM exits.
+    private static FileMoveEventLog eventLog;
+
+    private static synchronized FileMoveEventLog eventLog() {
+        if (eventLog == null) {
+            eventLog = openEventLog();
+        }
+        return eventLog;
+    }
+
+    private static FileMoveEventLog openEventLog() {
+        FileMoveEventLog log = new FileMoveEventLog(Paths.get(EVENT_DIR));
+        Runtime.getRuntime().addShutdownHook(new Thread(log::close, "blockblast-event-log-close"));
+        return log;
+    }
+
+    // Placements of every frame's games, loaded with the first frame, continuing the totals on disk
+    // and flushed back periodically.
+    private static PlacementHeatmap heatmap;
+
+    private static synchronized PlacementHeatmap heatmap() {
+        if (heatmap == null) {
+            heatmap = openHeatmap();
+        }
+        return heatmap;
+    }
+
+    private static PlacementHeatmap openHeatmap() {
+        FileHeatmapDataAccess gateway = new FileHeatmapDataAccess(Paths.get(STATS_DIR));
+        HeatmapSnapshot saved = gateway.load(BOARD_ROWS, BOARD_COLS);
+        PlacementHeatmap heatmap = saved != null
+                ? new PlacementHeatmap(saved)
+                : new PlacementHeatmap(BOARD_ROWS, BOARD_COLS);
+        Runnable flush = () -> {
+            try {
+                gateway.save(heatmap.snapshot());
+            } catch (RuntimeException e) {
+                System.err.println("Could not save heatmap: " + e.getMessage());
+            }
+        };
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "blockblast-heatmap-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(flush, HEATMAP_FLUSH_SECONDS, HEATMAP_FLUSH_SECONDS, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(flush, "blockblast-heatmap-final-flush"));
+        return heatmap;
+    }
+
+    // The playable challenges of CHALLENGE_PACK, shared by every frame: read from the .solved pack
+    // ChallengeImportMain writes when it is up to date, otherwise proven once on a background thread.
+    private static CompletableFuture<List<Challenge>> challengePack;
+
+    private static synchronized CompletableFuture<List<Challenge>> challengePack() {
+        if (challengePack == null) {
+            challengePack = loadChallenges(Paths.get(CHALLENGE_PACK));
+        }
+        return challengePack;
+    }
+
+    private static CompletableFuture<List<Challenge>> loadChallenges(Path pack) {
+        Path solved = Paths.get(pack + ".solved");
+        try {
+            if (Files.isRegularFile(solved)
+                    && Files.getLastModifiedTime(solved).compareTo(Files.getLastModifiedTime(pack)) >= 0) {
+                List<Challenge> accepted = new ArrayList<>();
+                for (Challenge challenge : new FileChallengePackDataAccess(solved).load()) {
+                    if (challenge.hasSolution()) {
+                        accepted.add(challenge);
+                    } else {
+                        System.err.println("Skipping challenge " + challenge.getName() + ": no solution in " + solved);
+                    }
+                }
+                return CompletableFuture.completedFuture(accepted);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not read " + solved + ", proving " + pack + " instead: " + e.getMessage());
+        }
+
+        CompletableFuture<List<Challenge>> result = new CompletableFuture<>();
+        Thread prover = new Thread(() -> {
+            try {
+                ChallengeImporter.Report report =
+                        new ChallengeImporter(ForkJoinPool.commonPool(), ChallengeSolver.DEFAULT_NODE_BUDGET)
+                                .verify(new FileChallengePackDataAccess(pack).load());
+                for (String rejected : report.getRejected()) {
+                    System.err.println("Skipping challenge " + rejected);
+                }
+                result.complete(report.getAccepted());
+            } catch (RuntimeException e) {
+                System.err.println("Could not load challenge pack " + pack + ": " + e.getMessage());
+                result.complete(List.of());
+            }
+        }, "blockblast-challenge-prover");
+        prover.setDaemon(true);
+        prover.start();
+        return result;
+    }
 
     public static JFrame buildFrame() {
         return buildFrame(null, null, null);
@@ -23,22 +182,49 @@ public class BlockBlastAppBuilder {
     public static JFrame buildFrame(ViewManagerModel viewManagerModel,
                                    LeaderBoardController leaderBoardController,
                                    String userId) {
-        Board board = new Board(8, 8);
-        PieceGenerator generator = new PieceGenerator();
-
-        Piece[] pieces = new Piece[3];
-        for (int i = 0; i < pieces.length; i++) {
-            pieces[i] = generator.generateRandomPiece();
-        }
-
-        GameState gameState = new GameState(board, pieces, 0, false);
+        // Without a proven challenge yet, the frame plays an endless game and says why.
+        List<Challenge> pack = CHALLENGE_PACK != null ? challengePack().getNow(null) : null;
+        String fallback = CHALLENGE_PACK == null ? null
+                : pack == null ? "Challenges are still being checked, so this is an endless game"
+                : pack.isEmpty() ? "No challenge in " + CHALLENGE_PACK + " is proven solvable, so this is an endless game"
+                : null;
+        ChallengePieceGenerator challenges =
+                pack != null && !pack.isEmpty() ? new ChallengePieceGenerator(pack) : null;
+        Board board = challenges != null
+                ? new Board(challenges.getChallenge().getRows(), challenges.getChallenge().getCols())
+                : new Board(BOARD_ROWS, BOARD_COLS);
+        int traySize = challenges != null ? challenges.getChallenge().getTraySize() : 3;
+        GameState gameState = new GameState(board, new Piece[traySize], 0, false);
+        PieceGenerator generator = challenges != null ? challenges
+                : FAIR_DEALS ? new FairPieceGenerator(new SplittableRandom().nextLong(), MIN_ANCHORS)
+                : new PieceGenerator();
+        GameEngine engine = new GameEngine(gameState, generator);
+        PlacementHeatmap heatmap = heatmap();
+        engine.addListener(heatmap);
+        FileGameSaveDataAccess saves = new FileGameSaveDataAccess(Paths.get(SAVE_DIR));
+        String saveId = userId != null && !userId.isEmpty() ? userId : "local";
 
         BlockBlastViewModel viewModel = new BlockBlastViewModel();
         BlockBlastPresenter presenter = new BlockBlastPresenter(viewModel);
-        PlacePieceInputBoundary interactor =
-                new PlacePieceInteractor(gameState, generator, presenter);
+        PlacePieceInputBoundary interactor = new PlacePieceInteractor(engine, presenter, eventLog());
+        // Challenge games are not recorded, saved or estimated: their pieces do not come from a seed.
+        if (challenges != null) {
+            engine.addListener(new ChallengeTracker(challenges, presenter));
+        } else {
+            engine.addListener(new ReplayRecorder(
+                    new FileReplayDataAccess(Paths.get(REPLAY_DIR)), generator.getDealMode()));
+            // Greedy rollouts without the mobility term, which would make each rollout far slower.
+            engine.addListener(new SurvivalEstimator(SURVIVAL_POOL, SURVIVAL_WORKERS, SURVIVAL_ROLLOUTS,
+                    SURVIVAL_TRAYS, generator.getDealMode(),
+                    () -> new GreedyBotPolicy(new DefaultPlacementHeuristic(10.0, -3.0, 0.0)), presenter));
+        }
+        ResumeGameInputBoundary resumeInteractor = new ResumeGameInteractor(engine, saves, presenter);
+        PlacementSolver solver = new PlacementSolver(
+                ForkJoinPool.commonPool(), new DefaultPlacementHeuristic(), HINT_BUDGET_MILLIS);
+        HintInputBoundary hintInteractor =
+                new HintInteractor(gameState, solver, ForkJoinPool.commonPool(), presenter);
         BlockBlastController controller =
-                new BlockBlastController(interactor);
+                new BlockBlastController(interactor, hintInteractor, new HeatmapInteractor(heatmap, presenter));
 
         BlockBlastView view = new BlockBlastView(viewModel, controller, viewManagerModel);
 
@@ -57,16 +243,18 @@ public class BlockBlastAppBuilder {
         view.setOpaque(false);
         background.add(view, BorderLayout.CENTER);
 
-        boolean[][] initialBoard = new boolean[board.getRows()][board.getCols()];
-        PieceColor[][] initialColors = board.getGrid();
-        viewModel.setState(
-                initialBoard,
-                initialColors,
-                gameState.getScore(),
-                gameState.isGameOver(),
-                "",
-                gameState.getCurrentPieces()
-        );
+        // Continues the player's unfinished game, or deals a fresh one that is recorded from its start.
+        if (challenges != null) {
+            interactor.newGame();
+        } else {
+            if (!resumeInteractor.execute(saveId)) {
+                interactor.newGame();
+            }
+            engine.addListener(new GameAutoSaver(saves, saveId));
+        }
+        if (fallback != null) {
+            presenter.prepareFailView(fallback);
+        }
 
         JFrame frame = new JFrame("Block Blast");
         frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
@@ -80,6 +268,10 @@ public class BlockBlastAppBuilder {
     }
 
     public static void main(String[] args) {
+        // Proves the challenge pack here rather than on the EDT, before the first frame needs it.
+        if (CHALLENGE_PACK != null) {
+            challengePack().join();
+        }
         SwingUtilities.invokeLater(() -> {
             JFrame frame = buildFrame();
             frame.setVisible(true);
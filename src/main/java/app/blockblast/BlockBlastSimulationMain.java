@@ -0,0 +1,60 @@
+package app.blockblast;
+
+import use_case.blockblast.BotPolicy;
+import use_case.blockblast.DefaultPlacementHeuristic;
+import use_case.blockblast.GreedyBotPolicy;
+import use_case.blockblast.RandomBotPolicy;
+import use_case.blockblast.SimulationReport;
+import use_case.blockblast.SimulationRunner;
+
+import java.util.function.Supplier;
+
+/**
+ * Headless Block Blast simulation for tuning scoring and difficulty.
+ * Usage: BlockBlastSimulationMain [games] [random|greedy] [boardSize] [seed] [threads]
+ */
+public class BlockBlastSimulationMain {
+
+    public static void main(String[] args) throws InterruptedException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        String policyName = args.length > 1 ? args[1] : "random";
+        int size = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        Supplier<BotPolicy> policy;
+        if ("greedy".equals(policyName)) {
+            policy = () -> new GreedyBotPolicy(new DefaultPlacementHeuristic());
+        } else if ("random".equals(policyName)) {
+            policy = RandomBotPolicy::new;
+        } else {
+            throw new IllegalArgumentException("Unknown policy: " + policyName);
+        }
+
+        SimulationRunner runner = new SimulationRunner(size, size, threads, 100_000, policy);
+        SimulationReport report = runner.run(games, seed);
+
+        System.out.printf("%d games, %d moves in %.2f s on %d threads (%s, %dx%d)%n",
+                report.getGames(), report.getMoves(), report.getElapsedNanos() / 1e9, threads, policyName, size, size);
+        System.out.printf("games/sec: %.0f   moves/sec: %.0f%n", report.getGamesPerSecond(), report.getMovesPerSecond());
+        System.out.printf("score  p50=%d p90=%d p99=%d max=%d%n",
+                report.getScorePercentile(50), report.getScorePercentile(90),
+                report.getScorePercentile(99), report.getScorePercentile(100));
+        System.out.printf("length p50=%d p90=%d p99=%d max=%d%n",
+                report.getLengthPercentile(50), report.getLengthPercentile(90),
+                report.getLengthPercentile(99), report.getLengthPercentile(100));
+
+        System.out.println("game length histogram (moves: games):");
+        long[] lengths = report.getLengthHistogram();
+        int bucket = Math.max(1, lengths.length / 20);
+        for (int from = 0; from < lengths.length; from += bucket) {
+            long count = 0;
+            for (int i = from; i < Math.min(lengths.length, from + bucket); i++) {
+                count += lengths[i];
+            }
+            if (count > 0) {
+                System.out.printf("  %5d-%-5d %d%n", from, from + bucket - 1, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package app.blockblast;
+
+import data_access.blockblast.FileChallengePackDataAccess;
+import use_case.blockblast.ChallengeImporter;
+import use_case.blockblast.ChallengeSolver;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Imports a Block Blast challenge pack: proves every challenge solvable on all cores, reports
+ * the ones that are not, and writes the solvable ones with their shortest solutions.
+ * Usage: ChallengeImportMain packFile [outputFile] [nodeBudget]
+ */
+public class ChallengeImportMain {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ChallengeImportMain packFile [outputFile] [nodeBudget]");
+            System.exit(2);
+        }
+        Path pack = Paths.get(args[0]);
+        Path output = args.length > 1 ? Paths.get(args[1]) : Paths.get(args[0] + ".solved");
+        long budget = args.length > 2 ? Long.parseLong(args[2]) : ChallengeSolver.DEFAULT_NODE_BUDGET;
+
+        long start = System.nanoTime();
+        ChallengeImporter.Report report = new ChallengeImporter(ForkJoinPool.commonPool(), budget)
+                .importPack(new FileChallengePackDataAccess(pack), new FileChallengePackDataAccess(output));
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        for (String rejected : report.getRejected()) {
+            System.out.println("rejected " + rejected);
+        }
+        int total = report.getAccepted().size() + report.getRejected().size();
+        System.out.printf("%d challenges checked in %.2f s (%.0f/s), %d accepted, written to %s%n",
+                total, seconds, total / Math.max(seconds, 1e-9), report.getAccepted().size(), output);
+    }
+}
@@ -0,0 +1,37 @@
+package app.blockblast;
+
+import data_access.blockblast.FileReplayDataAccess;
+import entity.blockblast.Replay;
+import use_case.blockblast.ReplayVerifier;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Re-plays every recorded Block Blast game in a directory and reports the ones whose moves
+ * or score do not check out.
+ * Usage: ReplayVerifierMain [replayDir]
+ */
+public class ReplayVerifierMain {
+
+    public static void main(String[] args) {
+        String dir = args.length > 0 ? args[0] : "replays";
+        List<Replay> replays = new FileReplayDataAccess(Paths.get(dir)).loadAll();
+
+        long start = System.nanoTime();
+        ThreadLocal<ReplayVerifier> verifiers = ThreadLocal.withInitial(ReplayVerifier::new);
+        long invalid = replays.parallelStream()
+                .filter(replay -> {
+                    ReplayVerifier.Result result = verifiers.get().verify(replay);
+                    if (!result.isValid()) {
+                        System.out.printf("seed %x: %s%n", replay.getSeed(), result.getMessage());
+                    }
+                    return !result.isValid();
+                })
+                .count();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d replays verified in %.2f s (%.0f/s), %d invalid%n",
+                replays.size(), seconds, replays.size() / Math.max(seconds, 1e-9), invalid);
+    }
+}
@@ -0,0 +1,84 @@
+package data_access.blockblast;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue of three-long records, for many producers and one consumer.
+ *
+ * Each slot carries a sequence number: a producer claims a position by CAS on the tail, fills
+ * the slot and then publishes it by advancing the slot's sequence; the consumer frees a slot
+ * by advancing it again by one lap. A full ring fails the offer instead of waiting.
+ */
+final class EventRing {
+    interface Sink {
+        void accept(long a, long b, long c);
+    }
+
+    private final int mask;
+    private final long[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    EventRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.slots = new long[capacity * 3];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /** Returns false without blocking if the ring is full. */
+    boolean offer(long a, long b, long c) {
+        long pos = tail.get();
+        int i;
+        while (true) {
+            i = (int) (pos & mask);
+            long diff = sequences.get(i) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) break;
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+        slots[i * 3] = a;
+        slots[i * 3 + 1] = b;
+        slots[i * 3 + 2] = c;
+        sequences.lazySet(i, pos + 1);
+        return true;
+    }
+
+    /** Hands up to max published records to the sink, in order. Only one thread may drain. */
+    int drain(Sink sink, int max) {
+        long pos = head;
+        int n = 0;
+        for (; n < max; n++, pos++) {
+            int i = (int) (pos & mask);
+            if (sequences.get(i) != pos + 1) break;
+            long a = slots[i * 3];
+            long b = slots[i * 3 + 1];
+            long c = slots[i * 3 + 2];
+            sequences.lazySet(i, pos + mask + 1);
+            head = pos + 1;
+            sink.accept(a, b, c);
+        }
+        return n;
+    }
+
+    /** Records claimed but not yet drained; approximate while producers are running. */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,223 @@
+package data_access.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.Challenge;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceColor;
+import entity.blockblast.PieceLibrary;
+import entity.blockblast.Position;
+import entity.blockblast.Replay;
+import entity.blockblast.Shape;
+import use_case.blockblast.ChallengePackGateway;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes challenge packs as text.
+ *
+ * Each challenge is a header line {@code challenge <name> [tray <n>]}, the starting board
+ * drawn with '#' and '.', a line {@code pieces <name> ...} naming its pieces in dealing order
+ * by their PieceLibrary names, and optionally {@code solution <slot>,<row>,<col> ...}. Lines
+ * starting with '#' between challenges are comments; the default tray size is 3.
+ */
+public class FileChallengePackDataAccess implements ChallengePackGateway {
+    static final int DEFAULT_TRAY_SIZE = 3;
+    private static final PieceColor[] COLORS = PieceColor.values();
+    private static final PieceColor PRESET_COLOR = PieceColor.PURPLE;
+    private static final Shape CELL = Shape.of(List.of(new Position(0, 0)));
+
+    private final Path file;
+    private final PieceLibrary library;
+
+    public FileChallengePackDataAccess(Path file) {
+        this(file, PieceLibrary.standard());
+    }
+
+    public FileChallengePackDataAccess(Path file, PieceLibrary library) {
+        this.file = file;
+        this.library = library;
+    }
+
+    @Override
+    public List<Challenge> load() {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader, library);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load challenge pack " + file, e);
+        }
+    }
+
+    @Override
+    public void save(List<Challenge> challenges) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                format(challenges, library, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save challenge pack " + file, e);
+        }
+    }
+
+    public static List<Challenge> parse(Reader reader, PieceLibrary library) throws IOException {
+        List<Challenge> challenges = new ArrayList<>();
+        BufferedReader in = new BufferedReader(reader);
+        String header = null;
+        List<String> drawing = new ArrayList<>();
+        Challenge pending = null;
+        int lineNumber = 0;
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty()) continue;
+            if (header != null) {
+                // Inside a challenge '#' is a cell, so comments only appear between challenges.
+                if (trimmed.startsWith("pieces ")) {
+                    pending = challenge(header, drawing, trimmed, library);
+                    header = null;
+                } else if (trimmed.startsWith("challenge ")) {
+                    throw error(lineNumber, "challenge has no pieces line");
+                } else {
+                    drawing.add(trimmed);
+                }
+            } else if (trimmed.startsWith("challenge ")) {
+                if (pending != null) challenges.add(pending);
+                pending = null;
+                header = trimmed;
+                drawing.clear();
+            } else if (trimmed.startsWith("solution ")) {
+                if (pending == null) throw error(lineNumber, "solution line without a challenge");
+                challenges.add(pending.withSolution(solution(pending, trimmed)));
+                pending = null;
+            } else if (!trimmed.startsWith("#")) {
+                throw error(lineNumber, "expected a challenge header");
+            }
+        }
+        if (header != null) throw error(lineNumber, "challenge has no pieces line");
+        if (pending != null) challenges.add(pending);
+        return challenges;
+    }
+
+    private static IllegalArgumentException error(int lineNumber, String message) {
+        return new IllegalArgumentException("Line " + lineNumber + ": " + message);
+    }
+
+    private static Challenge challenge(String header, List<String> drawing, String piecesLine, PieceLibrary library) {
+        String[] fields = header.split("\\s+");
+        if (fields.length != 2 && !(fields.length == 4 && fields[2].equals("tray"))) {
+            throw new IllegalArgumentException("Bad challenge header: " + header);
+        }
+        String name = fields[1];
+        int traySize = DEFAULT_TRAY_SIZE;
+        if (fields.length == 4) {
+            try {
+                traySize = Integer.parseInt(fields[3]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Bad tray size for challenge " + name + ": " + fields[3]);
+            }
+        }
+        if (drawing.isEmpty()) {
+            throw new IllegalArgumentException("Challenge " + name + " has no board");
+        }
+
+        int cols = drawing.get(0).length();
+        Board board = new Board(drawing.size(), cols);
+        for (int r = 0; r < drawing.size(); r++) {
+            String row = drawing.get(r);
+            if (row.length() != cols) {
+                throw new IllegalArgumentException("Board rows of challenge " + name + " differ in length");
+            }
+            for (int c = 0; c < cols; c++) {
+                char ch = row.charAt(c);
+                if (ch == '#') {
+                    board.place(CELL.piece(PRESET_COLOR), r, c);
+                } else if (ch != '.') {
+                    throw new IllegalArgumentException("Bad cell '" + ch + "' in challenge " + name);
+                }
+            }
+        }
+        if (board.clearFullLines() > 0) {
+            throw new IllegalArgumentException("Challenge " + name + " starts with a full line");
+        }
+
+        String[] names = piecesLine.split("\\s+");
+        List<Piece> pieces = new ArrayList<>(names.length - 1);
+        for (int i = 1; i < names.length; i++) {
+            int index = library.indexOf(names[i]);
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown piece " + names[i] + " in challenge " + name);
+            }
+            pieces.add(library.getShapes().get(index).piece(COLORS[(i - 1) % COLORS.length]));
+        }
+        return new Challenge(name, board, pieces, traySize);
+    }
+
+    private static int[] solution(Challenge challenge, String line) {
+        String[] moves = line.split("\\s+");
+        int[] packed = new int[moves.length - 1];
+        for (int i = 1; i < moves.length; i++) {
+            String[] parts = moves[i].split(",");
+            try {
+                if (parts.length != 3) throw new NumberFormatException();
+                int slot = Integer.parseInt(parts[0]);
+                int row = Integer.parseInt(parts[1]);
+                int col = Integer.parseInt(parts[2]);
+                if (slot < 0 || slot >= challenge.getTraySize() || row < 0 || row >= challenge.getRows()
+                        || col < 0 || col >= challenge.getCols()) {
+                    throw new NumberFormatException();
+                }
+                packed[i - 1] = Replay.packMove(challenge.getRows(), challenge.getCols(), slot, row, col);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Bad move " + moves[i] + " in challenge " + challenge.getName());
+            }
+        }
+        return packed;
+    }
+
+    public static void format(List<Challenge> challenges, PieceLibrary library, Writer out) throws IOException {
+        for (Challenge challenge : challenges) {
+            int rows = challenge.getRows();
+            int cols = challenge.getCols();
+            out.write("challenge " + challenge.getName());
+            if (challenge.getTraySize() != DEFAULT_TRAY_SIZE) out.write(" tray " + challenge.getTraySize());
+            out.write('\n');
+            Board board = challenge.copyBoardWithoutColors();
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    out.write(board.isFilled(r, c) ? '#' : '.');
+                }
+                out.write('\n');
+            }
+            out.write("pieces");
+            for (Piece piece : challenge.getPieces()) {
+                int index = library.getShapes().indexOf(piece.getShape());
+                if (index < 0) {
+                    throw new IllegalArgumentException(
+                            "Challenge " + challenge.getName() + " has a piece outside the library");
+                }
+                out.write(" " + library.getName(index));
+            }
+            out.write('\n');
+            if (challenge.hasSolution()) {
+                out.write("solution");
+                for (int move : challenge.getSolution()) {
+                    int col = move % cols;
+                    int row = move / cols % rows;
+                    out.write(" " + move / cols / rows + "," + row + "," + col);
+                }
+                out.write('\n');
+            }
+            out.write('\n');
+        }
+    }
+}
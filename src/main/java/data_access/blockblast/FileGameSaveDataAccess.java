@@ -0,0 +1,286 @@
+package data_access.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceColor;
+import entity.blockblast.Position;
+import entity.blockblast.Shape;
+import use_case.blockblast.GameSaveGateway;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saves Block Blast games as small binary snapshots, one file per save id.
+ *
+ * Format: "BBS", version byte, rows, cols, tray size, flags (bit 0: game over), varint score,
+ * then a bit stream: one occupancy bit per cell row by row, a 3-bit colour per filled cell,
+ * and per tray slot a presence bit followed by the piece's height and width (3 bits each),
+ * row and column offset (4 bits each), one bit per cell of its bounding box and a 3-bit
+ * colour. A half-full 8x8 board takes about 35 bytes.
+ *
+ * save() encodes on the caller's thread and writes on a background thread, through a
+ * temporary file that is atomically moved into place. Repeated saves of the same id that
+ * have not been written yet are coalesced into the latest one. Games are only read when
+ * loaded, so startup cost does not grow with the number of saves.
+ */
+public class FileGameSaveDataAccess implements GameSaveGateway {
+    static final int VERSION = 1;
+    private static final String EXTENSION = ".bbs";
+    private static final Shape CELL = Shape.of(List.of(new Position(0, 0)));
+
+    private final Path directory;
+    private final Map<String, byte[]> pending = new ConcurrentHashMap<>();
+    // One writer thread that exits when idle, so it never keeps the JVM alive.
+    private final ThreadPoolExecutor writer = new ThreadPoolExecutor(
+            0, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> new Thread(r, "blockblast-save-writer"));
+
+    public FileGameSaveDataAccess(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void save(String saveId, GameState state) {
+        byte[] bytes = encode(state);
+        if (pending.put(saveId, bytes) == null) {
+            writer.execute(() -> write(saveId));
+        }
+    }
+
+    @Override
+    public GameState load(String saveId) {
+        byte[] bytes = pending.get(saveId);
+        try {
+            if (bytes == null) {
+                Path file = fileFor(saveId);
+                if (!Files.exists(file)) return null;
+                bytes = Files.readAllBytes(file);
+            }
+            return decode(bytes);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not load saved game " + saveId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Blocks until every save requested so far has been written. */
+    public void flush() throws InterruptedException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void write(String saveId) {
+        byte[] bytes = pending.remove(saveId);
+        if (bytes == null) return;
+        try {
+            Files.createDirectories(directory);
+            Path file = fileFor(saveId);
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(tmp, bytes);
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not save game " + saveId + ": " + e.getMessage());
+        }
+    }
+
+    /** Save ids are used as file names when they are plain, and hex-encoded otherwise. */
+    private Path fileFor(String saveId) {
+        String name = saveId.matches("[A-Za-z0-9_-]{1,64}") ? saveId : hex(saveId);
+        return directory.resolve(name + EXTENSION);
+    }
+
+    private static String hex(String s) {
+        StringBuilder sb = new StringBuilder("x");
+        for (byte b : s.getBytes(StandardCharsets.UTF_8)) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    public static byte[] encode(GameState state) {
+        Board board = state.getBoard();
+        Piece[] tray = state.getCurrentPieces();
+        int rows = board.getRows();
+        int cols = board.getCols();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(48);
+        out.write('B');
+        out.write('B');
+        out.write('S');
+        out.write(VERSION);
+        out.write(rows);
+        out.write(cols);
+        out.write(tray.length);
+        out.write(state.isGameOver() ? 1 : 0);
+        Varint.write(out, state.getScore());
+
+        BitWriter bits = new BitWriter(out);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                bits.write(board.isFilled(r, c) ? 1 : 0, 1);
+            }
+        }
+        PieceColor[][] grid = board.getGrid();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (board.isFilled(r, c)) {
+                    bits.write(grid == null || grid[r][c] == null ? 0 : grid[r][c].ordinal(), 3);
+                }
+            }
+        }
+        for (Piece piece : tray) {
+            bits.write(piece == null ? 0 : 1, 1);
+            if (piece != null) writePiece(bits, piece);
+        }
+        bits.flush();
+        return out.toByteArray();
+    }
+
+    public static GameState decode(byte[] data) {
+        if (data.length < 9 || data[0] != 'B' || data[1] != 'B' || data[2] != 'S') {
+            throw new IllegalArgumentException("Not a saved game");
+        }
+        if (data[3] != VERSION) {
+            throw new IllegalArgumentException("Unsupported save version " + data[3]);
+        }
+        int rows = data[4] & 0xFF;
+        int cols = data[5] & 0xFF;
+        int traySize = data[6] & 0xFF;
+        boolean gameOver = (data[7] & 1) != 0;
+        int[] pos = {8};
+        int score = Varint.read(data, pos);
+
+        BitReader bits = new BitReader(data, pos[0]);
+        Board board = new Board(rows, cols);
+        boolean[] filled = new boolean[rows * cols];
+        for (int i = 0; i < filled.length; i++) {
+            filled[i] = bits.read(1) == 1;
+        }
+        for (int i = 0; i < filled.length; i++) {
+            if (filled[i]) {
+                board.place(CELL.piece(readColor(bits)), i / cols, i % cols);
+            }
+        }
+        Piece[] tray = new Piece[traySize];
+        for (int i = 0; i < traySize; i++) {
+            if (bits.read(1) == 1) tray[i] = readPiece(bits);
+        }
+        return new GameState(board, tray, score, gameOver);
+    }
+
+    private static void writePiece(BitWriter bits, Piece piece) {
+        int minRow = Integer.MAX_VALUE, minCol = Integer.MAX_VALUE;
+        for (Position p : piece.getCells()) {
+            minRow = Math.min(minRow, p.row);
+            minCol = Math.min(minCol, p.col);
+        }
+        int height = piece.getShape().getHeight();
+        int width = piece.getShape().getWidth();
+        if (height > 8 || width > 8 || minRow < -8 || minRow > 7 || minCol < -8 || minCol > 7) {
+            throw new IllegalArgumentException("Piece too large to save");
+        }
+        bits.write(height - 1, 3);
+        bits.write(width - 1, 3);
+        bits.write(minRow & 0xF, 4);
+        bits.write(minCol & 0xF, 4);
+        long mask = 0L;
+        for (Position p : piece.getCells()) {
+            mask |= 1L << ((p.row - minRow) * width + (p.col - minCol));
+        }
+        for (int i = 0; i < height * width; i++) {
+            bits.write((int) (mask >>> i) & 1, 1);
+        }
+        bits.write(piece.getColor().ordinal(), 3);
+    }
+
+    private static Piece readPiece(BitReader bits) {
+        int height = bits.read(3) + 1;
+        int width = bits.read(3) + 1;
+        int minRow = (bits.read(4) << 28) >> 28;
+        int minCol = (bits.read(4) << 28) >> 28;
+        List<Position> cells = new ArrayList<>();
+        for (int i = 0; i < height * width; i++) {
+            if (bits.read(1) == 1) {
+                cells.add(new Position(minRow + i / width, minCol + i % width));
+            }
+        }
+        if (cells.isEmpty()) throw new IllegalArgumentException("Empty piece in save");
+        return Shape.of(cells).piece(readColor(bits));
+    }
+
+    private static PieceColor readColor(BitReader bits) {
+        PieceColor[] colors = PieceColor.values();
+        int ordinal = bits.read(3);
+        if (ordinal >= colors.length) throw new IllegalArgumentException("Unknown colour in save");
+        return colors[ordinal];
+    }
+
+    private static final class BitWriter {
+        private final ByteArrayOutputStream out;
+        private int buffer;
+        private int count;
+
+        BitWriter(ByteArrayOutputStream out) {
+            this.out = out;
+        }
+
+        void write(int value, int width) {
+            for (int i = width - 1; i >= 0; i--) {
+                buffer = (buffer << 1) | ((value >>> i) & 1);
+                if (++count == 8) {
+                    out.write(buffer);
+                    buffer = 0;
+                    count = 0;
+                }
+            }
+        }
+
+        void flush() {
+            if (count > 0) {
+                out.write(buffer << (8 - count));
+                buffer = 0;
+                count = 0;
+            }
+        }
+    }
+
+    private static final class BitReader {
+        private final byte[] data;
+        private int bit;
+
+        BitReader(byte[] data, int offset) {
+            this.data = data;
+            this.bit = offset * 8;
+        }
+
+        int read(int width) {
+            int value = 0;
+            for (int i = 0; i < width; i++, bit++) {
+                if (bit >> 3 >= data.length) throw new IllegalArgumentException("Truncated save");
+                value = (value << 1) | ((data[bit >> 3] >>> (7 - (bit & 7))) & 1);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package data_access.blockblast;
+
+import use_case.blockblast.HeatmapGateway;
+import use_case.blockblast.HeatmapSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Stores one placement heatmap per board size as a small binary file.
+ *
+ * Format: "BBH", version byte, rows, cols, then varints for the game count, the placement
+ * count of every cell row by row, and the clear counts of every row and then every column.
+ * Files are replaced atomically, so a flush interrupted by exit leaves the previous totals.
+ */
+public class FileHeatmapDataAccess implements HeatmapGateway {
+    static final int VERSION = 1;
+
+    private final Path directory;
+
+    public FileHeatmapDataAccess(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public synchronized void save(HeatmapSnapshot snapshot) {
+        try {
+            Files.createDirectories(directory);
+            Path file = fileFor(snapshot.getRows(), snapshot.getCols());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(tmp, encode(snapshot));
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save heatmap", e);
+        }
+    }
+
+    @Override
+    public HeatmapSnapshot load(int rows, int cols) {
+        Path file = fileFor(rows, cols);
+        if (!Files.exists(file)) return null;
+        try {
+            HeatmapSnapshot snapshot = decode(Files.readAllBytes(file));
+            return snapshot.getRows() == rows && snapshot.getCols() == cols ? snapshot : null;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not load heatmap " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private Path fileFor(int rows, int cols) {
+        return directory.resolve("heatmap-" + rows + "x" + cols + ".bbh");
+    }
+
+    public static byte[] encode(HeatmapSnapshot snapshot) {
+        int rows = snapshot.getRows();
+        int cols = snapshot.getCols();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + 2 * rows * cols);
+        out.write('B');
+        out.write('B');
+        out.write('H');
+        out.write(VERSION);
+        out.write(rows);
+        out.write(cols);
+        Varint.writeLong(out, snapshot.getGames());
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                Varint.writeLong(out, snapshot.getPlacements(r, c));
+            }
+        }
+        for (int r = 0; r < rows; r++) {
+            Varint.writeLong(out, snapshot.getRowClears(r));
+        }
+        for (int c = 0; c < cols; c++) {
+            Varint.writeLong(out, snapshot.getColClears(c));
+        }
+        return out.toByteArray();
+    }
+
+    public static HeatmapSnapshot decode(byte[] data) {
+        if (data.length < 7 || data[0] != 'B' || data[1] != 'B' || data[2] != 'H') {
+            throw new IllegalArgumentException("Not a heatmap");
+        }
+        if (data[3] != VERSION) {
+            throw new IllegalArgumentException("Unsupported heatmap version " + data[3]);
+        }
+        int rows = data[4] & 0xFF;
+        int cols = data[5] & 0xFF;
+        int[] pos = {6};
+        long games = Varint.readLong(data, pos);
+        long[] placements = new long[rows * cols];
+        for (int i = 0; i < placements.length; i++) {
+            placements[i] = Varint.readLong(data, pos);
+        }
+        long[] rowClears = new long[rows];
+        for (int r = 0; r < rows; r++) {
+            rowClears[r] = Varint.readLong(data, pos);
+        }
+        long[] colClears = new long[cols];
+        for (int c = 0; c < cols; c++) {
+            colClears[c] = Varint.readLong(data, pos);
+        }
+        return new HeatmapSnapshot(rows, cols, games, placements, rowClears, colClears);
+    }
+}
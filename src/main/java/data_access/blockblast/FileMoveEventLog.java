@@ -0,0 +1,240 @@
+package data_access.blockblast;
+
+import use_case.blockblast.MoveEvent;
+import use_case.blockblast.MoveEventLog;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes move events to rotating segment files in the background.
+ *
+ * append() only packs the event into a lock-free ring buffer; a daemon thread drains it to
+ * {@code events-NNNNNN.bbe} files. A segment is "BBE" and a version byte followed by fixed
+ * 24-byte records: timestamp (8), shape box mask (8), kind, row, column and lines cleared
+ * (1 each) and score (4), big-endian. A segment that reaches segmentBytes is closed and the
+ * next one started; only the newest maxSegments are kept.
+ *
+ * When the writer falls behind and the ring is full, append() waits up to maxWaitNanos for
+ * room and then drops the event. The default is not to wait at all. Dropped events, including
+ * any lost to a failed write, are counted.
+ */
+public class FileMoveEventLog implements MoveEventLog, AutoCloseable {
+    static final int VERSION = 1;
+    static final int RECORD_BYTES = 24;
+    private static final int HEADER_BYTES = 4;
+    private static final int DRAIN_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int maxSegments;
+    private final long maxWaitNanos;
+    private final EventRing ring;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final Thread writer;
+    // Appends in progress, with CLOSED set once closed; the writer stops only when it reads
+    // exactly CLOSED, so every event an append accepted has been offered before its last drain.
+    private final AtomicInteger appenders = new AtomicInteger();
+
+    private DataOutputStream out;
+    private long segment;
+    private long segmentSize;
+
+    public FileMoveEventLog(Path directory) {
+        this(directory, 4096, 1 << 20, 16, 0);
+    }
+
+    public FileMoveEventLog(Path directory, int capacity, long segmentBytes, int maxSegments, long maxWaitNanos) {
+        if (segmentBytes < HEADER_BYTES + RECORD_BYTES || maxSegments < 1 || maxWaitNanos < 0) {
+            throw new IllegalArgumentException("Invalid event log settings");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        this.maxWaitNanos = maxWaitNanos;
+        this.ring = new EventRing(capacity);
+        this.segment = lastSegment(directory) + 1;
+        this.writer = new Thread(this::run, "blockblast-event-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public boolean append(int kind, long timestamp, long shapeMask, int row, int col, int linesCleared, int score) {
+        long packed = (long) (kind & 0xFF) << 56 | (long) (row & 0xFF) << 48 | (long) (col & 0xFF) << 40
+                | (long) (linesCleared & 0xFF) << 32 | (score & 0xFFFFFFFFL);
+        int state;
+        do {
+            state = appenders.get();
+            if (state < 0) {
+                dropped.increment();
+                return false;
+            }
+        } while (!appenders.compareAndSet(state, state + 1));
+        try {
+            if (ring.offer(timestamp, shapeMask, packed)) return true;
+            if (maxWaitNanos > 0) {
+                long deadline = System.nanoTime() + maxWaitNanos;
+                LockSupport.unpark(writer);
+                while (System.nanoTime() - deadline < 0) {
+                    Thread.onSpinWait();
+                    if (ring.offer(timestamp, shapeMask, packed)) return true;
+                }
+            }
+            dropped.increment();
+            return false;
+        } finally {
+            appenders.decrementAndGet();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /** Events accepted but not yet written. */
+    public int getPending() {
+        return ring.size();
+    }
+
+    /**
+     * Stops accepting events, writes everything already accepted, including events of appends
+     * still in progress, and closes the current segment.
+     * If the calling thread is interrupted while waiting, it returns early with the flag restored
+     * and the writer finishes in the background.
+     */
+    @Override
+    public void close() {
+        appenders.getAndUpdate(state -> state | CLOSED);
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            boolean stopping = appenders.get() == CLOSED;
+            int n = ring.drain(this::write, DRAIN_BATCH);
+            if (n > 0) continue;
+            flushSegment();
+            if (stopping) break;
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        closeSegment();
+    }
+
+    private void write(long timestamp, long shapeMask, long packed) {
+        try {
+            if (out == null || segmentSize + RECORD_BYTES > segmentBytes) openNextSegment();
+            out.writeLong(timestamp);
+            out.writeLong(shapeMask);
+            out.writeInt((int) (packed >>> 32));
+            out.writeInt((int) packed);
+            segmentSize += RECORD_BYTES;
+            written.increment();
+        } catch (IOException e) {
+            // Start a fresh segment on the next event rather than appending after a partial record.
+            System.err.println("Could not write move event: " + e.getMessage());
+            closeSegment();
+            dropped.increment();
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        closeSegment();
+        Files.createDirectories(directory);
+        long index = segment++;
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(segmentFile(index)), 1 << 16));
+        out.write(new byte[] {'B', 'B', 'E', VERSION});
+        segmentSize = HEADER_BYTES;
+        for (long old = index - maxSegments; old >= 0 && Files.deleteIfExists(segmentFile(old)); old--) {
+            // Older segments were deleted by earlier rotations.
+        }
+    }
+
+    private void flushSegment() {
+        if (out == null) return;
+        try {
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Could not flush move events: " + e.getMessage());
+            closeSegment();
+        }
+    }
+
+    private void closeSegment() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException e) {
+            System.err.println("Could not close move event segment: " + e.getMessage());
+        }
+        out = null;
+    }
+
+    private Path segmentFile(long index) {
+        return directory.resolve(String.format("events-%06d.bbe", index));
+    }
+
+    private static long lastSegment(Path directory) {
+        long last = -1;
+        if (!Files.isDirectory(directory)) return last;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "events-*.bbe")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    last = Math.max(last, Long.parseLong(name.substring(7, name.length() - 4)));
+                } catch (NumberFormatException e) {
+                    // Not one of ours.
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not list move event segments: " + e.getMessage());
+        }
+        return last;
+    }
+
+    /** Reads one segment back; a trailing partial record from an interrupted write is ignored. */
+    public static List<MoveEvent> readSegment(Path file) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (data.remaining() < HEADER_BYTES || data.get() != 'B' || data.get() != 'B' || data.get() != 'E') {
+            throw new IllegalArgumentException("Not a move event segment: " + file);
+        }
+        int version = data.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported move event version " + version);
+        }
+        List<MoveEvent> events = new ArrayList<>(data.remaining() / RECORD_BYTES);
+        while (data.remaining() >= RECORD_BYTES) {
+            long timestamp = data.getLong();
+            long shapeMask = data.getLong();
+            int kind = data.get() & 0xFF;
+            int row = data.get();
+            int col = data.get();
+            int lines = data.get() & 0xFF;
+            events.add(new MoveEvent(kind, timestamp, shapeMask, row, col, lines, data.getInt()));
+        }
+        return events;
+    }
+}
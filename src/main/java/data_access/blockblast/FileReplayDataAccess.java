@@ -0,0 +1,105 @@
+package data_access.blockblast;
+
+import entity.blockblast.Replay;
+import use_case.blockblast.ReplayGateway;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores replays as small binary files, one per game, in a directory.
+ *
+ * Format: "BBR", version byte, rows, cols, tray size, 8-byte seed, then varints for the deal
+ * mode, the final score, the move count and each packed move. An 8x8 game costs 2 bytes per
+ * move. Version 1 files have no deal mode and were all dealt with mode 0.
+ */
+public class FileReplayDataAccess implements ReplayGateway {
+    static final int VERSION = 2;
+    private static final String EXTENSION = ".bbr";
+
+    private final Path directory;
+
+    public FileReplayDataAccess(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void save(Replay replay) {
+        try {
+            Files.createDirectories(directory);
+            String name = Long.toHexString(replay.getSeed()) + "-" + System.currentTimeMillis();
+            Path tmp = directory.resolve(name + ".tmp");
+            Files.write(tmp, encode(replay));
+            Files.move(tmp, directory.resolve(name + EXTENSION), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save replay", e);
+        }
+    }
+
+    @Override
+    public List<Replay> loadAll() {
+        List<Replay> replays = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return replays;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                replays.add(decode(Files.readAllBytes(file)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load replays from " + directory, e);
+        }
+        return replays;
+    }
+
+    public static byte[] encode(Replay replay) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(24 + 2 * replay.getMoveCount());
+        out.write('B');
+        out.write('B');
+        out.write('R');
+        out.write(VERSION);
+        out.write(replay.getRows());
+        out.write(replay.getCols());
+        out.write(replay.getTraySize());
+        long seed = replay.getSeed();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (seed >>> shift));
+        }
+        Varint.write(out, replay.getDealMode());
+        Varint.write(out, replay.getFinalScore());
+        Varint.write(out, replay.getMoveCount());
+        for (int i = 0; i < replay.getMoveCount(); i++) {
+            Varint.write(out, replay.getMove(i));
+        }
+        return out.toByteArray();
+    }
+
+    public static Replay decode(byte[] data) {
+        if (data.length < 15 || data[0] != 'B' || data[1] != 'B' || data[2] != 'R') {
+            throw new IllegalArgumentException("Not a replay file");
+        }
+        if (data[3] != 1 && data[3] != VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version " + data[3]);
+        }
+        int rows = data[4] & 0xFF;
+        int cols = data[5] & 0xFF;
+        int traySize = data[6] & 0xFF;
+        long seed = 0;
+        for (int i = 7; i < 15; i++) {
+            seed = (seed << 8) | (data[i] & 0xFF);
+        }
+        int[] pos = {15};
+        int dealMode = data[3] == 1 ? 0 : Varint.read(data, pos);
+        int finalScore = Varint.read(data, pos);
+        int[] moves = new int[Varint.read(data, pos)];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = Varint.read(data, pos);
+        }
+        return new Replay(rows, cols, traySize, seed, dealMode, moves, finalScore);
+    }
+}
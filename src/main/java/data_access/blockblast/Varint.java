@@ -0,0 +1,48 @@
+package data_access.blockblast;
+
+import java.io.ByteArrayOutputStream;
+
+/** LEB128 encoding of non-negative ints and longs, shared by the binary Block Blast formats. */
+final class Varint {
+    private Varint() {
+    }
+
+    static void write(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /** Reads the varint at {@code pos[0]} and advances it. */
+    static int read(byte[] data, int[] pos) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (pos[0] >= data.length) throw new IllegalArgumentException("Truncated data");
+            int b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    static void writeLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readLong(byte[] data, int[] pos) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            if (pos[0] >= data.length) throw new IllegalArgumentException("Truncated data");
+            int b = data[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,115 @@
+package data_access.wordle;
+
+import use_case.wordle.FeedbackMatrix;
+import use_case.wordle.FeedbackMatrixGateway;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Keeps the Wordle feedback matrix in a file and memory-maps it read-only, so every session,
+ * and every process on the machine, shares one copy through the page cache.
+ *
+ * Format: "WFM", version byte, guess count and answer count (ints), the fingerprint of the
+ * word lists (long), then one feedback code byte per (guess, answer) pair, row by row. A file
+ * that is missing, unreadable or built from other word lists is rebuilt in parallel and
+ * replaced atomically. The matrix is loaded once per instance and then reused.
+ */
+public class FileFeedbackMatrixDataAccess implements FeedbackMatrixGateway {
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 20;
+    public static final Path DEFAULT_FILE = Paths.get("cache", "wordle-feedback.wfm");
+
+    private final Path file;
+    private FeedbackMatrix loaded;
+
+    public FileFeedbackMatrixDataAccess(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized FeedbackMatrix load(List<String> guesses, List<String> answers) {
+        if (loaded != null && loaded.getGuesses().equals(guesses) && loaded.getAnswers().equals(answers)) {
+            return loaded;
+        }
+        long fingerprint = FeedbackMatrix.fingerprint(guesses, answers);
+        try {
+            ByteBuffer codes = map(guesses.size(), answers.size(), fingerprint);
+            if (codes == null) {
+                build(guesses, answers, fingerprint);
+                codes = map(guesses.size(), answers.size(), fingerprint);
+                if (codes == null) throw new IOException("rebuilt matrix does not match the word lists");
+            }
+            loaded = new FeedbackMatrix(guesses, answers, codes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load feedback matrix " + file, e);
+        }
+        return loaded;
+    }
+
+    /** Whether the file holds a matrix for exactly these word lists. */
+    public boolean isCurrent(List<String> guesses, List<String> answers) throws IOException {
+        return map(guesses.size(), answers.size(), FeedbackMatrix.fingerprint(guesses, answers)) != null;
+    }
+
+    /** Computes the matrix for the word lists and writes it, whatever the file holds now. */
+    public void build(List<String> guesses, List<String> answers) throws IOException {
+        build(guesses, answers, FeedbackMatrix.fingerprint(guesses, answers));
+    }
+
+    private void build(List<String> guesses, List<String> answers, long fingerprint) throws IOException {
+        byte[] codes = FeedbackMatrix.computeCodes(guesses, answers);
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        // A temporary file of its own, so processes building the same matrix do not write into each other's.
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(os)) {
+                out.writeBytes("WFM");
+                out.writeByte(VERSION);
+                out.writeInt(guesses.size());
+                out.writeInt(answers.size());
+                out.writeLong(fingerprint);
+                out.write(codes);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /** Maps the codes of the file, or returns null if it is missing or not for these lists. */
+    private ByteBuffer map(int guessCount, int answerCount, long fingerprint) throws IOException {
+        if (!Files.isRegularFile(file)) return null;
+        long size = (long) guessCount * answerCount;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_SIZE + size) return null;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) { }
+            header.flip();
+            if (header.remaining() != HEADER_SIZE || header.get() != 'W' || header.get() != 'F'
+                    || header.get() != 'M' || header.get() != VERSION || header.getInt() != guessCount
+                    || header.getInt() != answerCount || header.getLong() != fingerprint) {
+                return null;
+            }
+            // The mapping stays valid after the channel is closed.
+            return channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, size);
+        }
+    }
+}
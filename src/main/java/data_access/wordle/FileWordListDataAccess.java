@@ -1,5 +1,7 @@
 package data_access.wordle;
 
+import entity.wordle.AnswerIndex;
+import entity.wordle.PackedWords;
 import use_case.wordle.WordListGateway;
 
 import java.io.BufferedReader;
@@ -10,16 +12,24 @@ import java.util.*;
 
 /**
  * Loads words from resources/wordlists/valid_words.txt and answer_list.txt
+ *
+ * Valid words are kept packed in a sorted int[] (see PackedWords): about 60 KB for the whole
+ * list, and isValidWord is a binary search over it that encodes the probe without allocating.
+ * The same list is what getAllValidWords returns, so the feedback matrix's rows share it.
  */
 public class FileWordListDataAccess implements WordListGateway {
-    private final Set<String> validWords = new HashSet<>();
+    private final PackedWords validWords;
     private final List<String> answers = new ArrayList<>();
     private final Random rng = new Random();
+    private final AnswerIndex answerIndex;
 
     public FileWordListDataAccess() {
-        loadResource("/wordlists/valid_words.txt", validWords, false);
+        List<String> words = new ArrayList<>();
+        loadResource("/wordlists/valid_words.txt", words, false);
+        validWords = PackedWords.of(words);
         loadResource("/wordlists/answer_list.txt", answers, true);
         if (answers.isEmpty()) throw new IllegalStateException("No answers loaded (resources/wordlists/answer_list.txt)");
+        answerIndex = new AnswerIndex(answers);
     }
 
     private void loadResource(String path, Collection<String> out, boolean preserveOrder) {
@@ -42,7 +52,7 @@ public class FileWordListDataAccess implements WordListGateway {
     @Override
     public boolean isValidWord(String word) {
         if (word == null) return false;
-        return validWords.contains(word.toLowerCase());
+        return validWords.find(word) >= 0;
     }
 
     @Override
@@ -54,4 +64,16 @@ public class FileWordListDataAccess implements WordListGateway {
     public List<String> getAllAnswers() {
         return Collections.unmodifiableList(answers);
     }
+
+    /** Candidate bitsets over getAllAnswers(), shared by every game. */
+    @Override
+    public AnswerIndex getAnswerIndex() {
+        return answerIndex;
+    }
+
+    /** Every valid guess, in alphabetical order, decoded as it is read. */
+    @Override
+    public List<String> getAllValidWords() {
+        return validWords;
+    }
 }
@@ -1,35 +1,215 @@
 package entity.blockblast;
 
+import java.util.Arrays;
+
+/**
+ * Block Blast board backed by a bitboard.
+ * Each row is a run of {@code cols} bits; as many whole rows as fit are packed into
+ * each long, so an 8x8 board is a single long and larger boards use several words.
+ * Placement checks are lookups into the precomputed PlacementTable of the piece's shape.
+ * The colour grid is a side array that is only kept for rendering; copies made for search
+ * with {@link #copyWithoutColors()} skip it entirely.
+ * Boards are limited to 64x64 so that a set of rows or columns also fits in one long.
+ * Fill counters per row and column, and masks of the lines they show full, are kept up to
+ * date on every change, so finding full lines never scans the board.
+ * Readers on other threads take a {@link #snapshot()} rather than reading the live grid.
+ */
 public class Board {
     private final int rows;
     private final int cols;
+    private final long fullRow;
+    private final int[] rowWord;
+    private final int[] rowShift;
+    private final BoardGeometry geometry;
+    private final long[] words;
     private final PieceColor[][] grid;
+    private final long allRows;
+    private final byte[] rowFill;
+    private final byte[] colFill;
+    private long fullRows;
+    private long fullCols;
+    private long lastClearedRows;
+    private long lastClearedCols;
+    private byte[] clearedColors = new byte[0];
+    private int clearedColorCount;
+    private int version;
+    private BoardSnapshot snapshot;
+    // Rows whose colours changed since the last snapshot.
+    private long dirtyRows;
 
     public Board(int rows, int cols) {
+        if (rows < 1 || cols < 1 || rows > Long.SIZE || cols > Long.SIZE) {
+            throw new IllegalArgumentException("Board must be between 1x1 and " + Long.SIZE + "x" + Long.SIZE);
+        }
         this.rows = rows;
         this.cols = cols;
+        this.geometry = BoardGeometry.of(rows, cols);
+        this.fullRow = geometry.fullRow;
+        this.rowWord = geometry.rowWord;
+        this.rowShift = geometry.rowShift;
+        this.words = new long[geometry.wordCount];
         this.grid = new PieceColor[rows][cols];
+        this.allRows = -1L >>> (Long.SIZE - rows);
+        this.dirtyRows = allRows;
+        this.rowFill = new byte[rows];
+        this.colFill = new byte[cols];
+    }
+
+    private Board(Board source) {
+        this.rows = source.rows;
+        this.cols = source.cols;
+        this.geometry = source.geometry;
+        this.fullRow = source.fullRow;
+        this.rowWord = source.rowWord;
+        this.rowShift = source.rowShift;
+        this.words = source.words.clone();
+        this.grid = null;
+        this.allRows = source.allRows;
+        this.rowFill = source.rowFill.clone();
+        this.colFill = source.colFill.clone();
+        this.fullRows = source.fullRows;
+        this.fullCols = source.fullCols;
+        this.version = source.version;
+    }
+
+    /**
+     * Returns a copy of the occupancy only, for solvers and simulations.
+     * The copy does not track colours and its getGrid() returns null.
+     */
+    public Board copyWithoutColors() {
+        return new Board(this);
+    }
+
+    /**
+     * Makes this board a copy of another board of the same size, including its colours. A board
+     * that tracks colours cannot copy one that does not, since its filled cells would have none.
+     */
+    public void copyFrom(Board other) {
+        if (other.geometry != geometry) {
+            throw new IllegalArgumentException("Board sizes differ");
+        }
+        if (grid != null && other.grid == null) {
+            throw new IllegalArgumentException("Cannot copy a board without colours into one with colours");
+        }
+        System.arraycopy(other.words, 0, words, 0, words.length);
+        System.arraycopy(other.rowFill, 0, rowFill, 0, rows);
+        System.arraycopy(other.colFill, 0, colFill, 0, cols);
+        fullRows = other.fullRows;
+        fullCols = other.fullCols;
+        for (int r = 0; grid != null && r < rows; r++) {
+            System.arraycopy(other.grid[r], 0, grid[r], 0, cols);
+        }
+        dirtyRows = allRows;
+        lastClearedRows = 0L;
+        lastClearedCols = 0L;
+        clearedColorCount = 0;
+        version++;
+    }
+
+    /** Whether both boards have the same size and the same cells filled. */
+    public boolean sameOccupancy(Board other) {
+        return geometry == other.geometry && Arrays.equals(words, other.words);
+    }
+
+    public int occupancyHashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    /** Number of longs the occupancy is packed into; see copyOccupancy. */
+    public int getOccupancyWordCount() {
+        return words.length;
+    }
+
+    /** Copies the packed occupancy words into {@code into} from {@code offset}, e.g. to key a position. */
+    public void copyOccupancy(long[] into, int offset) {
+        System.arraycopy(words, 0, into, offset, words.length);
     }
 
     public int getRows() { return rows; }
     public int getCols() { return cols; }
 
     public boolean isFilled(int r, int c) {
-        return grid[r][c] != null;
+        return ((words[rowWord[r]] >>> (rowShift[r] + c)) & 1L) != 0;
+    }
+
+    public boolean isEmpty() {
+        for (int r = 0; r < rows; r++) {
+            if (rowFill[r] != 0) return false;
+        }
+        return true;
+    }
+
+    /** Number of filled cells in row r. */
+    public int getRowFill(int r) { return rowFill[r]; }
+
+    /** Number of filled cells in column c. */
+    public int getColFill(int c) { return colFill[c]; }
+
+    /** Occupancy of one row: bit c is set if cell (r, c) is filled. */
+    public long getRowMask(int r) {
+        return rowBits(r);
     }
 
+    /** The live colour grid, changed in place by every move. Other threads should use snapshot(). */
     public PieceColor[][] getGrid() {
         return grid;
     }
 
-    public boolean canPlace(Piece piece, int baseRow, int baseCol) {
-        for (Position cell : piece.getCells()) {
-            int r = baseRow + cell.row;
-            int c = baseCol + cell.col;
-            if (r < 0 || r >= rows || c < 0 || c >= cols) {
-                return false;
+    /**
+     * An immutable copy of the colours as they are now. Rows unchanged since the previous
+     * snapshot are shared with it, and asking twice without a change returns the same object.
+     */
+    public BoardSnapshot snapshot() {
+        if (grid == null) {
+            throw new IllegalStateException("Board does not track colours");
+        }
+        if (dirtyRows != 0 || snapshot == null || snapshot.getVersion() != version) {
+            PieceColor[][] cells = new PieceColor[rows][];
+            for (int r = 0; r < rows; r++) {
+                cells[r] = (dirtyRows >>> r & 1L) != 0 ? grid[r].clone() : snapshot.row(r);
+            }
+            snapshot = new BoardSnapshot(cells, cols, version);
+            dirtyRows = 0L;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the columns at which the piece can be placed with its anchor on the given row,
+     * as a bitmask where bit c means canPlace(piece, baseRow, c).
+     */
+    public long legalColumns(Piece piece, int baseRow) {
+        int top = baseRow + piece.getRowOffset();
+        int height = piece.getHeight();
+        int width = piece.getWidth();
+        if (height == 0 || top < 0 || top + height > rows || width > cols) {
+            return 0L;
+        }
+        long lefts = fullRow >>> (width - 1);
+        for (int i = 0; i < height && lefts != 0; i++) {
+            long free = ~rowBits(top + i) & fullRow;
+            for (long bits = piece.getRowBits(i); bits != 0; bits &= bits - 1) {
+                lefts &= free >>> Long.numberOfTrailingZeros(bits);
             }
-            if (grid[r][c] != null) {
+        }
+        int colOffset = piece.getColOffset();
+        return colOffset >= 0 ? lefts >>> colOffset : (lefts << -colOffset) & fullRow;
+    }
+
+    public boolean canPlace(Piece piece, int baseRow, int baseCol) {
+        if (baseRow >= 0 && baseRow < rows && baseCol >= 0 && baseCol < cols) {
+            return geometry.placements(piece.getShape()).isFree(words, baseRow * cols + baseCol);
+        }
+        // Anchors off the board can only matter for shapes whose cells start below/right of (0, 0).
+        int top = baseRow + piece.getRowOffset();
+        int left = baseCol + piece.getColOffset();
+        int height = piece.getHeight();
+        if (top < 0 || left < 0 || top + height > rows || left + piece.getWidth() > cols) {
+            return false;
+        }
+        for (int i = 0; i < height; i++) {
+            int r = top + i;
+            if ((words[rowWord[r]] & (piece.getRowBits(i) << (rowShift[r] + left))) != 0) {
                 return false;
             }
         }
@@ -37,56 +217,185 @@ public class Board {
     }
 
     public void place(Piece piece, int baseRow, int baseCol) {
-        for (Position cell : piece.getCells()) {
-            int r = baseRow + cell.row;
-            int c = baseCol + cell.col;
-            grid[r][c] = piece.getColor();
+        int top = baseRow + piece.getRowOffset();
+        int left = baseCol + piece.getColOffset();
+        PieceColor color = piece.getColor();
+        for (int i = 0; i < piece.getHeight(); i++) {
+            int r = top + i;
+            long bits = piece.getRowBits(i);
+            words[rowWord[r]] |= bits << (rowShift[r] + left);
+            dirtyRows |= 1L << r;
+            rowFill[r] += Long.bitCount(bits);
+            if (rowFill[r] == cols) fullRows |= 1L << r;
+            for (; bits != 0; bits &= bits - 1) {
+                int c = left + Long.numberOfTrailingZeros(bits);
+                if (++colFill[c] == rows) fullCols |= 1L << c;
+                if (grid != null) grid[r][c] = color;
+            }
         }
+        version++;
     }
 
     public int clearFullLines() {
-        int cleared = 0;
+        long clearedRows = fullRows;
+        long clearedCols = 0L;
+        clearedColorCount = 0;
 
-        for (int r = 0; r < rows; r++) {
-            boolean full = true;
-            for (int c = 0; c < cols; c++) {
-                if (grid[r][c] == null) {
-                    full = false;
-                    break;
+        if (clearedRows != 0) {
+            dirtyRows |= clearedRows;
+            for (long bits = clearedRows; bits != 0; bits &= bits - 1) {
+                int r = Long.numberOfTrailingZeros(bits);
+                words[rowWord[r]] &= ~(fullRow << rowShift[r]);
+                rowFill[r] = 0;
+                if (grid != null) {
+                    for (int c = 0; c < cols; c++) {
+                        keepClearedColor(grid[r][c]);
+                    }
+                    Arrays.fill(grid[r], null);
                 }
             }
-            if (full) {
-                for (int c = 0; c < cols; c++) {
+            int n = Long.bitCount(clearedRows);
+            for (int c = 0; c < cols; c++) {
+                colFill[c] -= n;
+            }
+        } else if (fullCols != 0) {
+            // Columns only count once the rows are cleared, and a cleared row leaves a gap in
+            // every column, so a move clears either rows or columns, never both.
+            clearedCols = fullCols;
+            dirtyRows = allRows;
+            int n = Long.bitCount(clearedCols);
+            for (int r = 0; r < rows; r++) {
+                words[rowWord[r]] &= ~(clearedCols << rowShift[r]);
+                rowFill[r] -= n;
+            }
+            for (long bits = clearedCols; bits != 0; bits &= bits - 1) {
+                int c = Long.numberOfTrailingZeros(bits);
+                colFill[c] = 0;
+                for (int r = 0; grid != null && r < rows; r++) {
+                    keepClearedColor(grid[r][c]);
                     grid[r][c] = null;
                 }
-                cleared++;
             }
         }
+        fullRows = 0L;
+        fullCols = 0L;
 
-        for (int c = 0; c < cols; c++) {
-            boolean full = true;
+        lastClearedRows = clearedRows;
+        lastClearedCols = clearedCols;
+        int cleared = Long.bitCount(clearedRows) + Long.bitCount(clearedCols);
+        if (cleared > 0) {
+            version++;
+        }
+        return cleared;
+    }
+
+    /** Rows emptied by the last call to clearFullLines, as a bitmask. */
+    public long getLastClearedRows() { return lastClearedRows; }
+
+    /** Columns emptied by the last call to clearFullLines, as a bitmask. */
+    public long getLastClearedCols() { return lastClearedCols; }
+
+    /**
+     * Colour ordinals of the cells emptied by the last clearFullLines: the cleared rows top to
+     * bottom, then the cleared columns left to right. Only the first getLastClearedColorCount()
+     * entries are meaningful, and there are none on colour-free copies.
+     */
+    byte[] getLastClearedColors() { return clearedColors; }
+
+    int getLastClearedColorCount() { return clearedColorCount; }
+
+    /**
+     * Undoes a clearFullLines that emptied the given rows and columns, refilling them with
+     * colours in the order getLastClearedColors() reported them.
+     */
+    void restoreLines(long clearedRows, long clearedCols, byte[] colors) {
+        PieceColor[] palette = PieceColor.values();
+        dirtyRows |= clearedCols != 0 ? allRows : clearedRows;
+        int i = Long.bitCount(clearedRows) * cols;
+        // Columns were cleared after the rows, so they are refilled first.
+        for (long bits = clearedCols; bits != 0; bits &= bits - 1) {
+            int c = Long.numberOfTrailingZeros(bits);
             for (int r = 0; r < rows; r++) {
-                if (grid[r][c] == null) {
-                    full = false;
-                    break;
-                }
+                words[rowWord[r]] |= 1L << (rowShift[r] + c);
+                if (grid != null) grid[r][c] = palette[colors[i++]];
             }
-            if (full) {
-                for (int r = 0; r < rows; r++) {
-                    grid[r][c] = null;
-                }
-                cleared++;
+        }
+        i = 0;
+        for (long bits = clearedRows; bits != 0; bits &= bits - 1) {
+            int r = Long.numberOfTrailingZeros(bits);
+            words[rowWord[r]] |= fullRow << rowShift[r];
+            for (int c = 0; grid != null && c < cols; c++) {
+                grid[r][c] = palette[colors[i++]];
             }
         }
+        // The restored cells were all empty, so every crossing line gains one cell per restored line.
+        int restoredRows = Long.bitCount(clearedRows);
+        int restoredCols = Long.bitCount(clearedCols);
+        fullRows = 0L;
+        for (int r = 0; r < rows; r++) {
+            rowFill[r] = (byte) ((clearedRows >>> r & 1L) != 0 ? cols : rowFill[r] + restoredCols);
+            if (rowFill[r] == cols) fullRows |= 1L << r;
+        }
+        fullCols = 0L;
+        for (int c = 0; c < cols; c++) {
+            colFill[c] = (byte) ((clearedCols >>> c & 1L) != 0 ? rows : colFill[c] + restoredRows);
+            if (colFill[c] == rows) fullCols |= 1L << c;
+        }
+        lastClearedRows = 0L;
+        lastClearedCols = 0L;
+        version++;
+    }
 
-        return cleared;
+    /** Undoes place(piece, baseRow, baseCol). */
+    void remove(Piece piece, int baseRow, int baseCol) {
+        int top = baseRow + piece.getRowOffset();
+        int left = baseCol + piece.getColOffset();
+        for (int i = 0; i < piece.getHeight(); i++) {
+            int r = top + i;
+            long bits = piece.getRowBits(i);
+            words[rowWord[r]] &= ~(bits << (rowShift[r] + left));
+            dirtyRows |= 1L << r;
+            rowFill[r] -= Long.bitCount(bits);
+            fullRows &= ~(1L << r);
+            for (; bits != 0; bits &= bits - 1) {
+                int c = left + Long.numberOfTrailingZeros(bits);
+                colFill[c]--;
+                fullCols &= ~(1L << c);
+                if (grid != null) grid[r][c] = null;
+            }
+        }
+        version++;
     }
 
+    /** Incremented on every change to the occupancy, so callers can tell when cached state is stale. */
+    public int getVersion() { return version; }
+
     public void clear() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                grid[r][c] = null;
+        Arrays.fill(words, 0L);
+        Arrays.fill(rowFill, (byte) 0);
+        Arrays.fill(colFill, (byte) 0);
+        fullRows = 0L;
+        fullCols = 0L;
+        dirtyRows = allRows;
+        if (grid != null) {
+            for (PieceColor[] row : grid) {
+                Arrays.fill(row, null);
             }
         }
+        lastClearedRows = 0L;
+        lastClearedCols = 0L;
+        clearedColorCount = 0;
+        version++;
+    }
+
+    private void keepClearedColor(PieceColor color) {
+        if (clearedColorCount == clearedColors.length) {
+            clearedColors = Arrays.copyOf(clearedColors, Math.max(2 * clearedColorCount, rows + cols));
+        }
+        clearedColors[clearedColorCount++] = (byte) color.ordinal();
+    }
+
+    private long rowBits(int r) {
+        return (words[rowWord[r]] >>> rowShift[r]) & fullRow;
     }
 }
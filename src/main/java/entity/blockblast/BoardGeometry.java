@@ -0,0 +1,63 @@
+package entity.blockblast;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bit layout shared by every board of one size, plus the placement tables for that size.
+ * Each row is a run of {@code cols} bits and as many whole rows as fit are packed into each long.
+ */
+final class BoardGeometry {
+    private static final Map<Integer, BoardGeometry> CACHE = new ConcurrentHashMap<>();
+
+    final int rows;
+    final int cols;
+    final long fullRow;
+    final int wordCount;
+    final int[] rowWord;
+    final int[] rowShift;
+
+    // Indexed by Shape id; replaced wholesale when a table is added so readers need no lock.
+    private volatile PlacementTable[] tables = new PlacementTable[0];
+
+    private BoardGeometry(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.fullRow = cols == Long.SIZE ? -1L : (1L << cols) - 1;
+
+        int rowsPerWord = Long.SIZE / cols;
+        this.rowWord = new int[rows];
+        this.rowShift = new int[rows];
+        for (int r = 0; r < rows; r++) {
+            rowWord[r] = r / rowsPerWord;
+            rowShift[r] = (r % rowsPerWord) * cols;
+        }
+        this.wordCount = (rows + rowsPerWord - 1) / rowsPerWord;
+    }
+
+    static BoardGeometry of(int rows, int cols) {
+        return CACHE.computeIfAbsent(rows * (Long.SIZE + 1) + cols, k -> new BoardGeometry(rows, cols));
+    }
+
+    PlacementTable placements(Shape shape) {
+        PlacementTable[] current = tables;
+        int id = shape.getId();
+        if (id < current.length && current[id] != null) {
+            return current[id];
+        }
+        return buildPlacements(shape);
+    }
+
+    private synchronized PlacementTable buildPlacements(Shape shape) {
+        int id = shape.getId();
+        if (id < tables.length && tables[id] != null) {
+            return tables[id];
+        }
+        PlacementTable table = new PlacementTable(this, shape);
+        PlacementTable[] grown = Arrays.copyOf(tables, Math.max(tables.length, id + 1));
+        grown[id] = table;
+        tables = grown;
+        return table;
+    }
+}
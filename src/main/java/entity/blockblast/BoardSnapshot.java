@@ -0,0 +1,40 @@
+package entity.blockblast;
+
+/**
+ * An immutable view of a board's colours at one moment, safe to read from any thread.
+ *
+ * Snapshots are persistent: each row is its own array, and a new snapshot only copies the
+ * rows changed since the previous one and shares the rest. A move therefore copies the rows
+ * the piece and its cleared lines touched, never the whole board.
+ */
+public final class BoardSnapshot {
+    private final PieceColor[][] cells;
+    private final int cols;
+    private final int version;
+
+    // The row arrays are never written once the snapshot exists.
+    BoardSnapshot(PieceColor[][] cells, int cols, int version) {
+        this.cells = cells;
+        this.cols = cols;
+        this.version = version;
+    }
+
+    public int getRows() { return cells.length; }
+    public int getCols() { return cols; }
+
+    /** Colour of the cell, or null if it is empty. */
+    public PieceColor getColor(int r, int c) {
+        return cells[r][c];
+    }
+
+    public boolean isFilled(int r, int c) {
+        return cells[r][c] != null;
+    }
+
+    /** The Board.getVersion() this snapshot was taken at. */
+    public int getVersion() { return version; }
+
+    PieceColor[] row(int r) {
+        return cells[r];
+    }
+}
@@ -0,0 +1,82 @@
+package entity.blockblast;
+
+import java.util.List;
+
+/**
+ * A puzzle: a preset board and a fixed sequence of pieces, dealt into trays of traySize in
+ * order. It is solved by emptying the board. A verified challenge also carries a shortest
+ * solution, as moves packed like Replay moves with the piece index being the tray slot.
+ */
+public final class Challenge {
+    private final String name;
+    private final Board board;
+    private final List<Piece> pieces;
+    private final int traySize;
+    private final int[] solution;
+
+    public Challenge(String name, Board board, List<Piece> pieces, int traySize) {
+        this(name, board, pieces, traySize, null);
+    }
+
+    private Challenge(String name, Board board, List<Piece> pieces, int traySize, int[] solution) {
+        if (traySize < 1 || traySize > Integer.SIZE - 1) {
+            throw new IllegalArgumentException("Invalid tray size " + traySize);
+        }
+        if (pieces.isEmpty()) {
+            throw new IllegalArgumentException("Challenge " + name + " has no pieces");
+        }
+        if (board.isEmpty()) {
+            throw new IllegalArgumentException("Challenge " + name + " starts with an empty board");
+        }
+        this.name = name;
+        this.board = new Board(board.getRows(), board.getCols());
+        this.board.copyFrom(board);
+        this.pieces = List.copyOf(pieces);
+        this.traySize = traySize;
+        this.solution = solution;
+    }
+
+    /** The same challenge with a known shortest solution. */
+    public Challenge withSolution(int[] moves) {
+        return new Challenge(name, board, pieces, traySize, moves.clone());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRows() {
+        return board.getRows();
+    }
+
+    public int getCols() {
+        return board.getCols();
+    }
+
+    /** Copies the starting board, colours included, into a board of the same size. */
+    public void copyBoardInto(Board target) {
+        target.copyFrom(board);
+    }
+
+    /** An occupancy-only copy of the starting board, for searching. */
+    public Board copyBoardWithoutColors() {
+        return board.copyWithoutColors();
+    }
+
+    public List<Piece> getPieces() {
+        return pieces;
+    }
+
+    public int getTraySize() {
+        return traySize;
+    }
+
+    public boolean hasSolution() {
+        return solution != null;
+    }
+
+    /** The shortest solution's moves, or null if the challenge has not been verified. */
+    public int[] getSolution() {
+        return solution == null ? null : solution.clone();
+    }
+}
@@ -0,0 +1,84 @@
+package entity.blockblast;
+
+import java.util.List;
+
+/**
+ * Deals the pieces of a challenge pack instead of random ones. Starting a game with seed n
+ * sets up challenge n (modulo the pack size) and deals its pieces in order, tray by tray;
+ * once they run out the tray stays empty and the game ends. nextSeed() is the challenge after
+ * the one being played, starting with the first, so new games play through the pack in order.
+ */
+public class ChallengePieceGenerator extends PieceGenerator {
+    private final List<Challenge> challenges;
+    private int current;
+    private int upcoming;
+    private int next;
+
+    public ChallengePieceGenerator(List<Challenge> challenges) {
+        super(0L);
+        if (challenges.isEmpty()) {
+            throw new IllegalArgumentException("Challenge pack is empty");
+        }
+        Challenge first = challenges.get(0);
+        for (Challenge challenge : challenges) {
+            if (challenge.getRows() != first.getRows() || challenge.getCols() != first.getCols()
+                    || challenge.getTraySize() != first.getTraySize()) {
+                throw new IllegalArgumentException("Challenges in a pack must share a board and tray size");
+            }
+        }
+        this.challenges = List.copyOf(challenges);
+    }
+
+    @Override
+    public void reseed(long seed) {
+        super.reseed(seed);
+        // Also called by the superclass constructor, before the pack is set.
+        if (challenges != null) {
+            current = (int) Math.floorMod(seed, (long) challenges.size());
+            upcoming = (current + 1) % challenges.size();
+            next = 0;
+        }
+    }
+
+    @Override
+    public long nextSeed() {
+        return upcoming;
+    }
+
+    @Override
+    public void setUpBoard(Board board) {
+        getChallenge().copyBoardInto(board);
+    }
+
+    @Override
+    public void deal(Piece[] tray, Board board) {
+        for (int i = 0; i < tray.length; i++) {
+            tray[i] = generateRandomPiece();
+        }
+    }
+
+    /** The challenge's next piece, or null once all of them have been dealt. */
+    @Override
+    public Piece generateRandomPiece() {
+        List<Piece> pieces = getChallenge().getPieces();
+        return next < pieces.size() ? pieces.get(next++) : null;
+    }
+
+    @Override
+    public PieceGenerator split() {
+        return new ChallengePieceGenerator(challenges);
+    }
+
+    /** The challenge being played. */
+    public Challenge getChallenge() {
+        return challenges.get(current);
+    }
+
+    public int getChallengeIndex() {
+        return current;
+    }
+
+    public int getChallengeCount() {
+        return challenges.size();
+    }
+}
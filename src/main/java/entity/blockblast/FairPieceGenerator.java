@@ -0,0 +1,134 @@
+package entity.blockblast;
+
+/**
+ * Deals only trays that can be played out on the current board: some order places every
+ * piece, counting the lines each placement clears. Trays whose pieces have fewer than
+ * {@code minAnchors} legal anchors between them on the current board are rejected as well,
+ * so a higher target makes the game easier.
+ *
+ * Candidates are drawn from the same seeded stream, so a seed still fixes every deal. The
+ * check places pieces on reusable occupancy-only boards through the shared placement tables,
+ * stops at the first order that works, accepts the last piece as soon as it has any legal
+ * anchor, and gives up on a tray after NODE_BUDGET placements. If no candidate passes within
+ * MAX_ATTEMPTS, the one that got furthest is dealt.
+ */
+public class FairPieceGenerator extends PieceGenerator {
+    static final int MAX_ATTEMPTS = 32;
+    static final int NODE_BUDGET = 256;
+
+    private final int minAnchors;
+    private Board[] scratch = new Board[0];
+    private Piece[] candidate = new Piece[0];
+    private Piece[] best = new Piece[0];
+    private int nodes;
+
+    public FairPieceGenerator(long seed, int minAnchors) {
+        this(PieceLibrary.standard(), seed, minAnchors);
+    }
+
+    public FairPieceGenerator(PieceLibrary library, long seed, int minAnchors) {
+        super(library, seed);
+        if (minAnchors < 0) {
+            throw new IllegalArgumentException("minAnchors must not be negative");
+        }
+        this.minAnchors = minAnchors;
+    }
+
+    @Override
+    public void deal(Piece[] tray, Board board) {
+        if (candidate.length != tray.length) {
+            candidate = new Piece[tray.length];
+            best = new Piece[tray.length];
+        }
+        int bestScore = -1;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            for (int i = 0; i < candidate.length; i++) {
+                candidate[i] = generateRandomPiece();
+            }
+            int anchors = Math.min(countAnchors(board, candidate), minAnchors);
+            nodes = 0;
+            int placed = playable(board, candidate);
+            if (placed == candidate.length && anchors >= minAnchors) {
+                System.arraycopy(candidate, 0, tray, 0, tray.length);
+                return;
+            }
+            int score = placed * (minAnchors + 1) + anchors;
+            if (score > bestScore) {
+                bestScore = score;
+                System.arraycopy(candidate, 0, best, 0, best.length);
+            }
+        }
+        System.arraycopy(best, 0, tray, 0, tray.length);
+    }
+
+    @Override
+    public int getDealMode() {
+        return 1 + minAnchors;
+    }
+
+    public int getMinAnchors() {
+        return minAnchors;
+    }
+
+    @Override
+    public PieceGenerator split() {
+        return new FairPieceGenerator(getLibrary(), nextSeed(), minAnchors);
+    }
+
+    /** Legal anchors of all the tray's pieces on the board as it is now. */
+    private static int countAnchors(Board board, Piece[] tray) {
+        int count = 0;
+        for (Piece piece : tray) {
+            for (int r = 0; r < board.getRows(); r++) {
+                count += Long.bitCount(board.legalColumns(piece, r));
+            }
+        }
+        return count;
+    }
+
+    /** How many of the tray's pieces the best order found places; tray.length means all of them. */
+    private int playable(Board board, Piece[] tray) {
+        if (scratch.length != tray.length - 1
+                || (scratch.length > 0 && (scratch[0].getRows() != board.getRows()
+                || scratch[0].getCols() != board.getCols()))) {
+            scratch = new Board[Math.max(0, tray.length - 1)];
+            for (int i = 0; i < scratch.length; i++) {
+                scratch[i] = new Board(board.getRows(), board.getCols()).copyWithoutColors();
+            }
+        }
+        return search(board, tray, (1 << tray.length) - 1, 0);
+    }
+
+    private int search(Board board, Piece[] tray, int remaining, int depth) {
+        int reachedBest = depth;
+        for (int i = 0; i < tray.length; i++) {
+            if ((remaining & 1 << i) == 0 || sameShapeEarlier(tray, remaining, i)) continue;
+            Piece piece = tray[i];
+            int rest = remaining & ~(1 << i);
+            for (int r = 0; r < board.getRows(); r++) {
+                long cols = board.legalColumns(piece, r);
+                if (cols == 0) continue;
+                if (rest == 0) return depth + 1;
+                for (; cols != 0; cols &= cols - 1) {
+                    if (nodes++ >= NODE_BUDGET) return Math.max(reachedBest, depth + 1);
+                    Board next = scratch[depth];
+                    next.copyFrom(board);
+                    next.place(piece, r, Long.numberOfTrailingZeros(cols));
+                    next.clearFullLines();
+                    int reached = search(next, tray, rest, depth + 1);
+                    if (reached == tray.length) return reached;
+                    reachedBest = Math.max(reachedBest, reached);
+                }
+            }
+        }
+        return reachedBest;
+    }
+
+    /** Two pieces of the same shape lead to the same boards, so only the first is tried. */
+    private static boolean sameShapeEarlier(Piece[] tray, int remaining, int i) {
+        for (int j = 0; j < i; j++) {
+            if ((remaining & 1 << j) != 0 && tray[j].getShape() == tray[i].getShape()) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,227 @@
+package entity.blockblast;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Block Blast rules without any presentation: placing a tray piece, clearing lines, scoring,
+ * refilling the tray and detecting the end of the game. Shared by the interactor and by
+ * headless runners such as the simulation harness.
+ * Moves can be undone and redone through a delta journal. Trays dealt by undone moves are
+ * kept and dealt again by the next refill, so undoing never rerolls the pieces. Generators
+ * that deal for the board (a non-zero deal mode) deal each refill from a stream of its own
+ * (see PieceGenerator.seekDeal), so after an undo the refill is dealt again for the board it
+ * actually fills, just as a replay of the remaining moves deals it.
+ */
+public class GameEngine {
+    public static final int POINTS_PER_LINE = 10;
+
+    public enum MoveResult { PLACED, GAME_OVER, INVALID_PIECE, BLOCKED }
+
+    private final GameState gameState;
+    private final PieceGenerator generator;
+    private final LegalAnchorTracker anchors;
+    private final List<GameListener> listeners = new ArrayList<>();
+    private final MoveJournal journal = new MoveJournal();
+    private final Deque<Piece[]> undoneDeals = new ArrayDeque<>();
+    private int refills;
+    private int lastLinesCleared;
+
+    public GameEngine(GameState gameState, PieceGenerator generator) {
+        this.gameState = gameState;
+        this.generator = generator;
+        this.anchors = new LegalAnchorTracker(gameState.getBoard());
+    }
+
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    public MoveResult play(int pieceIndex, int row, int col) {
+        return play(pieceIndex, row, col, false);
+    }
+
+    private MoveResult play(int pieceIndex, int row, int col, boolean redo) {
+        if (gameState.isGameOver()) {
+            return MoveResult.GAME_OVER;
+        }
+
+        Piece[] pieces = gameState.getCurrentPieces();
+        if (pieceIndex < 0 || pieceIndex >= pieces.length || pieces[pieceIndex] == null) {
+            return MoveResult.INVALID_PIECE;
+        }
+
+        Piece piece = pieces[pieceIndex];
+        Board board = gameState.getBoard();
+        anchors.sync(pieces);
+
+        if (!board.canPlace(piece, row, col)) {
+            return MoveResult.BLOCKED;
+        }
+
+        board.place(piece, row, col);
+        lastLinesCleared = board.clearFullLines();
+        anchors.update(piece, row);
+        int points = lastLinesCleared * POINTS_PER_LINE;
+        gameState.setScore(gameState.getScore() + points);
+
+        pieces[pieceIndex] = null;
+        boolean refilled = allPiecesUsed(pieces);
+        if (refilled) {
+            Piece[] deal = undoneDeals.poll();
+            if (deal != null) {
+                System.arraycopy(deal, 0, pieces, 0, pieces.length);
+            } else {
+                if (dealsForBoard()) generator.seekDeal(++refills);
+                generator.deal(pieces, board);
+            }
+        }
+        gameState.setCurrentPieces(pieces);
+        journal.record(piece, pieceIndex, row, col, refilled, points, board, redo);
+
+        boolean ended = !hasLegalMove();
+        if (ended) {
+            gameState.setGameOver(true);
+        }
+        for (GameListener listener : listeners) {
+            listener.piecePlaced(gameState, pieceIndex, row, col, lastLinesCleared);
+            if (ended) listener.gameEnded(gameState);
+        }
+        return MoveResult.PLACED;
+    }
+
+    public boolean canUndo() {
+        return !gameState.isGameOver() && journal.canUndo();
+    }
+
+    public boolean canRedo() {
+        return !gameState.isGameOver() && journal.canRedo();
+    }
+
+    /** Takes back the last move. A finished game cannot be undone. */
+    public boolean undo() {
+        if (!canUndo()) {
+            return false;
+        }
+        journal.pop();
+        Piece[] pieces = gameState.getCurrentPieces();
+        if (journal.refilled()) {
+            if (dealsForBoard()) {
+                refills--;
+            } else {
+                undoneDeals.push(pieces.clone());
+            }
+            Arrays.fill(pieces, null);
+        }
+        pieces[journal.slot()] = journal.piece();
+        gameState.setCurrentPieces(pieces);
+
+        Board board = gameState.getBoard();
+        journal.restoreLines(board);
+        board.remove(journal.piece(), journal.row(), journal.col());
+        gameState.setScore(gameState.getScore() - journal.scoreDelta());
+        lastLinesCleared = 0;
+        for (GameListener listener : listeners) {
+            listener.moveUndone(gameState);
+        }
+        return true;
+    }
+
+    /** Plays the last undone move again. */
+    public boolean redo() {
+        if (!canRedo()) {
+            return false;
+        }
+        journal.peekRedo();
+        return play(journal.slot(), journal.row(), journal.col(), true) == MoveResult.PLACED;
+    }
+
+    /** Starts a new game from a seed drawn from the generator. */
+    public void newGame() {
+        startGame(generator.nextSeed());
+    }
+
+    /** Starts a new game whose pieces are fixed by the seed, e.g. to replay a recorded game. */
+    public void startGame(long seed) {
+        generator.reseed(seed);
+        gameState.getBoard().clear();
+        generator.setUpBoard(gameState.getBoard());
+        journal.clear();
+        undoneDeals.clear();
+        refills = 0;
+
+        Piece[] pieces = gameState.getCurrentPieces();
+        generator.deal(pieces, gameState.getBoard());
+        gameState.setCurrentPieces(pieces);
+
+        gameState.setScore(0);
+        gameState.setGameOver(false);
+        lastLinesCleared = 0;
+        for (GameListener listener : listeners) {
+            listener.gameStarted(gameState, seed);
+        }
+    }
+
+    /**
+     * Continues a saved game: copies its board, tray, score and game-over flag into this
+     * engine's state. Pieces dealt from here on come from a fresh seed.
+     */
+    public void resume(GameState saved) {
+        gameState.getBoard().copyFrom(saved.getBoard());
+        Piece[] pieces = gameState.getCurrentPieces();
+        Piece[] savedPieces = saved.getCurrentPieces();
+        if (savedPieces.length != pieces.length) {
+            throw new IllegalArgumentException("Tray sizes differ");
+        }
+        System.arraycopy(savedPieces, 0, pieces, 0, pieces.length);
+        gameState.setCurrentPieces(pieces);
+        gameState.setScore(saved.getScore());
+        gameState.setGameOver(saved.isGameOver());
+        generator.reseed(generator.nextSeed());
+        journal.clear();
+        undoneDeals.clear();
+        refills = 0;
+        lastLinesCleared = 0;
+        for (GameListener listener : listeners) {
+            listener.gameResumed(gameState);
+        }
+    }
+
+    public boolean hasLegalMove() {
+        anchors.sync(gameState.getCurrentPieces());
+        return anchors.hasLegalMove();
+    }
+
+    /** Legal anchors for the current tray, kept up to date by play and newGame. */
+    public LegalAnchorTracker getAnchors() {
+        anchors.sync(gameState.getCurrentPieces());
+        return anchors;
+    }
+
+    public PieceGenerator getGenerator() {
+        return generator;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public int getLastLinesCleared() {
+        return lastLinesCleared;
+    }
+
+    /** Whether the generator's trays depend on the board, so an undone tray may not fit the board it would refill. */
+    private boolean dealsForBoard() {
+        return generator.getDealMode() != 0;
+    }
+
+    private static boolean allPiecesUsed(Piece[] pieces) {
+        for (Piece p : pieces) {
+            if (p != null) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package entity.blockblast;
+
+/**
+ * Observes a GameEngine. Callbacks run on the thread that made the move, after the
+ * game state has been updated, so implementations should be quick.
+ */
+public interface GameListener {
+    default void gameStarted(GameState state, long seed) {}
+
+    /** A saved game was loaded mid-way; its earlier moves are not known. */
+    default void gameResumed(GameState state) {}
+
+    default void piecePlaced(GameState state, int pieceIndex, int row, int col, int linesCleared) {}
+
+    /** The last move was taken back; a redo is reported as a new piecePlaced. */
+    default void moveUndone(GameState state) {}
+
+    default void gameEnded(GameState state) {}
+}
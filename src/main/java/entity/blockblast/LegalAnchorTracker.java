@@ -0,0 +1,125 @@
+package entity.blockblast;
+
+/**
+ * Keeps the set of legal anchors for every piece in the tray, so that deciding whether
+ * any move is left does not need a full board rescan after each placement.
+ * Legal anchors are stored per anchor row as a bitmask of anchor columns. After a move only
+ * the anchor rows whose footprint touches a changed board row are recomputed; a cleared
+ * column touches every row, but each row is still a handful of word operations.
+ */
+public class LegalAnchorTracker {
+    private final Board board;
+    private Piece[] tracked = new Piece[0];
+    private long[][] legal = new long[0][];
+    private int[] counts = new int[0];
+    private int boardVersion;
+    private boolean built = false;
+
+    public LegalAnchorTracker(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Brings the tracker up to date with the tray. Slots whose piece changed are recomputed;
+     * if the board was changed behind the tracker's back, everything is rebuilt.
+     */
+    public void sync(Piece[] tray) {
+        if (tray.length != tracked.length) {
+            tracked = new Piece[tray.length];
+            legal = new long[tray.length][board.getRows()];
+            counts = new int[tray.length];
+            built = false;
+        }
+        boolean stale = !built || boardVersion != board.getVersion();
+        for (int i = 0; i < tray.length; i++) {
+            if (stale || tracked[i] != tray[i]) {
+                tracked[i] = tray[i];
+                rebuildSlot(i);
+            }
+        }
+        boardVersion = board.getVersion();
+        built = true;
+    }
+
+    /**
+     * Updates the tracked anchors after {@code placed} was put on the board at {@code baseRow}
+     * and {@link Board#clearFullLines()} was called. The tray itself is updated through sync.
+     */
+    public void update(Piece placed, int baseRow) {
+        if (!built) {
+            return;
+        }
+        int rows = board.getRows();
+        if (board.getLastClearedCols() != 0) {
+            for (int i = 0; i < tracked.length; i++) {
+                rebuildSlot(i);
+            }
+        } else {
+            long dirty = rowSpan(baseRow + placed.getRowOffset(), placed.getHeight()) | board.getLastClearedRows();
+            for (int i = 0; i < tracked.length; i++) {
+                Piece p = tracked[i];
+                if (p == null) continue;
+                long anchorRows = 0L;
+                for (int k = 0; k < p.getHeight(); k++) {
+                    int shift = p.getRowOffset() + k;
+                    anchorRows |= shift >= 0 ? dirty >>> shift : dirty << -shift;
+                }
+                if (rows < Long.SIZE) {
+                    anchorRows &= (1L << rows) - 1;
+                }
+                for (; anchorRows != 0; anchorRows &= anchorRows - 1) {
+                    recomputeRow(i, Long.numberOfTrailingZeros(anchorRows));
+                }
+            }
+        }
+        boardVersion = board.getVersion();
+    }
+
+    public boolean hasLegalMove() {
+        for (int i = 0; i < tracked.length; i++) {
+            if (tracked[i] != null && counts[i] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int countLegalAnchors(int slot) {
+        return counts[slot];
+    }
+
+    /** Bit c is set if the piece in the slot can be anchored at (baseRow, c). */
+    public long getLegalColumns(int slot, int baseRow) {
+        return legal[slot][baseRow];
+    }
+
+    public boolean isLegal(int slot, int baseRow, int baseCol) {
+        if (baseRow < 0 || baseRow >= board.getRows() || baseCol < 0 || baseCol >= board.getCols()) {
+            return false;
+        }
+        return ((legal[slot][baseRow] >>> baseCol) & 1L) != 0;
+    }
+
+    private void rebuildSlot(int slot) {
+        counts[slot] = 0;
+        for (int r = 0; r < board.getRows(); r++) {
+            legal[slot][r] = 0L;
+            recomputeRow(slot, r);
+        }
+    }
+
+    private void recomputeRow(int slot, int baseRow) {
+        Piece p = tracked[slot];
+        long cols = p == null ? 0L : board.legalColumns(p, baseRow);
+        counts[slot] += Long.bitCount(cols) - Long.bitCount(legal[slot][baseRow]);
+        legal[slot][baseRow] = cols;
+    }
+
+    private static long rowSpan(int from, int count) {
+        long span = 0L;
+        for (int r = Math.max(0, from); r < from + count && r < Long.SIZE; r++) {
+            span |= 1L << r;
+        }
+        return span;
+    }
+}
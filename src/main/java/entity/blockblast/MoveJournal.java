@@ -0,0 +1,144 @@
+package entity.blockblast;
+
+import java.util.Arrays;
+
+/**
+ * Undo/redo history of a game, stored as deltas rather than board copies.
+ * Each move is a short byte record: tray slot, whether the tray was refilled, the anchor,
+ * the score gained, the cleared rows and columns as varints, and the colours of the cleared
+ * cells packed two per byte. A move that clears nothing takes six bytes plus its offset and
+ * piece reference; clearing a line of eight adds about six more.
+ * Moves before {@code size} can be undone, moves from {@code size} to {@code limit} redone.
+ */
+final class MoveJournal {
+    private byte[] data = new byte[256];
+    private int[] offsets = new int[33];
+    private Piece[] pieces = new Piece[32];
+    private int size;
+    private int limit;
+
+    // Fields of the move last loaded by pop() or peekRedo().
+    private Piece piece;
+    private int slot;
+    private boolean refilled;
+    private int row;
+    private int col;
+    private int scoreDelta;
+    private long clearedRows;
+    private long clearedCols;
+    private byte[] colors = new byte[0];
+
+    private int pos;
+
+    void clear() {
+        size = 0;
+        limit = 0;
+    }
+
+    boolean canUndo() {
+        return size > 0;
+    }
+
+    boolean canRedo() {
+        return size < limit;
+    }
+
+    /**
+     * Records a move just made on the board. A redo rewrites the same record, so the moves
+     * after it stay redoable; any other move discards them.
+     */
+    void record(Piece piece, int slot, int row, int col, boolean refilled, int scoreDelta, Board board, boolean redo) {
+        if (size == pieces.length) {
+            pieces = Arrays.copyOf(pieces, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 2 + 1);
+        }
+        int colorCount = board.getLastClearedColorCount();
+        ensureData(offsets[size] + 40 + (colorCount + 1) / 2);
+
+        pos = offsets[size];
+        data[pos++] = (byte) (slot | (refilled ? 0x80 : 0));
+        data[pos++] = (byte) row;
+        data[pos++] = (byte) col;
+        writeVarLong(scoreDelta);
+        writeVarLong(board.getLastClearedRows());
+        writeVarLong(board.getLastClearedCols());
+        writeVarLong(colorCount);
+        byte[] cleared = board.getLastClearedColors();
+        for (int i = 0; i < colorCount; i += 2) {
+            int high = i + 1 < colorCount ? cleared[i + 1] : 0;
+            data[pos++] = (byte) (cleared[i] | (high << 4));
+        }
+
+        pieces[size++] = piece;
+        offsets[size] = pos;
+        limit = redo ? Math.max(limit, size) : size;
+    }
+
+    /** Steps back over the last move and loads its fields. */
+    void pop() {
+        load(--size);
+    }
+
+    /** Loads the fields of the next move to redo, which the caller then plays again. */
+    void peekRedo() {
+        load(size);
+    }
+
+    Piece piece() { return piece; }
+    int slot() { return slot; }
+    boolean refilled() { return refilled; }
+    int row() { return row; }
+    int col() { return col; }
+    int scoreDelta() { return scoreDelta; }
+
+    /** Puts back the lines the loaded move cleared. */
+    void restoreLines(Board board) {
+        board.restoreLines(clearedRows, clearedCols, colors);
+    }
+
+    private void load(int index) {
+        piece = pieces[index];
+        pos = offsets[index];
+        int head = data[pos++];
+        slot = head & 0x7F;
+        refilled = (head & 0x80) != 0;
+        row = data[pos++];
+        col = data[pos++];
+        scoreDelta = (int) readVarLong();
+        clearedRows = readVarLong();
+        clearedCols = readVarLong();
+
+        int colorCount = (int) readVarLong();
+        if (colors.length < colorCount) {
+            colors = new byte[colorCount];
+        }
+        for (int i = 0; i < colorCount; i += 2) {
+            int b = data[pos++];
+            colors[i] = (byte) (b & 0x0F);
+            if (i + 1 < colorCount) colors[i + 1] = (byte) ((b >>> 4) & 0x0F);
+        }
+    }
+
+    private void ensureData(int capacity) {
+        if (capacity > data.length) {
+            data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+        }
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[pos++] = (byte) value;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = data[pos++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+}
@@ -2,20 +2,42 @@ package entity.blockblast;
 
 import java.util.List;
 
+/**
+ * Immutable piece: an interned Shape plus a colour.
+ * Use {@link Shape#piece(PieceColor)} to get the shared instance instead of allocating one.
+ */
 public class Piece {
 
-    private final List<Position> cells;
+    private final Shape shape;
     private final PieceColor color;
 
+    /**
+     * @deprecated allocates a piece of its own; use {@code Shape.of(cells).piece(color)}, the
+     * shared instance
+     */
+    @Deprecated
     public Piece(List<Position> cells, PieceColor color) {
-        this.cells = cells;
+        this(Shape.of(cells), color);
+    }
+
+    Piece(Shape shape, PieceColor color) {
+        this.shape = shape;
         this.color = color;
     }
 
     public List<Position> getCells() {
-        return cells;
+        return shape.getCells();
     }
     public PieceColor getColor() {
         return color;
     }
+    public Shape getShape() {
+        return shape;
+    }
+
+    int getRowOffset() { return shape.getRowOffset(); }
+    int getColOffset() { return shape.getColOffset(); }
+    int getHeight() { return shape.getHeight(); }
+    int getWidth() { return shape.getWidth(); }
+    long getRowBits(int row) { return shape.getRowBits(row); }
 }
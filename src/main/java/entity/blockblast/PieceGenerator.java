@@ -1,67 +1,107 @@
 package entity.blockblast;
 
-import java.util.Random;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
+/**
+ * Deals tray pieces from a PieceLibrary using a seeded SplittableRandom, so a seed fixes the
+ * whole sequence.
+ * Unseeded generators draw a random seed, which getSeed() still reports.
+ */
 public class PieceGenerator {
-    private final Random random = new Random();
+    private static final PieceColor[] COLORS = PieceColor.values();
+    private static final long DEAL_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final PieceLibrary library;
+    private SplittableRandom random;
+    private long seed;
+
+    public PieceGenerator() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /** A generator whose sequence of pieces is fixed by the seed. */
+    public PieceGenerator(long seed) {
+        this(PieceLibrary.standard(), seed);
+    }
+
+    /** A generator dealing from the given library, in a sequence fixed by the seed. */
+    public PieceGenerator(PieceLibrary library, long seed) {
+        this.library = library;
+        reseed(seed);
+    }
+
+    /** A generator that deals the way the given getDealMode() value describes. */
+    public static PieceGenerator forDealMode(int dealMode, long seed) {
+        if (dealMode < 0) {
+            throw new IllegalArgumentException("Unknown deal mode " + dealMode);
+        }
+        return dealMode == 0 ? new PieceGenerator(seed) : new FairPieceGenerator(seed, dealMode - 1);
+    }
+
     public Piece generateRandomPiece(){
-        int type = random.nextInt(9);
-        List<Position> cells = new ArrayList<>();
-
-        switch (type) {
-            case 0:
-                cells.add(new Position(0, 0));
-                break;
-            case 1:
-                cells.add(new Position(0, 0));
-                cells.add(new Position(0, 1));
-                break;
-            case 2:
-                cells.add(new Position(0, 0));
-                cells.add(new Position(1, 0));
-                break;
-            case 3:
-                cells.add(new Position(0, 0));
-                cells.add(new Position(0, 1));
-                cells.add(new Position(1, 0));
-                cells.add(new Position(1, 1));
-                break;
-            case 4:
-                cells.add(new Position(0, 0));
-                cells.add(new Position(1, 0));
-                cells.add(new Position(1, 1));
-                break;
-            case 5:
-                cells.add(new Position(0, 0));
-                cells.add(new Position(0, 1));
-                cells.add(new Position(0, 2));
-                break;
-            case 6:
-                cells.add(new Position(0, 0));
-                cells.add(new Position(1, 0));
-                cells.add(new Position(2, 0));
-                break;
-            case 7:
-                cells.add(new Position(0, 0));
-                cells.add(new Position(0, 1));
-                cells.add(new Position(0, 2));
-                cells.add(new Position(1, 1));
-                break;
-            case 8:
-                cells.add(new Position(0, 0));
-                cells.add(new Position(0, 1));
-                cells.add(new Position(1, 1));
-                cells.add(new Position(1, 2));
-                break;
+        return library.shape(library.pick(random)).piece(randomColor());
+    }
+
+    /** Fills every slot of the tray. Pieces are drawn independently of the board. */
+    public void deal(Piece[] tray, Board board) {
+        for (int i = 0; i < tray.length; i++) {
+            tray[i] = generateRandomPiece();
         }
-        return new Piece(cells, randomColor());
+    }
+
+    /** Sets up the board a new game starts on, after it has been cleared; ordinary games start empty. */
+    public void setUpBoard(Board board) {
+    }
+
+    /**
+     * Describes how this generator deals, so that a recorded game can be dealt again with
+     * forDealMode: 0 for independent pieces from the standard library.
+     */
+    public int getDealMode() {
+        return 0;
+    }
+
+    /** Restarts the sequence of pieces from the given seed. */
+    public void reseed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Continues from a stream of its own for the given deal of the game started from the current
+     * seed, so that deal can be dealt again after an undo without replaying the ones before it.
+     */
+    public void seekDeal(int deal) {
+        random = new SplittableRandom(new SplittableRandom(seed + deal * DEAL_GAMMA).nextLong());
+    }
+
+    /** The seed the current sequence of pieces started from. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Draws a fresh seed from this generator's stream, e.g. for the next game. */
+    public long nextSeed() {
+        return random.nextLong();
+    }
+
+    /** An independent generator seeded from this one, e.g. for another worker thread. */
+    public PieceGenerator split() {
+        return new PieceGenerator(library, random.split().nextLong());
+    }
+
+    public PieceLibrary getLibrary() {
+        return library;
+    }
+
+    /** The shapes of the standard library, in the order of their type index. */
+    public static List<Shape> getShapes() {
+        return PieceLibrary.standard().getShapes();
     }
 
     private PieceColor randomColor() {
-        PieceColor[] values = PieceColor.values();
-        return values[random.nextInt(values.length)];
+        return COLORS[random.nextInt(COLORS.length)];
     }
 
 }
@@ -0,0 +1,199 @@
+package entity.blockblast;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The shapes a PieceGenerator deals and how often, parsed from a text file.
+ *
+ * Each piece is a header line {@code piece <name> <weight> [rotate]} followed by its cells
+ * drawn with '#' and '.'. With "rotate" every distinct quarter turn of the drawing is dealt
+ * as its own shape with the same weight, named {@code <name>:<turns>} after the first. Lines
+ * starting with '#' before a header are comments. Every shape is moved so its cells start at
+ * (0, 0), so each anchor it can be placed at is on the board and fits in a Replay move.
+ * Shapes are interned while parsing, so their masks are built once when the library loads.
+ */
+public final class PieceLibrary {
+    /** Largest piece, in either direction; saved games store pieces in an 8x8 box. */
+    public static final int MAX_PIECE_SIZE = 8;
+    private static final String STANDARD_RESOURCE = "/blockblast/pieces.txt";
+    private static volatile PieceLibrary standard;
+
+    private final Shape[] shapes;
+    private final String[] names;
+    private final int[] cumulativeWeights;
+
+    private PieceLibrary(List<Shape> shapes, List<String> names, List<Integer> weights) {
+        if (shapes.isEmpty()) {
+            throw new IllegalArgumentException("Piece library has no pieces");
+        }
+        if (names.size() != new HashSet<>(names).size()) {
+            throw new IllegalArgumentException("Piece names must be unique");
+        }
+        this.shapes = shapes.toArray(new Shape[0]);
+        this.names = names.toArray(new String[0]);
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            total = Math.addExact(total, weights.get(i));
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /** The library bundled with the game. Replays and saves are only valid against this order. */
+    public static PieceLibrary standard() {
+        PieceLibrary library = standard;
+        if (library == null) {
+            try (InputStream in = PieceLibrary.class.getResourceAsStream(STANDARD_RESOURCE)) {
+                if (in == null) throw new IllegalStateException("Missing resource " + STANDARD_RESOURCE);
+                library = parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load " + STANDARD_RESOURCE, e);
+            }
+            standard = library;
+        }
+        return library;
+    }
+
+    public static PieceLibrary parse(Reader reader) throws IOException {
+        List<Shape> shapes = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        BufferedReader in = new BufferedReader(reader);
+        String header = null;
+        List<String> drawing = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line = in.readLine(); ; line = in.readLine()) {
+            lineNumber++;
+            String trimmed = line == null ? "" : line.strip();
+            if (line == null || trimmed.startsWith("piece ") || (trimmed.isEmpty() && header != null)) {
+                if (header != null) {
+                    addPiece(header, drawing, shapes, names, weights);
+                    header = null;
+                    drawing.clear();
+                }
+                if (line == null) break;
+                if (!trimmed.isEmpty()) header = trimmed;
+            } else if (header != null) {
+                drawing.add(trimmed);
+            } else if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected a piece header");
+            }
+        }
+        return new PieceLibrary(shapes, names, weights);
+    }
+
+    private static void addPiece(String header, List<String> drawing, List<Shape> shapes, List<String> names,
+                                 List<Integer> weights) {
+        String[] fields = header.split("\\s+");
+        if (fields.length < 3 || fields.length > 4 || (fields.length == 4 && !fields[3].equals("rotate"))) {
+            throw new IllegalArgumentException("Bad piece header: " + header);
+        }
+        int weight;
+        try {
+            weight = Integer.parseInt(fields[2]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad weight for piece " + fields[1] + ": " + fields[2]);
+        }
+        if (weight < 1) {
+            throw new IllegalArgumentException("Weight of piece " + fields[1] + " must be positive");
+        }
+
+        List<Position> cells = new ArrayList<>();
+        for (int r = 0; r < drawing.size(); r++) {
+            String row = drawing.get(r);
+            for (int c = 0; c < row.length(); c++) {
+                char ch = row.charAt(c);
+                if (ch == '#') {
+                    cells.add(new Position(r, c));
+                } else if (ch != '.') {
+                    throw new IllegalArgumentException("Bad cell '" + ch + "' in piece " + fields[1]);
+                }
+            }
+        }
+        if (cells.isEmpty()) {
+            throw new IllegalArgumentException("Piece " + fields[1] + " has no cells");
+        }
+
+        Shape shape = normalise(Shape.of(cells));
+        if (shape.getHeight() > MAX_PIECE_SIZE || shape.getWidth() > MAX_PIECE_SIZE) {
+            throw new IllegalArgumentException("Piece " + fields[1] + " is larger than "
+                    + MAX_PIECE_SIZE + "x" + MAX_PIECE_SIZE);
+        }
+        int turns = fields.length == 4 ? 4 : 1;
+        List<Shape> seen = new ArrayList<>(turns);
+        for (int turn = 0; turn < turns; turn++) {
+            if (!seen.contains(shape)) {
+                seen.add(shape);
+                shapes.add(shape);
+                names.add(turn == 0 ? fields[1] : fields[1] + ":" + turn);
+                weights.add(weight);
+            }
+            shape = rotate(shape);
+        }
+    }
+
+    /** The shape moved so its cells start at (0, 0). */
+    static Shape normalise(Shape shape) {
+        if (shape.getRowOffset() == 0 && shape.getColOffset() == 0) return shape;
+        List<Position> moved = new ArrayList<>(shape.getSize());
+        for (Position p : shape.getCells()) {
+            moved.add(new Position(p.row - shape.getRowOffset(), p.col - shape.getColOffset()));
+        }
+        return Shape.of(moved);
+    }
+
+    /** The shape turned a quarter clockwise, with its cells starting at (0, 0). */
+    static Shape rotate(Shape shape) {
+        int minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE, minCol = Integer.MAX_VALUE;
+        for (Position p : shape.getCells()) {
+            minRow = Math.min(minRow, p.row);
+            maxRow = Math.max(maxRow, p.row);
+            minCol = Math.min(minCol, p.col);
+        }
+        List<Position> turned = new ArrayList<>(shape.getSize());
+        for (Position p : shape.getCells()) {
+            turned.add(new Position(p.col - minCol, maxRow - p.row));
+        }
+        return Shape.of(turned);
+    }
+
+    /** Draws a shape index with probability proportional to its weight. */
+    int pick(SplittableRandom random) {
+        int x = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = Arrays.binarySearch(cumulativeWeights, x + 1);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    Shape shape(int index) {
+        return shapes[index];
+    }
+
+    /** The shapes in the order of their type index. */
+    public List<Shape> getShapes() {
+        return List.of(shapes);
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /** Type index of the shape with the given name, or -1 if there is none. */
+    public int indexOf(String name) {
+        return Arrays.asList(names).indexOf(name);
+    }
+
+    public int getWeight(int index) {
+        return index == 0 ? cumulativeWeights[0] : cumulativeWeights[index] - cumulativeWeights[index - 1];
+    }
+}
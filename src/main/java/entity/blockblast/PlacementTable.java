@@ -0,0 +1,66 @@
+package entity.blockblast;
+
+import java.util.Arrays;
+
+/**
+ * Occupancy mask of one shape at every anchor of one board size.
+ * The mask for anchor {@code baseRow * cols + baseCol} is the run of (word, bits) entries
+ * from {@code start[anchor]} to {@code start[anchor + 1]}; anchors where the shape does not
+ * fit inside the board have no entries. On an 8x8 board every legal anchor is one entry.
+ */
+final class PlacementTable {
+    private final int[] start;
+    private final int[] entryWord;
+    private final long[] entryBits;
+
+    PlacementTable(BoardGeometry geometry, Shape shape) {
+        int rows = geometry.rows;
+        int cols = geometry.cols;
+        int height = shape.getHeight();
+        int anchors = rows * cols;
+
+        start = new int[anchors + 1];
+        int[] words = new int[anchors * Math.max(1, height)];
+        long[] bits = new long[words.length];
+        int n = 0;
+        for (int baseRow = 0; baseRow < rows; baseRow++) {
+            for (int baseCol = 0; baseCol < cols; baseCol++) {
+                start[baseRow * cols + baseCol] = n;
+                int top = baseRow + shape.getRowOffset();
+                int left = baseCol + shape.getColOffset();
+                if (height == 0 || top < 0 || left < 0 || top + height > rows || left + shape.getWidth() > cols) {
+                    continue;
+                }
+                for (int i = 0; i < height; i++) {
+                    int r = top + i;
+                    long mask = shape.getRowBits(i) << (geometry.rowShift[r] + left);
+                    if (n > start[baseRow * cols + baseCol] && words[n - 1] == geometry.rowWord[r]) {
+                        bits[n - 1] |= mask;
+                    } else {
+                        words[n] = geometry.rowWord[r];
+                        bits[n] = mask;
+                        n++;
+                    }
+                }
+            }
+        }
+        start[anchors] = n;
+        this.entryWord = Arrays.copyOf(words, n);
+        this.entryBits = Arrays.copyOf(bits, n);
+    }
+
+    /** Whether the shape fits at the anchor and none of its cells are occupied. */
+    boolean isFree(long[] occupancy, int anchor) {
+        int from = start[anchor];
+        int to = start[anchor + 1];
+        if (from == to) {
+            return false;
+        }
+        for (int e = from; e < to; e++) {
+            if ((occupancy[entryWord[e]] & entryBits[e]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
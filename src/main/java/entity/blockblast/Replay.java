@@ -0,0 +1,106 @@
+package entity.blockblast;
+
+import java.util.Arrays;
+
+/**
+ * A recorded game: the board size, the seed its pieces were dealt from and how they were dealt
+ * (see PieceGenerator.getDealMode()), every move in order and the score the player finished
+ * with. Moves are packed as
+ * {@code (pieceIndex * rows + row) * cols + col}, so anchors must be on the board; library
+ * shapes all start at (0, 0), so every anchor a player can use is.
+ */
+public final class Replay {
+    private final int rows;
+    private final int cols;
+    private final int traySize;
+    private final long seed;
+    private final int dealMode;
+    private final int[] moves;
+    private final int finalScore;
+
+    public Replay(int rows, int cols, int traySize, long seed, int[] moves, int finalScore) {
+        this(rows, cols, traySize, seed, 0, moves, finalScore);
+    }
+
+    public Replay(int rows, int cols, int traySize, long seed, int dealMode, int[] moves, int finalScore) {
+        if (rows < 1 || cols < 1 || traySize < 1) {
+            throw new IllegalArgumentException("Invalid replay dimensions");
+        }
+        if (dealMode < 0) {
+            throw new IllegalArgumentException("Invalid deal mode " + dealMode);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.traySize = traySize;
+        this.seed = seed;
+        this.dealMode = dealMode;
+        this.moves = moves.clone();
+        this.finalScore = finalScore;
+    }
+
+    public static int packMove(int rows, int cols, int pieceIndex, int row, int col) {
+        if (pieceIndex < 0 || row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IllegalArgumentException("Cannot pack move " + pieceIndex + " at (" + row + ", " + col
+                    + ") on a " + rows + "x" + cols + " board");
+        }
+        return (pieceIndex * rows + row) * cols + col;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getTraySize() {
+        return traySize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getDealMode() {
+        return dealMode;
+    }
+
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    /** The packed form of move {@code i}. */
+    public int getMove(int i) {
+        return moves[i];
+    }
+
+    public int getPieceIndex(int i) {
+        return moves[i] / cols / rows;
+    }
+
+    public int getRow(int i) {
+        return moves[i] / cols % rows;
+    }
+
+    public int getCol(int i) {
+        return moves[i] % cols;
+    }
+
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Replay)) return false;
+        Replay other = (Replay) o;
+        return rows == other.rows && cols == other.cols && traySize == other.traySize
+                && seed == other.seed && dealMode == other.dealMode && finalScore == other.finalScore && Arrays.equals(moves, other.moves);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(seed) + Arrays.hashCode(moves);
+    }
+}
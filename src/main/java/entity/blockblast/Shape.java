@@ -0,0 +1,101 @@
+package entity.blockblast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable, interned set of cells making up a piece.
+ * Every distinct cell set is registered once and given a small id, which the per-board-size
+ * placement tables are indexed by. Each shape also owns one shared Piece per colour.
+ */
+public final class Shape {
+    private static final Map<String, Shape> REGISTRY = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private final int id;
+    private final List<Position> cells;
+    private final int rowOffset;
+    private final int colOffset;
+    private final int height;
+    private final int width;
+    private final long[] rowBits;
+    private final long boxMask;
+    private final Piece[] pieces;
+
+    private Shape(int id, List<Position> cells) {
+        this.id = id;
+        this.cells = Collections.unmodifiableList(cells);
+
+        int minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE;
+        int minCol = Integer.MAX_VALUE, maxCol = Integer.MIN_VALUE;
+        for (Position cell : cells) {
+            minRow = Math.min(minRow, cell.row);
+            maxRow = Math.max(maxRow, cell.row);
+            minCol = Math.min(minCol, cell.col);
+            maxCol = Math.max(maxCol, cell.col);
+        }
+        this.rowOffset = cells.isEmpty() ? 0 : minRow;
+        this.colOffset = cells.isEmpty() ? 0 : minCol;
+        this.height = cells.isEmpty() ? 0 : maxRow - minRow + 1;
+        this.width = cells.isEmpty() ? 0 : maxCol - minCol + 1;
+        if (width > Long.SIZE) {
+            throw new IllegalArgumentException("Shape cannot be wider than " + Long.SIZE + " cells");
+        }
+
+        this.rowBits = new long[height];
+        long box = 0L;
+        for (Position cell : cells) {
+            rowBits[cell.row - rowOffset] |= 1L << (cell.col - colOffset);
+            box |= 1L << ((cell.row - rowOffset) * 8 + cell.col - colOffset);
+        }
+        this.boxMask = height <= 8 && width <= 8 ? box : 0L;
+
+        PieceColor[] colors = PieceColor.values();
+        this.pieces = new Piece[colors.length];
+        for (PieceColor color : colors) {
+            pieces[color.ordinal()] = new Piece(this, color);
+        }
+    }
+
+    /** Returns the shared shape for the given cells, registering it on first use. */
+    public static Shape of(List<Position> cells) {
+        List<Position> sorted = new ArrayList<>(cells);
+        sorted.sort(Comparator.comparingInt((Position p) -> p.row).thenComparingInt(p -> p.col));
+        StringBuilder key = new StringBuilder();
+        List<Position> unique = new ArrayList<>(sorted.size());
+        Position last = null;
+        for (Position p : sorted) {
+            if (last != null && last.row == p.row && last.col == p.col) continue;
+            unique.add(p);
+            key.append(p.row).append(',').append(p.col).append(';');
+            last = p;
+        }
+        return REGISTRY.computeIfAbsent(key.toString(), k -> new Shape(NEXT_ID.getAndIncrement(), unique));
+    }
+
+    /** Returns the shared, immutable piece of this shape in the given colour. */
+    public Piece piece(PieceColor color) {
+        return pieces[color.ordinal()];
+    }
+
+    public int getId() { return id; }
+    public List<Position> getCells() { return cells; }
+    public int getSize() { return cells.size(); }
+    public int getHeight() { return height; }
+    public int getWidth() { return width; }
+
+    /**
+     * The cells as one long, bit {@code row * 8 + col} relative to the bounding box; 0 for
+     * shapes larger than 8x8. Equal masks mean equal shapes up to translation.
+     */
+    public long getBoxMask() { return boxMask; }
+
+    int getRowOffset() { return rowOffset; }
+    int getColOffset() { return colOffset; }
+    long getRowBits(int row) { return rowBits[row]; }
+}
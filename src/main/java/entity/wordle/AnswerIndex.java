@@ -0,0 +1,122 @@
+package entity.wordle;
+
+import java.util.List;
+
+/**
+ * Bitsets over an answer list for narrowing down the possible answers. A candidate set is a
+ * long[] with one bit per answer, in list order. For every position and letter there is a
+ * bitset of the answers with that letter there, and for every letter and k = 1..5 one of the
+ * answers with at least k of that letter. A guess's feedback narrows a set with a few ANDs:
+ * green letters must be in place and other guess letters must not; each letter must occur at
+ * least as often as it was shown green or yellow, and exactly that often if it was also grey
+ * (so a letter shown only grey is absent).
+ *
+ * An index is immutable and shared by every game over the same answer list.
+ */
+public final class AnswerIndex {
+    private static final int LETTERS = 26;
+
+    private final List<String> answers;
+    private final int words;
+    private final long[][] letterAt;     // [position * 26 + letter]
+    private final long[][] atLeast;      // [letter * 5 + (k - 1)]
+
+    public AnswerIndex(List<String> answers) {
+        this.answers = List.copyOf(answers);
+        this.words = (answers.size() + 63) >>> 6;
+        this.letterAt = new long[WordleGame.WORD_LENGTH * LETTERS][words];
+        this.atLeast = new long[LETTERS * WordleGame.WORD_LENGTH][words];
+        int[] counts = new int[LETTERS];
+        for (int a = 0; a < this.answers.size(); a++) {
+            String answer = this.answers.get(a).toLowerCase();
+            if (answer.length() != WordleGame.WORD_LENGTH) {
+                throw new IllegalArgumentException("Answer must be length " + WordleGame.WORD_LENGTH + ": " + answer);
+            }
+            long bit = 1L << a;
+            for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+                int letter = letter(answer.charAt(i));
+                letterAt[i * LETTERS + letter][a >>> 6] |= bit;
+                atLeast[letter * WordleGame.WORD_LENGTH + counts[letter]++][a >>> 6] |= bit;
+            }
+            for (int i = 0; i < WordleGame.WORD_LENGTH; i++) counts[letter(answer.charAt(i))] = 0;
+        }
+    }
+
+    public List<String> getAnswers() {
+        return answers;
+    }
+
+    /** A new set holding every answer. */
+    public long[] all() {
+        long[] set = new long[words];
+        for (int a = 0; a < answers.size(); a += 64) {
+            int n = Math.min(64, answers.size() - a);
+            set[a >>> 6] = n == 64 ? -1L : (1L << n) - 1;
+        }
+        return set;
+    }
+
+    /** Removes from the set, in place, every answer that would not give the guess this feedback. */
+    public void narrow(long[] set, CharSequence guess, int feedback) {
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            long[] here = letterAt[i * LETTERS + letter(guess.charAt(i))];
+            if (Feedback.state(feedback, i) == LetterState.CORRECT) and(set, here);
+            else andNot(set, here);
+        }
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            char c = guess.charAt(i);
+            if (indexOf(guess, c, i) < i) continue; // each letter once, at its first position
+            int shown = 0;
+            boolean grey = false;
+            for (int j = i; j < WordleGame.WORD_LENGTH; j++) {
+                if (guess.charAt(j) != c) continue;
+                if (Feedback.state(feedback, j) == LetterState.ABSENT) grey = true;
+                else shown++;
+            }
+            int base = letter(c) * WordleGame.WORD_LENGTH;
+            if (shown > 0) and(set, atLeast[base + shown - 1]);
+            if (grey && shown < WordleGame.WORD_LENGTH) andNot(set, atLeast[base + shown]);
+        }
+    }
+
+    public static int count(long[] set) {
+        int n = 0;
+        for (long w : set) n += Long.bitCount(w);
+        return n;
+    }
+
+    /** The answer indices in the set, in order. */
+    public static int[] indices(long[] set) {
+        int[] out = new int[count(set)];
+        int n = 0;
+        for (int w = 0; w < set.length; w++) {
+            for (long bits = set[w]; bits != 0; bits &= bits - 1) {
+                out[n++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return out;
+    }
+
+    public static boolean contains(long[] set, int answer) {
+        return (set[answer >>> 6] >>> answer & 1L) != 0;
+    }
+
+    private static void and(long[] set, long[] mask) {
+        for (int w = 0; w < set.length; w++) set[w] &= mask[w];
+    }
+
+    private static void andNot(long[] set, long[] mask) {
+        for (int w = 0; w < set.length; w++) set[w] &= ~mask[w];
+    }
+
+    private static int indexOf(CharSequence s, char c, int before) {
+        for (int i = 0; i < before; i++) if (s.charAt(i) == c) return i;
+        return before;
+    }
+
+    private static int letter(char c) {
+        int i = (c | 0x20) - 'a';
+        if (i < 0 || i >= LETTERS) throw new IllegalArgumentException("Not a letter a-z: '" + c + "'");
+        return i;
+    }
+}
@@ -0,0 +1,91 @@
+package entity.wordle;
+
+import java.util.List;
+
+/**
+ * Feedback for a whole guess packed into one int: a base-3 number with one digit per
+ * position, position 0 lowest, where ABSENT is 0, PRESENT 1 and CORRECT 2. Codes run from
+ * 0 (nothing matches) to ALL_CORRECT (242), so they index small arrays directly.
+ */
+public final class Feedback {
+    public static final int CODES = 243;
+    public static final int ALL_CORRECT = CODES - 1;
+
+    private static final int[] POWERS = {1, 3, 9, 27, 81};
+    private static final LetterState[] BY_DIGIT = {LetterState.ABSENT, LetterState.PRESENT, LetterState.CORRECT};
+
+    private Feedback() { }
+
+    /**
+     * Scores a guess against an answer without allocating. Letters left over after the exact
+     * matches are counted in a 26-slot counter of 4-bit slots packed into two longs, and each
+     * other guess letter is PRESENT while its counter is positive. Words must be five letters
+     * a-z, in either case.
+     */
+    public static int of(CharSequence guess, CharSequence answer) {
+        if (guess.length() != WordleGame.WORD_LENGTH || answer.length() != WordleGame.WORD_LENGTH)
+            throw new IllegalArgumentException("Both guess and answer must be length " + WordleGame.WORD_LENGTH);
+
+        int code = 0;
+        int unmatched = 0;
+        long low = 0L, high = 0L; // counters for letters a-p and q-z
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            int g = letter(guess.charAt(i));
+            int a = letter(answer.charAt(i));
+            if (g == a) {
+                code += 2 * POWERS[i];
+            } else {
+                unmatched |= 1 << i;
+                if (a < 16) low += 1L << (a << 2);
+                else high += 1L << ((a - 16) << 2);
+            }
+        }
+        for (; unmatched != 0; unmatched &= unmatched - 1) {
+            int i = Integer.numberOfTrailingZeros(unmatched);
+            int g = letter(guess.charAt(i));
+            if (g < 16) {
+                long slot = 1L << (g << 2);
+                if ((low >>> (g << 2) & 0xF) != 0) {
+                    low -= slot;
+                    code += POWERS[i];
+                }
+            } else {
+                long slot = 1L << ((g - 16) << 2);
+                if ((high >>> ((g - 16) << 2) & 0xF) != 0) {
+                    high -= slot;
+                    code += POWERS[i];
+                }
+            }
+        }
+        return code;
+    }
+
+    /** The state of one position of a feedback code. */
+    public static LetterState state(int code, int position) {
+        return BY_DIGIT[code / POWERS[position] % 3];
+    }
+
+    /** Decodes a feedback code into one state per position, for presentation. */
+    public static List<LetterState> states(int code) {
+        if (code < 0 || code >= CODES) throw new IllegalArgumentException("Bad feedback code " + code);
+        return List.of(state(code, 0), state(code, 1), state(code, 2), state(code, 3), state(code, 4));
+    }
+
+    /** Encodes one state per position back into a feedback code. */
+    public static int encode(List<LetterState> states) {
+        if (states.size() != WordleGame.WORD_LENGTH)
+            throw new IllegalArgumentException("Feedback needs " + WordleGame.WORD_LENGTH + " states");
+        int code = 0;
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            LetterState s = states.get(i);
+            code += (s == LetterState.CORRECT ? 2 : s == LetterState.PRESENT ? 1 : 0) * POWERS[i];
+        }
+        return code;
+    }
+
+    private static int letter(char c) {
+        int i = (c | 0x20) - 'a';
+        if (i < 0 || i >= 26) throw new IllegalArgumentException("Not a letter a-z: '" + c + "'");
+        return i;
+    }
+}
@@ -3,15 +3,32 @@ package entity.wordle;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * A submitted guess and its feedback code (see Feedback). The per-letter states are only
+ * decoded when asked for, for presentation.
+ */
 public final class Guess {
     private final String guess; // normalized lower-case
-    private final List<LetterState> states;
+    private final int feedback;
+    private List<LetterState> states; // decoded on first use; the list is immutable, so races are harmless
 
     public Guess(String guess, List<LetterState> states) {
+        this(guess, Feedback.encode(states));
+    }
+
+    public Guess(String guess, int feedback) {
+        if (feedback < 0 || feedback >= Feedback.CODES) throw new IllegalArgumentException("Bad feedback code " + feedback);
         this.guess = Objects.requireNonNull(guess).toLowerCase();
-        this.states = List.copyOf(states);
+        this.feedback = feedback;
     }
 
     public String getGuess() { return guess; }
-    public List<LetterState> getStates() { return states; }
+    public int getFeedback() { return feedback; }
+    public boolean isCorrect() { return feedback == Feedback.ALL_CORRECT; }
+
+    public List<LetterState> getStates() {
+        List<LetterState> s = states;
+        if (s == null) states = s = Feedback.states(feedback);
+        return s;
+    }
 }
@@ -0,0 +1,107 @@
+package entity.wordle;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, alphabetical list of distinct five-letter words kept packed in a sorted int[]:
+ * 5 bits per letter ('a' = 1), first letter highest, so packed order is alphabetical order.
+ * The 14,855 valid guesses take about 60 KB. Words are decoded as they are read; indexOf and
+ * find are binary searches that encode the probe without allocating.
+ */
+public final class PackedWords extends AbstractList<String> implements RandomAccess {
+    private final int[] codes;
+
+    private PackedWords(int[] codes) {
+        this.codes = codes;
+    }
+
+    /** The words that are five letters a-z, in either case, lower-cased, sorted and without repeats. */
+    public static PackedWords of(Collection<? extends CharSequence> words) {
+        int[] packed = new int[words.size()];
+        int n = 0;
+        for (CharSequence w : words) {
+            int code = pack(w);
+            if (code >= 0) packed[n++] = code;
+        }
+        packed = Arrays.copyOf(packed, n);
+        Arrays.sort(packed);
+        int distinct = 0;
+        for (int i = 0; i < packed.length; i++) {
+            if (i == 0 || packed[i] != packed[i - 1]) packed[distinct++] = packed[i];
+        }
+        return new PackedWords(Arrays.copyOf(packed, distinct));
+    }
+
+    /** The word packed 5 bits per letter, or -1 unless it is five letters a-z in either case. */
+    public static int pack(CharSequence word) {
+        if (word.length() != WordleGame.WORD_LENGTH) return -1;
+        int code = 0;
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            int letter = (word.charAt(i) | 0x20) - 'a';
+            if (letter < 0 || letter >= 26) return -1;
+            code = code << 5 | (letter + 1);
+        }
+        return code;
+    }
+
+    public static String unpack(int code) {
+        char[] word = new char[WordleGame.WORD_LENGTH];
+        for (int i = WordleGame.WORD_LENGTH - 1; i >= 0; i--, code >>>= 5) word[i] = (char) ('a' + (code & 31) - 1);
+        return new String(word);
+    }
+
+    /** Index of the word in either case, or -1 if it is not in the list. */
+    public int find(CharSequence word) {
+        int code = pack(word);
+        if (code < 0) return -1;
+        int i = Arrays.binarySearch(codes, code);
+        return i >= 0 ? i : -1;
+    }
+
+    @Override
+    public String get(int index) {
+        return unpack(codes[index]);
+    }
+
+    @Override
+    public int size() {
+        return codes.length;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof String && isLowerCase((String) o) ? find((String) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof PackedWords) return Arrays.equals(codes, ((PackedWords) o).codes);
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private static boolean isLowerCase(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') return false;
+        }
+        return true;
+    }
+}
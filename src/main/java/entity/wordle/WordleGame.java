@@ -1,9 +1,7 @@
 package entity.wordle;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 public class WordleGame {
@@ -14,11 +12,19 @@ public class WordleGame {
     private final List<Guess> guesses = new ArrayList<>();
     private boolean finished = false;
     private boolean won = false;
+    private final AnswerIndex index;  // null when the game does not track candidates
+    private final long[] candidates;  // answers still consistent with every guess's feedback
 
     public WordleGame(String answer) {
+        this(answer, null);
+    }
+
+    public WordleGame(String answer, AnswerIndex index) {
         Objects.requireNonNull(answer);
         if (answer.length() != WORD_LENGTH) throw new IllegalArgumentException("Answer must be length " + WORD_LENGTH);
         this.answer = answer.toLowerCase();
+        this.index = index;
+        this.candidates = index == null ? null : index.all();
     }
 
     public synchronized Guess submitGuess(String guessRaw) {
@@ -26,11 +32,11 @@ public class WordleGame {
         String guess = Objects.requireNonNull(guessRaw).toLowerCase();
         if (guess.length() != WORD_LENGTH) throw new IllegalArgumentException("Guess must be length " + WORD_LENGTH);
 
-        List<LetterState> states = evaluate(guess, answer);
-        Guess g = new Guess(guess, states);
+        Guess g = new Guess(guess, Feedback.of(guess, answer));
         guesses.add(g);
+        if (index != null) index.narrow(candidates, guess, g.getFeedback());
 
-        if (isWinning(states)) {
+        if (g.isCorrect()) {
             finished = true;
             won = true;
         } else if (guesses.size() >= MAX_ATTEMPTS) {
@@ -44,47 +50,24 @@ public class WordleGame {
     public boolean isFinished() { return finished; }
     public boolean isWon() { return won; }
     public String getAnswer() { return answer; }
+    public AnswerIndex getAnswerIndex() { return index; }
+
+    /** How many answers of the index still fit the feedback, or -1 if candidates are not tracked. */
+    public synchronized int getCandidateCount() {
+        return index == null ? -1 : AnswerIndex.count(candidates);
+    }
 
-    private static boolean isWinning(List<LetterState> states) {
-        for (LetterState s : states) if (s != LetterState.CORRECT) return false;
-        return true;
+    /** A copy of the candidate set over the index's answers, or null if candidates are not tracked. */
+    public synchronized long[] getCandidates() {
+        return candidates == null ? null : candidates.clone();
     }
 
     /**
      * Evaluation algorithm that correctly handles duplicate letters.
-     * Returns a list of LetterState for each position in guess.
+     * Returns a list of LetterState for each position in guess; see Feedback.of for the
+     * allocation-free form.
      */
     public static List<LetterState> evaluate(String guess, String answer) {
-        if (guess.length() != WORD_LENGTH || answer.length() != WORD_LENGTH)
-            throw new IllegalArgumentException("Both guess and answer must be length " + WORD_LENGTH);
-
-        LetterState[] states = new LetterState[WORD_LENGTH];
-        char[] g = guess.toLowerCase().toCharArray();
-        char[] a = answer.toLowerCase().toCharArray();
-
-        Map<Character, Integer> remaining = new HashMap<>();
-        // First pass: mark CORRECT and build remaining counts for non-matching answer letters
-        for (int i = 0; i < WORD_LENGTH; i++) {
-            if (g[i] == a[i]) {
-                states[i] = LetterState.CORRECT;
-            } else {
-                remaining.put(a[i], remaining.getOrDefault(a[i], 0) + 1);
-            }
-        }
-        // Second pass: mark PRESENT or ABSENT
-        for (int i = 0; i < WORD_LENGTH; i++) {
-            if (states[i] == LetterState.CORRECT) continue;
-            char gc = g[i];
-            Integer count = remaining.get(gc);
-            if (count != null && count > 0) {
-                states[i] = LetterState.PRESENT;
-                remaining.put(gc, count - 1);
-            } else {
-                states[i] = LetterState.ABSENT;
-            }
-        }
-        List<LetterState> out = new ArrayList<>(WORD_LENGTH);
-        for (LetterState s : states) out.add(s);
-        return out;
+        return Feedback.states(Feedback.of(guess, answer));
     }
 }
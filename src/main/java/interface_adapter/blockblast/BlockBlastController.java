@@ -1,12 +1,25 @@
 package interface_adapter.blockblast;
 
+import use_case.blockblast.HeatmapInputBoundary;
+import use_case.blockblast.HintInputBoundary;
 import use_case.blockblast.PlacePieceInputBoundary;
 import use_case.blockblast.PlacePieceRequestModel;
 
 public class BlockBlastController {
     private final PlacePieceInputBoundary placePieceUseCase;
+    private final HintInputBoundary hintUseCase;
+    private final HeatmapInputBoundary heatmapUseCase;
     public BlockBlastController(PlacePieceInputBoundary placePieceUseCase) {
+        this(placePieceUseCase, null);
+    }
+    public BlockBlastController(PlacePieceInputBoundary placePieceUseCase, HintInputBoundary hintUseCase) {
+        this(placePieceUseCase, hintUseCase, null);
+    }
+    public BlockBlastController(PlacePieceInputBoundary placePieceUseCase, HintInputBoundary hintUseCase,
+                                HeatmapInputBoundary heatmapUseCase) {
         this.placePieceUseCase = placePieceUseCase;
+        this.hintUseCase = hintUseCase;
+        this.heatmapUseCase = heatmapUseCase;
     }
     public void placePiece(int pieceIndex, int row, int col){
         PlacePieceRequestModel pieceRequestModel = new PlacePieceRequestModel(pieceIndex, row, col);
@@ -15,4 +28,20 @@ public class BlockBlastController {
     public void newGame() {
         placePieceUseCase.newGame();
     }
+    public void undo() {
+        placePieceUseCase.undo();
+    }
+    public void redo() {
+        placePieceUseCase.redo();
+    }
+    public void hint() {
+        if (hintUseCase != null) {
+            hintUseCase.execute();
+        }
+    }
+    public void showHeatmap(boolean show) {
+        if (heatmapUseCase != null) {
+            heatmapUseCase.execute(show);
+        }
+    }
 }
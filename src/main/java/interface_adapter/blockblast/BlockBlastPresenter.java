@@ -1,34 +1,84 @@
 package interface_adapter.blockblast;
 
-import entity.blockblast.Board;
 import entity.blockblast.GameState;
-import entity.blockblast.PieceColor;
+import use_case.blockblast.BoardChangeSet;
+import use_case.blockblast.ChallengeOutputBoundary;
+import use_case.blockblast.HeatmapOutputBoundary;
+import use_case.blockblast.HeatmapSnapshot;
+import use_case.blockblast.HintOutputBoundary;
+import use_case.blockblast.HintResponseModel;
 import use_case.blockblast.PlacePieceOutputBoundary;
+import use_case.blockblast.PlacePieceRequestModel;
 import use_case.blockblast.PlacePieceResponseModel;
+import use_case.blockblast.SurvivalOutputBoundary;
+import use_case.blockblast.SurvivalResponseModel;
 
-public class BlockBlastPresenter implements PlacePieceOutputBoundary {
+import javax.swing.SwingUtilities;
+
+public class BlockBlastPresenter
+        implements PlacePieceOutputBoundary, HintOutputBoundary, SurvivalOutputBoundary, HeatmapOutputBoundary,
+        ChallengeOutputBoundary {
     private final BlockBlastViewModel viewModel;
+    // Newest survival estimate shown, only touched on the EDT.
+    private int survivalGeneration = -1;
+    private int survivalRollouts;
     public BlockBlastPresenter(BlockBlastViewModel viewModel){
         this.viewModel = viewModel;
     }
+    // The view gets a snapshot of the board and a copy of the tray, never the arrays the game mutates.
     public void prepareSuccessView(PlacePieceResponseModel responseModel){
         GameState endgamestate = responseModel.getGameState();
-        Board endBoard = endgamestate.getBoard();
-        int rows = endBoard.getRows();
-        int cols = endBoard.getCols();
-        PieceColor[][] colorGrid = endBoard.getGrid();
-        boolean[][] occupied = new boolean[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                occupied[r][c] = (colorGrid[r][c] != null);
-            }
-        }
-        int score = endgamestate.getScore();
-        boolean gameOver = endgamestate.isGameOver();
-
-        viewModel.setState(occupied, colorGrid, endgamestate.getScore(), endgamestate.isGameOver(), "", endgamestate.getCurrentPieces());
+        viewModel.setState(endgamestate.getBoard().snapshot(), endgamestate.getScore(), endgamestate.isGameOver(), "",
+                endgamestate.getCurrentPieces().clone(), responseModel.getChanges(), responseModel.getPlacements());
     }
     public void prepareFailView(String message){
-        viewModel.setState(viewModel.getBoard(), viewModel.getCellColors(), viewModel.getScore(), viewModel.isGameOver(), message, viewModel.getPieces());
+        viewModel.setState(viewModel.getBoard(), viewModel.getScore(), viewModel.isGameOver(), message,
+                viewModel.getPieces(), BoardChangeSet.NOTHING, viewModel.getPlacements());
+    }
+    // Hints arrive from the solver's worker thread, so they are handed to the EDT, where the board
+    // version is compared against the snapshot the view shows and stale hints are dropped.
+    public void prepareHintView(HintResponseModel responseModel){
+        PlacePieceRequestModel move = responseModel.getResult().getMoves().get(0);
+        SwingUtilities.invokeLater(() -> {
+            if (isCurrent(responseModel.getBoardVersion())) {
+                viewModel.setHint(move.getPieceIndex(), move.getRow(), move.getCol(), "Hint: try the highlighted spot");
+            }
+        });
+    }
+    public void prepareHintFailView(String message){
+        SwingUtilities.invokeLater(() -> viewModel.setHint(-1, 0, 0, message));
+    }
+    public void prepareHintFailView(String message, int boardVersion){
+        SwingUtilities.invokeLater(() -> {
+            if (isCurrent(boardVersion)) viewModel.setHint(-1, 0, 0, message);
+        });
+    }
+    private boolean isCurrent(int boardVersion){
+        return viewModel.getBoard() != null && viewModel.getBoard().getVersion() == boardVersion;
+    }
+    // Estimates arrive from several workers, possibly out of order, so older ones are dropped on the EDT.
+    public void prepareSurvivalView(SurvivalResponseModel responseModel){
+        SwingUtilities.invokeLater(() -> {
+            int generation = responseModel.getGeneration();
+            if (generation < survivalGeneration
+                    || (generation == survivalGeneration && responseModel.getRollouts() <= survivalRollouts)) {
+                return;
+            }
+            survivalGeneration = generation;
+            survivalRollouts = responseModel.getRollouts();
+            viewModel.setSurvival(responseModel.getProbability(), responseModel.getTrays(), responseModel.isComplete());
+        });
+    }
+    public void prepareHeatmapView(HeatmapSnapshot snapshot){
+        viewModel.setHeatmap(snapshot);
+    }
+    public void prepareHeatmapHiddenView(){
+        viewModel.setHeatmap(null);
+    }
+    // Reported during the move, so the message is shown after the move's own view update.
+    public void prepareChallengeSolvedView(String name, int moves, int bestMoves){
+        String message = "Challenge " + name + " solved in " + moves + (moves == 1 ? " move" : " moves")
+                + (moves > bestMoves ? " (best: " + bestMoves + ")" : "!");
+        SwingUtilities.invokeLater(() -> viewModel.setHint(-1, 0, 0, message));
     }
 }
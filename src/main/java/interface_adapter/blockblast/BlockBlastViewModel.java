@@ -1,34 +1,98 @@
 package interface_adapter.blockblast;
 
+import entity.blockblast.BoardSnapshot;
 import entity.blockblast.Piece;
-import entity.blockblast.PieceColor;
+import use_case.blockblast.BoardChangeSet;
+import use_case.blockblast.HeatmapSnapshot;
+import use_case.blockblast.PlacementMap;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 
 public class BlockBlastViewModel {
     public static final String BLOCKBLAST_PROPERTY = "blockblast";
+    public static final String HINT_PROPERTY = "hint";
+    public static final String SURVIVAL_PROPERTY = "survival";
+    public static final String HEATMAP_PROPERTY = "heatmap";
     private final PropertyChangeSupport support = new PropertyChangeSupport(this);
-    private boolean[][] board;
-    private PieceColor[][] cellColors;
+    private BoardSnapshot board;
     private int score;
     private boolean gameOver;
     private String message;
     private Piece[] pieces;
+    private int hintPieceIndex = -1;
+    private int hintRow;
+    private int hintCol;
+    private BoardChangeSet changes = BoardChangeSet.EVERYTHING;
+    private PlacementMap placements;
+    private double survivalProbability = -1;
+    private int survivalTrays;
+    private boolean survivalComplete;
+    private HeatmapSnapshot heatmap;
 
-    public void setState(boolean[][] board,PieceColor[][] cellColors, int score, boolean gameOver, String message, Piece[] pieces) {
+    /**
+     * Sets the state to show; {@code changes} says which cells and tray slots differ from the last state.
+     * The board and tray must not change afterwards, since the view reads them while painting.
+     */
+    public void setState(BoardSnapshot board, int score, boolean gameOver, String message, Piece[] pieces,
+                         BoardChangeSet changes, PlacementMap placements) {
         this.board = board;
-        this.cellColors = cellColors;
         this.score = score;
         this.gameOver = gameOver;
         this.message = message;
         this.pieces = pieces;
+        this.changes = changes;
+        this.placements = placements;
+        this.hintPieceIndex = -1;
         support.firePropertyChange(BLOCKBLAST_PROPERTY, null, null);
     }
 
-    public boolean[][] getBoard() { return board; }
+    public void setHint(int pieceIndex, int row, int col, String message) {
+        this.hintPieceIndex = pieceIndex;
+        this.hintRow = row;
+        this.hintCol = col;
+        this.message = message;
+        support.firePropertyChange(HINT_PROPERTY, null, null);
+    }
+
+    /** Sets the estimated chance of surviving the next {@code trays} trays; may be refined later. */
+    public void setSurvival(double probability, int trays, boolean complete) {
+        this.survivalProbability = probability;
+        this.survivalTrays = trays;
+        this.survivalComplete = complete;
+        support.firePropertyChange(SURVIVAL_PROPERTY, null, null);
+    }
+
+    /** Sets the placement heatmap to overlay on the board, or null to hide it. */
+    public void setHeatmap(HeatmapSnapshot heatmap) {
+        this.heatmap = heatmap;
+        support.firePropertyChange(HEATMAP_PROPERTY, null, null);
+    }
+
+    public HeatmapSnapshot getHeatmap() { return heatmap; }
+
+    /** Estimated chance of surviving the next getSurvivalTrays() trays, or -1 if there is no estimate yet. */
+    public double getSurvivalProbability() { return survivalProbability; }
+
+    public int getSurvivalTrays() { return survivalTrays; }
+
+    /** Whether the estimate is final for this position, rather than still being refined. */
+    public boolean isSurvivalComplete() { return survivalComplete; }
+
+    /** Tray slot of the suggested move, or -1 if there is no hint to show. */
+    public int getHintPieceIndex() { return hintPieceIndex; }
+
+    public int getHintRow() { return hintRow; }
+
+    public int getHintCol() { return hintCol; }
+
+    /** The board to show, or null before the first game starts. */
+    public BoardSnapshot getBoard() { return board; }
+
+    public BoardChangeSet getChanges() { return changes; }
 
-    public PieceColor[][] getCellColors() { return cellColors; }
+    /** Legal anchors of the tray pieces, for previewing a drag; may be null. */
+    public PlacementMap getPlacements() { return placements; }
 
     public int getScore() {
         return score;
@@ -6,13 +6,23 @@ public class WordleController {
     private final StartGameInputBoundary startBoundary;
     private final SubmitGuessInputBoundary submitBoundary;
     private final GameSessionGateway gameSessionGateway;
-
+    private final HintInputBoundary hintBoundary;
 
     public WordleController(StartGameInputBoundary startBoundary, SubmitGuessInputBoundary submitBoundary,
                             GameSessionGateway gameSessionGateway) {
+        this(startBoundary, submitBoundary, gameSessionGateway, null);
+    }
+
+    public WordleController(StartGameInputBoundary startBoundary, SubmitGuessInputBoundary submitBoundary,
+                            GameSessionGateway gameSessionGateway, HintInputBoundary hintBoundary) {
         this.startBoundary = startBoundary;
         this.submitBoundary = submitBoundary;
         this.gameSessionGateway = gameSessionGateway;
+        this.hintBoundary = hintBoundary;
+    }
+
+    public boolean hasHints() {
+        return hintBoundary != null;
     }
 
     public int getScore(String userId) {
@@ -26,4 +36,8 @@ public class WordleController {
     public void submitGuess(String userId, String guess) {
         submitBoundary.submitGuess(new SubmitGuessInputData(userId, guess));
     }
+
+    public void requestHint(String userId, boolean hardMode) {
+        if (hintBoundary != null) hintBoundary.hint(new HintInputData(userId, hardMode));
+    }
 }
@@ -1,7 +1,11 @@
 package interface_adapter.wordle;
 
+import entity.wordle.Guess;
+import use_case.wordle.HintOutputBoundary;
+import use_case.wordle.HintOutputData;
 import use_case.wordle.WordleOutputBoundary;
 import use_case.wordle.WordleOutputData;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import javax.swing.*;
@@ -12,9 +16,11 @@ import wordle.WordleView;
  * Presenter maps use-case output data into the WordleViewModel and pushes it to the UI via a callback.
  * The UI wiring (AppBuilder) should provide a Consumer<WordleViewModel> that sets the model in the ViewManager.
  */
-public class WordlePresenter implements WordleOutputBoundary {
+public class WordlePresenter implements WordleOutputBoundary, HintOutputBoundary {
 
     private final Consumer<WordleViewModel> viewUpdater;
+    // The guesses on screen; only touched on the EDT.
+    private List<Guess> shownGuesses = List.of();
 
     public WordlePresenter(Consumer<WordleViewModel> viewUpdater) {
         this.viewUpdater = Objects.requireNonNull(viewUpdater);
@@ -22,16 +28,36 @@ public class WordlePresenter implements WordleOutputBoundary {
 
     @Override
     public void presentStart(WordleOutputData data) {
-        WordleViewModel vm = new WordleViewModel(data.guesses, data.attemptsLeft, data.finished, data.won, data.answerIfFinished, data.message);
+        shownGuesses = data.guesses;
+        WordleViewModel vm = new WordleViewModel(data.guesses, data.attemptsLeft, data.finished, data.won, data.answerIfFinished, data.message, data.answersLeft);
         viewUpdater.accept(vm);
     }
 
     @Override
     public void presentGuessResult(WordleOutputData data) {
-        WordleViewModel vm = new WordleViewModel(data.guesses, data.attemptsLeft, data.finished, data.won, data.answerIfFinished, data.message);
+        shownGuesses = data.guesses;
+        WordleViewModel vm = new WordleViewModel(data.guesses, data.attemptsLeft, data.finished, data.won, data.answerIfFinished, data.message, data.answersLeft);
         viewUpdater.accept(vm);
     }
 
+    /** Hints arrive from the hint worker; one for guesses that are no longer shown is dropped. */
+    @Override
+    public void presentHint(HintOutputData data) {
+        WordleViewModel vm = new WordleViewModel(data.guesses, data.attemptsLeft, false, false, null, data.message, data.answersLeft);
+        SwingUtilities.invokeLater(() -> {
+            if (sameGuesses(data.guesses, shownGuesses)) viewUpdater.accept(vm);
+        });
+    }
+
+    /** Guesses are compared by identity: a game hands out the same Guess objects until it is replaced. */
+    private static boolean sameGuesses(List<Guess> a, List<Guess> b) {
+        if (a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            if (a.get(i) != b.get(i)) return false;
+        }
+        return true;
+    }
+
     @Override
     public void presentError(String message) {
         // Keep UI simple: present an empty model with message or a model notifier.
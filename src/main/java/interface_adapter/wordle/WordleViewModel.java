@@ -19,8 +19,13 @@ public class WordleViewModel {
     public final boolean won;
     public final String answerIfFinished;
     public final String message;
+    public final int answersLeft; // -1 when unknown
 
     public WordleViewModel(List<Guess> guesses, int attemptsLeft, boolean finished, boolean won, String answerIfFinished, String message) {
+        this(guesses, attemptsLeft, finished, won, answerIfFinished, message, -1);
+    }
+
+    public WordleViewModel(List<Guess> guesses, int attemptsLeft, boolean finished, boolean won, String answerIfFinished, String message, int answersLeft) {
         this.guessWords = guesses.stream().map(Guess::getGuess).collect(Collectors.toList());
         this.guessStates = new ArrayList<>();
         for (Guess g : guesses) guessStates.add(g.getStates());
@@ -29,5 +34,6 @@ public class WordleViewModel {
         this.won = won;
         this.answerIfFinished = answerIfFinished;
         this.message = message;
+        this.answersLeft = answersLeft;
     }
 }
@@ -0,0 +1,31 @@
+package use_case.blockblast;
+
+import entity.blockblast.GameEngine;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One game held by a SessionRegistry. All access goes through the registry, which holds the
+ * session's lock, so a session only ever has one writer at a time.
+ */
+public final class BlockBlastSession {
+    private final String id;
+    private final GameEngine engine;
+    final ReentrantLock lock = new ReentrantLock();
+    volatile long lastAccess;
+    boolean evicted;
+
+    BlockBlastSession(String id, GameEngine engine, long now) {
+        this.id = id;
+        this.engine = engine;
+        this.lastAccess = now;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+}
@@ -0,0 +1,66 @@
+package use_case.blockblast;
+
+import entity.blockblast.Piece;
+
+/**
+ * What a move changed, so that views only redraw the affected cells and tray slots:
+ * the piece placed and its anchor, the rows and columns cleared as bitmasks, and the tray
+ * slots whose piece changed as a bitmask. New games, undo and redo report everything.
+ */
+public final class BoardChangeSet {
+    public static final BoardChangeSet EVERYTHING = new BoardChangeSet(true, null, 0, 0, 0L, 0L, -1);
+    public static final BoardChangeSet NOTHING = new BoardChangeSet(false, null, 0, 0, 0L, 0L, 0);
+
+    private final boolean everything;
+    private final Piece placedPiece;
+    private final int row;
+    private final int col;
+    private final long clearedRows;
+    private final long clearedCols;
+    private final int changedSlots;
+
+    public BoardChangeSet(Piece placedPiece, int row, int col, long clearedRows, long clearedCols, int changedSlots) {
+        this(false, placedPiece, row, col, clearedRows, clearedCols, changedSlots);
+    }
+
+    private BoardChangeSet(boolean everything, Piece placedPiece, int row, int col,
+                           long clearedRows, long clearedCols, int changedSlots) {
+        this.everything = everything;
+        this.placedPiece = placedPiece;
+        this.row = row;
+        this.col = col;
+        this.clearedRows = clearedRows;
+        this.clearedCols = clearedCols;
+        this.changedSlots = changedSlots;
+    }
+
+    /** Whether the whole board and tray should be treated as changed. */
+    public boolean isEverything() {
+        return everything;
+    }
+
+    /** The piece whose cells were filled, or null if no piece was placed. */
+    public Piece getPlacedPiece() {
+        return placedPiece;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    public long getClearedRows() {
+        return clearedRows;
+    }
+
+    public long getClearedCols() {
+        return clearedCols;
+    }
+
+    public boolean isSlotChanged(int slot) {
+        return ((changedSlots >>> slot) & 1) != 0;
+    }
+}
@@ -0,0 +1,14 @@
+package use_case.blockblast;
+
+import entity.blockblast.GameEngine;
+
+import java.util.Random;
+
+/**
+ * Chooses moves for headless play. Each simulation worker gets its own policy instance,
+ * so implementations may keep scratch state without locking.
+ */
+public interface BotPolicy {
+    /** Returns the next move, or null if no piece in the tray fits. */
+    PlacePieceRequestModel chooseMove(GameEngine engine, Random random);
+}
@@ -0,0 +1,83 @@
+package use_case.blockblast;
+
+import entity.blockblast.Challenge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Imports a challenge pack: every challenge is searched for a shortest solution, in parallel
+ * on the pool, and only the ones proven solvable are kept, with their solutions. Challenges
+ * that are unsolvable, or too large to prove within the node budget, are rejected.
+ */
+public class ChallengeImporter {
+    private final ForkJoinPool pool;
+    private final long nodeBudget;
+
+    public ChallengeImporter(ForkJoinPool pool, long nodeBudget) {
+        this.pool = pool;
+        this.nodeBudget = nodeBudget;
+    }
+
+    /** The outcome of an import: the accepted challenges in pack order, and why the others were rejected. */
+    public static final class Report {
+        private final List<Challenge> accepted;
+        private final List<String> rejected;
+
+        Report(List<Challenge> accepted, List<String> rejected) {
+            this.accepted = List.copyOf(accepted);
+            this.rejected = List.copyOf(rejected);
+        }
+
+        public List<Challenge> getAccepted() {
+            return accepted;
+        }
+
+        /** One line per rejected challenge: its name and the reason. */
+        public List<String> getRejected() {
+            return rejected;
+        }
+    }
+
+    public Report importPack(ChallengePackGateway source, ChallengePackGateway target) {
+        Report report = verify(source.load());
+        target.save(report.getAccepted());
+        return report;
+    }
+
+    public Report verify(List<Challenge> challenges) {
+        ThreadLocal<ChallengeSolver> solvers = ThreadLocal.withInitial(() -> new ChallengeSolver(nodeBudget));
+        List<ChallengeSolver.Result> results;
+        try {
+            results = pool.submit(() -> challenges.parallelStream()
+                    .map(challenge -> solvers.get().solve(challenge))
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Challenge import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Challenge import failed", e.getCause());
+        }
+
+        List<Challenge> accepted = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        for (int i = 0; i < challenges.size(); i++) {
+            Challenge challenge = challenges.get(i);
+            ChallengeSolver.Result result = results.get(i);
+            switch (result.getStatus()) {
+                case SOLVED:
+                    accepted.add(challenge.withSolution(result.getMoves()));
+                    break;
+                case UNSOLVABLE:
+                    rejected.add(challenge.getName() + ": no sequence of moves empties the board");
+                    break;
+                default:
+                    rejected.add(challenge.getName() + ": not proven within " + nodeBudget + " positions");
+            }
+        }
+        return new Report(accepted, rejected);
+    }
+}
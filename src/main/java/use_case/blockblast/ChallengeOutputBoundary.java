@@ -0,0 +1,6 @@
+package use_case.blockblast;
+
+public interface ChallengeOutputBoundary {
+    /** The board of the named challenge was emptied in {@code moves} moves; the best is {@code bestMoves}. */
+    void prepareChallengeSolvedView(String name, int moves, int bestMoves);
+}
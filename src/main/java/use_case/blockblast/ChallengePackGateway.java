@@ -0,0 +1,12 @@
+package use_case.blockblast;
+
+import entity.blockblast.Challenge;
+
+import java.util.List;
+
+public interface ChallengePackGateway {
+    List<Challenge> load();
+
+    /** Stores the challenges, with their solutions where known. */
+    void save(List<Challenge> challenges);
+}
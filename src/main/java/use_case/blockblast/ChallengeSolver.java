@@ -0,0 +1,475 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.Challenge;
+import entity.blockblast.Piece;
+import entity.blockblast.Position;
+import entity.blockblast.Replay;
+
+import java.util.Arrays;
+
+/**
+ * Proves a challenge solvable by exhaustive search and finds its shortest solution.
+ *
+ * Every order of each tray's pieces and every anchor is tried depth-first on occupancy-only
+ * boards. A first pass allowing every piece settles whether there is a solution at all, which
+ * for most rejected challenges is the whole cost; if there is one, iterative deepening, one
+ * more move per pass, finds a shortest one. The number of moves to reach a position is fixed
+ * by how many pieces have been dealt, so within a pass a position seen before is skipped;
+ * positions are remembered as their packed occupancy bits plus the tray and the pieces left
+ * in it, in an open-addressing table of longs.
+ * Every filled cell has to be cleared by completing its row or column, which needs at least
+ * as many new cells as the emptier of the two; branches whose pieces cannot supply that many
+ * are cut. Until the next line is cleared, lines only gain cells, so a branch is also cut
+ * when no line's gap is a sum of what the pieces left can add to one line, each piece adding
+ * the cells of one of its rows (or columns) or nothing: then no line ever clears again. And
+ * since clearing a rows and b columns at once takes a * cols + b * rows - a * b cells, a branch
+ * is cut when no total the remaining pieces can place, added to the cells on the board, is a
+ * sum of such clears. Pieces of the same shape in one tray are only tried once. A search
+ * that visits more than nodeBudget positions gives up.
+ *
+ * A solver keeps scratch boards between calls, so each thread should use its own.
+ */
+public class ChallengeSolver {
+    public static final long DEFAULT_NODE_BUDGET = 2_000_000;
+    private static final int MAX_PICKED = 8;
+
+    public enum Status { SOLVED, UNSOLVABLE, BUDGET_EXCEEDED }
+
+    /** Outcome of a search; the moves are packed like Replay moves, slot first. */
+    public static final class Result {
+        private final Status status;
+        private final int[] moves;
+        private final long nodes;
+
+        Result(Status status, int[] moves, long nodes) {
+            this.status = status;
+            this.moves = moves;
+            this.nodes = nodes;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        /** The shortest solution, or null unless SOLVED. */
+        public int[] getMoves() {
+            return moves == null ? null : moves.clone();
+        }
+
+        public long getNodes() {
+            return nodes;
+        }
+    }
+
+    private final long nodeBudget;
+    private final PositionSet seen = new PositionSet();
+    private Board[] scratch = new Board[0];
+    private Piece[] pieces;
+    private int traySize;
+    private int limit;
+    private int[] path;
+    private int[] solution;
+    private final int[] pickedRows = new int[MAX_PICKED];
+    private final int[] pickedCols = new int[MAX_PICKED];
+    private final int[] pickedRowGaps = new int[MAX_PICKED];
+    private final int[] pickedColGaps = new int[MAX_PICKED];
+    private final long[] rowMasks = new long[Long.SIZE];
+    // Per piece, bit k set if it can add k cells to one row (rowAdds) or column (colAdds).
+    private long[] rowAdds;
+    private long[] colAdds;
+    // Bit n set if clearing lines can take exactly n cells off the board in total.
+    private long[] clearable;
+    // Per tray, bit n set if a solution can place n cells from the start of that tray on.
+    private long[][] placeableFrom;
+    private long[] placeable;
+    private long nodes;
+
+    public ChallengeSolver() {
+        this(DEFAULT_NODE_BUDGET);
+    }
+
+    public ChallengeSolver(long nodeBudget) {
+        this.nodeBudget = nodeBudget;
+    }
+
+    public Result solve(Challenge challenge) {
+        Board start = challenge.copyBoardWithoutColors();
+        pieces = challenge.getPieces().toArray(new Piece[0]);
+        traySize = challenge.getTraySize();
+        if (scratch.length < pieces.length || (scratch.length > 0 && (scratch[0].getRows() != start.getRows()
+                || scratch[0].getCols() != start.getCols()))) {
+            scratch = new Board[pieces.length];
+            for (int i = 0; i < scratch.length; i++) {
+                scratch[i] = start.copyWithoutColors();
+            }
+        }
+        seen.reset(start.getOccupancyWordCount() + 1);
+        rowAdds = new long[pieces.length];
+        colAdds = new long[pieces.length];
+        for (int i = 0; i < pieces.length; i++) {
+            int[] perRow = new int[start.getRows() + 1];
+            int[] perCol = new int[start.getCols() + 1];
+            for (Position cell : pieces[i].getCells()) {
+                int r = cell.row - minRow(pieces[i]), c = cell.col - minCol(pieces[i]);
+                if (r < perRow.length) perRow[r]++;
+                if (c < perCol.length) perCol[c]++;
+            }
+            for (int n : perRow) rowAdds[i] |= n < Long.SIZE ? 1L << n : 0L;
+            for (int n : perCol) colAdds[i] |= n < Long.SIZE ? 1L << n : 0L;
+        }
+        int cells = start.getRows() * start.getCols();
+        for (Piece piece : pieces) cells += piece.getShape().getSize();
+        clearable = clearableTotals(start.getRows(), start.getCols(), cells);
+        int trays = (pieces.length + traySize - 1) / traySize;
+        placeableFrom = new long[trays + 1][clearable.length];
+        for (int t = trays - 1; t >= 0; t--) {
+            placeable(placeableFrom[t], t, trayMask(t));
+        }
+        placeable = new long[clearable.length];
+        path = new int[pieces.length];
+        solution = null;
+        nodes = 0;
+
+        try {
+            limit = pieces.length;
+            if (!search(start, 0, trayMask(0), 0)) {
+                return new Result(Status.BUDGET_EXCEEDED, null, nodes);
+            }
+            if (solution == null) {
+                return new Result(Status.UNSOLVABLE, null, nodes);
+            }
+            int[] found = solution;
+            for (limit = 1; limit < found.length; limit++) {
+                seen.clear();
+                solution = null;
+                if (!search(start, 0, trayMask(0), 0)) {
+                    return new Result(Status.BUDGET_EXCEEDED, null, nodes);
+                }
+                if (solution != null) {
+                    return new Result(Status.SOLVED, solution, nodes);
+                }
+            }
+            return new Result(Status.SOLVED, found, nodes);
+        } finally {
+            seen.clear();
+        }
+    }
+
+    /** Searches on from a position; returns false if the node budget ran out. */
+    private boolean search(Board board, int tray, int remaining, int depth) {
+        if (remaining == 0) {
+            tray++;
+            remaining = trayMask(tray);
+            if (remaining == 0) return true;
+        }
+        if (!canFill(board, cellsWithin(tray, remaining, limit - depth))) return true;
+        if (!canClearALine(board, tray, remaining)) return true;
+        if (!canClearAll(board, tray, remaining)) return true;
+        if (!seen.add(board, tray, remaining)) return true;
+
+        int first = tray * traySize;
+        for (int slot = 0; slot < traySize; slot++) {
+            if ((remaining & 1 << slot) == 0 || sameShapeEarlier(first, remaining, slot)) continue;
+            Piece piece = pieces[first + slot];
+            for (int r = 0; r < board.getRows(); r++) {
+                for (long cols = board.legalColumns(piece, r); cols != 0; cols &= cols - 1) {
+                    if (++nodes > nodeBudget) return false;
+                    int c = Long.numberOfTrailingZeros(cols);
+                    Board next = scratch[depth];
+                    next.copyFrom(board);
+                    next.place(piece, r, c);
+                    next.clearFullLines();
+                    path[depth] = Replay.packMove(board.getRows(), board.getCols(), slot, r, c);
+                    if (next.isEmpty()) {
+                        solution = Arrays.copyOf(path, depth + 1);
+                        return true;
+                    }
+                    if (depth + 1 < limit) {
+                        if (!search(next, tray, remaining & ~(1 << slot), depth + 1)) return false;
+                        if (solution != null) return true;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the pieces can place as many cells as a lower bound on the cells that must still
+     * be placed; stops as soon as some choice of lines is within reach. Each filled cell needs its row or
+     * its column completed, so every empty cell of that line must be filled. For filled cells
+     * in distinct rows and distinct columns those lines are all different and only share
+     * their crossings, so the cheapest choice of lines for such a set, counting each empty
+     * crossing once, is a bound. The set is picked greedily, most expensive cells first.
+     */
+    private boolean canFill(Board board, int available) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        for (int r = 0; r < rows; r++) rowMasks[r] = board.getRowMask(r);
+        int picked = 0;
+        long usedRows = 0L, usedCols = 0L;
+        while (picked < pickedRowGaps.length) {
+            int bestCost = 0, bestRow = -1, bestCol = -1;
+            for (int r = 0; r < rows; r++) {
+                int rowGap = cols - board.getRowFill(r);
+                if (rowGap == cols || rowGap <= bestCost || (usedRows >>> r & 1L) != 0) continue;
+                for (long bits = rowMasks[r] & ~usedCols; bits != 0; bits &= bits - 1) {
+                    int c = Long.numberOfTrailingZeros(bits);
+                    int cost = Math.min(rowGap, rows - board.getColFill(c));
+                    if (cost > bestCost) {
+                        bestCost = cost;
+                        bestRow = r;
+                        bestCol = c;
+                    }
+                }
+            }
+            if (bestRow < 0) break;
+            pickedRows[picked] = bestRow;
+            pickedCols[picked] = bestCol;
+            pickedRowGaps[picked] = cols - board.getRowFill(bestRow);
+            pickedColGaps[picked] = rows - board.getColFill(bestCol);
+            picked++;
+            usedRows |= 1L << bestRow;
+            usedCols |= 1L << bestCol;
+        }
+
+        // Try every way of completing each picked cell's row (bit clear) or column (bit set).
+        for (int choice = 0; choice < 1 << picked; choice++) {
+            int sum = 0;
+            long colSet = 0L;
+            for (int i = 0; i < picked; i++) {
+                if ((choice >>> i & 1) != 0) {
+                    sum += pickedColGaps[i];
+                    colSet |= 1L << pickedCols[i];
+                }
+            }
+            for (int i = 0; i < picked; i++) {
+                if ((choice >>> i & 1) == 0) {
+                    // Empty crossings with the chosen columns are in both gaps but need filling once.
+                    sum += pickedRowGaps[i] - Long.bitCount(colSet & ~rowMasks[pickedRows[i]]);
+                }
+            }
+            if (sum <= available) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Whether some line's gap can be filled exactly by the pieces left, each adding what one of
+     * its rows (or columns) holds, or nothing. Sums are kept as bitsets, bit k for k cells;
+     * gaps of 64 cells are always taken as reachable.
+     */
+    private boolean canClearALine(Board board, int tray, int remaining) {
+        long rowSums = 1L, colSums = 1L;
+        for (int t = tray, left = remaining; left != 0; left = trayMask(++t)) {
+            for (int bits = left; bits != 0; bits &= bits - 1) {
+                int i = t * traySize + Integer.numberOfTrailingZeros(bits);
+                rowSums = addAll(rowSums, rowAdds[i]);
+                colSums = addAll(colSums, colAdds[i]);
+            }
+        }
+        int rows = board.getRows(), cols = board.getCols();
+        for (int r = 0; r < rows; r++) {
+            int gap = cols - board.getRowFill(r);
+            if (gap >= Long.SIZE || (rowSums >>> gap & 1L) != 0) return true;
+        }
+        for (int c = 0; c < cols; c++) {
+            int gap = rows - board.getColFill(c);
+            if (gap >= Long.SIZE || (colSums >>> gap & 1L) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Whether the cells on the board plus those the moves still to come place can all be
+     * cleared: one clear of a rows and b columns takes a * cols + b * rows - a * b cells, and a
+     * solution ends after every piece of the trays before its last and some of that last one's.
+     */
+    private boolean canClearAll(Board board, int tray, int remaining) {
+        int filled = 0;
+        for (int r = 0; r < board.getRows(); r++) filled += board.getRowFill(r);
+        placeable(placeable, tray, remaining);
+        for (int i = 0; i < placeable.length; i++) {
+            for (long bits = placeable[i]; bits != 0; bits &= bits - 1) {
+                int total = filled + i * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                if ((clearable[total >>> 6] >>> total & 1L) != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /** Sets bit n of {@code into} if the moves from here on can place n cells before a solution ends. */
+    private void placeable(long[] into, int tray, int remaining) {
+        Arrays.fill(into, 0L);
+        into[0] = 1L;
+        int all = 0;
+        for (int bits = remaining; bits != 0; bits &= bits - 1) {
+            int size = pieces[tray * traySize + Integer.numberOfTrailingZeros(bits)].getShape().getSize();
+            orShifted(into, into, size);
+            all += size;
+        }
+        orShifted(into, placeableFrom[tray + 1], all);
+    }
+
+    /** The totals up to {@code max} that a sequence of clears on a rows x cols board can take off it. */
+    private static long[] clearableTotals(int rows, int cols, int max) {
+        long[] totals = new long[max / Long.SIZE + 1];
+        totals[0] = 1L;
+        for (int n = 1; n <= max; n++) {
+            boolean reachable = false;
+            for (int a = 0; a <= rows && !reachable; a++) {
+                for (int b = a == 0 ? 1 : 0; b <= cols && !reachable; b++) {
+                    int taken = a * cols + b * rows - a * b;
+                    reachable = taken <= n && (totals[(n - taken) >>> 6] >>> (n - taken) & 1L) != 0;
+                }
+            }
+            if (reachable) totals[n >>> 6] |= 1L << n;
+        }
+        return totals;
+    }
+
+    /** ORs {@code from} shifted up by {@code shift} bits into {@code into}, dropping what overflows; in place is fine. */
+    private static void orShifted(long[] into, long[] from, int shift) {
+        int words = shift >>> 6, bits = shift & 63;
+        for (int i = into.length - 1; i >= words; i--) {
+            long w = from[i - words] << bits;
+            if (bits != 0 && i - words - 1 >= 0) w |= from[i - words - 1] >>> (Long.SIZE - bits);
+            into[i] |= w;
+        }
+    }
+
+    /** The sums reachable by adding one of {@code adds} (bit 0 meaning nothing) to one of {@code sums}. */
+    private static long addAll(long sums, long adds) {
+        long out = 0L;
+        for (long bits = adds; bits != 0; bits &= bits - 1) {
+            out |= sums << Long.numberOfTrailingZeros(bits);
+        }
+        return out;
+    }
+
+    private static int minRow(Piece piece) {
+        int min = Integer.MAX_VALUE;
+        for (Position cell : piece.getCells()) min = Math.min(min, cell.row);
+        return min;
+    }
+
+    private static int minCol(Piece piece) {
+        int min = Integer.MAX_VALUE;
+        for (Position cell : piece.getCells()) min = Math.min(min, cell.col);
+        return min;
+    }
+
+    /** The most cells the next {@code moves} moves can place: the largest pieces each tray still offers. */
+    private int cellsWithin(int tray, int remaining, int moves) {
+        int cells = 0;
+        while (moves > 0 && remaining != 0) {
+            int first = tray * traySize;
+            if (Integer.bitCount(remaining) <= moves) {
+                for (int bits = remaining; bits != 0; bits &= bits - 1) {
+                    cells += pieces[first + Integer.numberOfTrailingZeros(bits)].getShape().getSize();
+                }
+                moves -= Integer.bitCount(remaining);
+                remaining = trayMask(++tray);
+            } else {
+                for (; moves > 0; moves--) {
+                    int largest = -1;
+                    for (int bits = remaining; bits != 0; bits &= bits - 1) {
+                        int slot = Integer.numberOfTrailingZeros(bits);
+                        if (largest < 0 || pieces[first + slot].getShape().getSize()
+                                > pieces[first + largest].getShape().getSize()) {
+                            largest = slot;
+                        }
+                    }
+                    cells += pieces[first + largest].getShape().getSize();
+                    remaining &= ~(1 << largest);
+                }
+            }
+        }
+        return cells;
+    }
+
+    private int trayMask(int tray) {
+        int count = Math.min(traySize, pieces.length - tray * traySize);
+        return count <= 0 ? 0 : (1 << count) - 1;
+    }
+
+    private boolean sameShapeEarlier(int first, int remaining, int slot) {
+        for (int j = 0; j < slot; j++) {
+            if ((remaining & 1 << j) != 0 && pieces[first + j].getShape() == pieces[first + slot].getShape()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Positions packed into {@code stride} longs each: the board's occupancy words, then the
+     * tray and its remaining pieces. Slots are found by linear probing; an all-zero tail word
+     * marks an empty slot, which never collides because the tray word is offset by one.
+     */
+    private static final class PositionSet {
+        private static final int INITIAL_CAPACITY = 1 << 12;
+
+        private int stride;
+        private long[] table = new long[0];
+        private int capacity;
+        private int size;
+        private long[] probe = new long[0];
+
+        void reset(int stride) {
+            // Start each challenge small again; the table only grows for the hard ones.
+            if (this.stride != stride || capacity != INITIAL_CAPACITY) {
+                this.stride = stride;
+                this.capacity = INITIAL_CAPACITY;
+                this.table = new long[capacity * stride];
+                this.probe = new long[stride];
+            }
+            clear();
+        }
+
+        void clear() {
+            if (size > 0) Arrays.fill(table, 0L);
+            size = 0;
+        }
+
+        /** Adds the position; false if it was already there. */
+        boolean add(Board board, int tray, int remaining) {
+            board.copyOccupancy(probe, 0);
+            probe[stride - 1] = ((long) tray + 1) << 32 | remaining;
+            if (size * 2 >= capacity) grow();
+            return insert(table, capacity, probe);
+        }
+
+        private boolean insert(long[] into, int slots, long[] key) {
+            long h = 0;
+            for (long w : key) h = (h ^ w) * 0x9E3779B97F4A7C15L;
+            int slot = (int) (h >>> 33) & (slots - 1);
+            while (true) {
+                int at = slot * stride;
+                if (into[at + stride - 1] == 0L) {
+                    System.arraycopy(key, 0, into, at, stride);
+                    size++;
+                    return true;
+                }
+                if (Arrays.equals(into, at, at + stride, key, 0, stride)) return false;
+                slot = (slot + 1) & (slots - 1);
+            }
+        }
+
+        private void grow() {
+            long[] old = table;
+            int oldCapacity = capacity;
+            capacity *= 2;
+            table = new long[capacity * stride];
+            size = 0;
+            long[] key = new long[stride];
+            for (int slot = 0; slot < oldCapacity; slot++) {
+                int at = slot * stride;
+                if (old[at + stride - 1] == 0L) continue;
+                System.arraycopy(old, at, key, 0, stride);
+                insert(table, capacity, key);
+            }
+        }
+    }
+}
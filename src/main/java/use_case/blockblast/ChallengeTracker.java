@@ -0,0 +1,38 @@
+package use_case.blockblast;
+
+import entity.blockblast.Challenge;
+import entity.blockblast.ChallengePieceGenerator;
+import entity.blockblast.GameListener;
+import entity.blockblast.GameState;
+
+/** Counts the moves of a challenge game and reports when its board has been emptied. */
+public class ChallengeTracker implements GameListener {
+    private final ChallengePieceGenerator generator;
+    private final ChallengeOutputBoundary presenter;
+    private int moves;
+
+    public ChallengeTracker(ChallengePieceGenerator generator, ChallengeOutputBoundary presenter) {
+        this.generator = generator;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void gameStarted(GameState state, long seed) {
+        moves = 0;
+    }
+
+    @Override
+    public void piecePlaced(GameState state, int pieceIndex, int row, int col, int linesCleared) {
+        moves++;
+        if (linesCleared > 0 && state.getBoard().isEmpty()) {
+            Challenge challenge = generator.getChallenge();
+            int best = challenge.hasSolution() ? challenge.getSolution().length : moves;
+            presenter.prepareChallengeSolvedView(challenge.getName(), moves, best);
+        }
+    }
+
+    @Override
+    public void moveUndone(GameState state) {
+        moves--;
+    }
+}
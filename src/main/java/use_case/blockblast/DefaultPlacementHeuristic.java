@@ -0,0 +1,79 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceColor;
+import entity.blockblast.PieceGenerator;
+import entity.blockblast.Shape;
+
+import java.util.List;
+
+/**
+ * Weighs lines cleared, holes (empty cells boxed in on all four sides) and mobility
+ * (legal anchors left for every shape the generator can deal).
+ */
+public class DefaultPlacementHeuristic implements PlacementHeuristic {
+    private final double lineWeight;
+    private final double holeWeight;
+    private final double mobilityWeight;
+    private final Piece[] mobilityPieces;
+
+    public DefaultPlacementHeuristic() {
+        this(10.0, -3.0, 0.05);
+    }
+
+    public DefaultPlacementHeuristic(double lineWeight, double holeWeight, double mobilityWeight) {
+        this.lineWeight = lineWeight;
+        this.holeWeight = holeWeight;
+        this.mobilityWeight = mobilityWeight;
+        List<Shape> shapes = PieceGenerator.getShapes();
+        this.mobilityPieces = new Piece[shapes.size()];
+        for (int i = 0; i < mobilityPieces.length; i++) {
+            mobilityPieces[i] = shapes.get(i).piece(PieceColor.RED);
+        }
+    }
+
+    @Override
+    public double scoreLines(int linesCleared) {
+        return lineWeight * linesCleared;
+    }
+
+    @Override
+    public double scoreBoard(Board board) {
+        double score = 0;
+        if (holeWeight != 0) {
+            score += holeWeight * countHoles(board);
+        }
+        if (mobilityWeight != 0) {
+            score += mobilityWeight * countMobility(board);
+        }
+        return score;
+    }
+
+    private static int countHoles(Board board) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int holes = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (board.isFilled(r, c)) continue;
+                boolean up = r == 0 || board.isFilled(r - 1, c);
+                boolean down = r == rows - 1 || board.isFilled(r + 1, c);
+                boolean left = c == 0 || board.isFilled(r, c - 1);
+                boolean right = c == cols - 1 || board.isFilled(r, c + 1);
+                if (up && down && left && right) holes++;
+            }
+        }
+        return holes;
+    }
+
+    private int countMobility(Board board) {
+        int anchors = 0;
+        for (Piece p : mobilityPieces) {
+            for (int r = 0; r < board.getRows(); r++) {
+                anchors += Long.bitCount(board.legalColumns(p, r));
+            }
+        }
+        return anchors;
+    }
+}
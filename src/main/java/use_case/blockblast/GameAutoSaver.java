@@ -0,0 +1,30 @@
+package use_case.blockblast;
+
+import entity.blockblast.GameListener;
+import entity.blockblast.GameState;
+
+/** Saves the game after every change, so it can be resumed where the player left off. */
+public class GameAutoSaver implements GameListener {
+    private final GameSaveGateway gateway;
+    private final String saveId;
+
+    public GameAutoSaver(GameSaveGateway gateway, String saveId) {
+        this.gateway = gateway;
+        this.saveId = saveId;
+    }
+
+    @Override
+    public void gameStarted(GameState state, long seed) {
+        gateway.save(saveId, state);
+    }
+
+    @Override
+    public void piecePlaced(GameState state, int pieceIndex, int row, int col, int linesCleared) {
+        gateway.save(saveId, state);
+    }
+
+    @Override
+    public void moveUndone(GameState state) {
+        gateway.save(saveId, state);
+    }
+}
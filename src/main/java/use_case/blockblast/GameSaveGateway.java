@@ -0,0 +1,11 @@
+package use_case.blockblast;
+
+import entity.blockblast.GameState;
+
+public interface GameSaveGateway {
+    /** Stores a snapshot of the state. Implementations copy what they need before returning. */
+    void save(String saveId, GameState state);
+
+    /** The saved game, or null if there is none. */
+    GameState load(String saveId);
+}
@@ -0,0 +1,53 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.LegalAnchorTracker;
+import entity.blockblast.Piece;
+
+import java.util.Random;
+
+/**
+ * Plays the single move that scores best under a PlacementHeuristic, looking one move ahead.
+ * Ties are broken at random.
+ */
+public class GreedyBotPolicy implements BotPolicy {
+    private final PlacementHeuristic heuristic;
+
+    public GreedyBotPolicy(PlacementHeuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    @Override
+    public PlacePieceRequestModel chooseMove(GameEngine engine, Random random) {
+        LegalAnchorTracker anchors = engine.getAnchors();
+        Board board = engine.getGameState().getBoard();
+        Piece[] pieces = engine.getGameState().getCurrentPieces();
+
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestSlot = -1, bestRow = 0, bestCol = 0, ties = 0;
+        for (int i = 0; i < pieces.length; i++) {
+            if (pieces[i] == null) continue;
+            for (int r = 0; r < board.getRows(); r++) {
+                for (long bits = anchors.getLegalColumns(i, r); bits != 0; bits &= bits - 1) {
+                    int c = Long.numberOfTrailingZeros(bits);
+                    Board trial = board.copyWithoutColors();
+                    trial.place(pieces[i], r, c);
+                    double score = heuristic.scoreLines(trial.clearFullLines()) + heuristic.scoreBoard(trial);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        bestSlot = i;
+                        bestRow = r;
+                        bestCol = c;
+                        ties = 1;
+                    } else if (score == bestScore && random.nextInt(++ties) == 0) {
+                        bestSlot = i;
+                        bestRow = r;
+                        bestCol = c;
+                    }
+                }
+            }
+        }
+        return bestSlot < 0 ? null : new PlacePieceRequestModel(bestSlot, bestRow, bestCol);
+    }
+}
@@ -0,0 +1,8 @@
+package use_case.blockblast;
+
+public interface HeatmapGateway {
+    void save(HeatmapSnapshot snapshot);
+
+    /** The saved heatmap for boards of this size, or null if there is none. */
+    HeatmapSnapshot load(int rows, int cols);
+}
@@ -0,0 +1,6 @@
+package use_case.blockblast;
+
+public interface HeatmapInputBoundary {
+    /** Shows the heatmap as it is now, or hides it. */
+    void execute(boolean show);
+}
@@ -0,0 +1,20 @@
+package use_case.blockblast;
+
+public class HeatmapInteractor implements HeatmapInputBoundary {
+    private final PlacementHeatmap heatmap;
+    private final HeatmapOutputBoundary presenter;
+
+    public HeatmapInteractor(PlacementHeatmap heatmap, HeatmapOutputBoundary presenter) {
+        this.heatmap = heatmap;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void execute(boolean show) {
+        if (show) {
+            presenter.prepareHeatmapView(heatmap.snapshot());
+        } else {
+            presenter.prepareHeatmapHiddenView();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package use_case.blockblast;
+
+public interface HeatmapOutputBoundary {
+    void prepareHeatmapView(HeatmapSnapshot snapshot);
+    void prepareHeatmapHiddenView();
+}
@@ -0,0 +1,68 @@
+package use_case.blockblast;
+
+/**
+ * Placement counts of a PlacementHeatmap at one moment: how often a piece was anchored at
+ * each cell, how often each row and column was cleared, and over how many games.
+ */
+public class HeatmapSnapshot {
+    private final int rows;
+    private final int cols;
+    private final long games;
+    private final long[] placements;
+    private final long[] rowClears;
+    private final long[] colClears;
+
+    public HeatmapSnapshot(int rows, int cols, long games, long[] placements, long[] rowClears, long[] colClears) {
+        if (placements.length != rows * cols || rowClears.length != rows || colClears.length != cols) {
+            throw new IllegalArgumentException("Heatmap counts do not match a " + rows + "x" + cols + " board");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.games = games;
+        this.placements = placements.clone();
+        this.rowClears = rowClears.clone();
+        this.colClears = colClears.clone();
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    /** Pieces placed with their anchor on (r, c). */
+    public long getPlacements(int r, int c) {
+        return placements[r * cols + c];
+    }
+
+    public long getRowClears(int r) {
+        return rowClears[r];
+    }
+
+    public long getColClears(int c) {
+        return colClears[c];
+    }
+
+    /** Count of the most used cell, for scaling an overlay. */
+    public long getMaxPlacements() {
+        long max = 0;
+        for (long count : placements) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+
+    /** Count of the most cleared row or column. */
+    public long getMaxClears() {
+        long max = 0;
+        for (long count : rowClears) max = Math.max(max, count);
+        for (long count : colClears) max = Math.max(max, count);
+        return max;
+    }
+}
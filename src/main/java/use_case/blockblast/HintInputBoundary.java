@@ -0,0 +1,5 @@
+package use_case.blockblast;
+
+public interface HintInputBoundary {
+    void execute();
+}
@@ -0,0 +1,51 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the solver on a copy of the current board so the caller (the EDT) never waits on it.
+ * Results carry the board version they were computed for; the presenter drops them on the EDT
+ * if the board changed in the meantime, since only the EDT may read the live board.
+ */
+public class HintInteractor implements HintInputBoundary {
+    private final GameState gameState;
+    private final PlacementSolver solver;
+    private final Executor executor;
+    private final HintOutputBoundary presenter;
+
+    public HintInteractor(GameState gameState, PlacementSolver solver, Executor executor, HintOutputBoundary presenter) {
+        this.gameState = gameState;
+        this.solver = solver;
+        this.executor = executor;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void execute() {
+        if (gameState.isGameOver()) {
+            presenter.prepareHintFailView("Game over.");
+            return;
+        }
+        Board board = gameState.getBoard();
+        Board snapshot = board.copyWithoutColors();
+        Piece[] tray = gameState.getCurrentPieces().clone();
+        int version = board.getVersion();
+
+        CompletableFuture.supplyAsync(() -> solver.solve(snapshot, tray), executor)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        presenter.prepareHintFailView("Hint failed: " + error.getMessage(), version);
+                    } else if (result.getMoves().isEmpty()) {
+                        presenter.prepareHintFailView(result.isComplete() ? "No move fits." : "No hint found in time.",
+                                version);
+                    } else {
+                        presenter.prepareHintView(new HintResponseModel(result, version));
+                    }
+                });
+    }
+}
@@ -0,0 +1,8 @@
+package use_case.blockblast;
+
+public interface HintOutputBoundary {
+    void prepareHintView(HintResponseModel responseModel);
+    void prepareHintFailView(String message);
+    /** A failure for the board at boardVersion, dropped if the board has changed since. */
+    void prepareHintFailView(String message, int boardVersion);
+}
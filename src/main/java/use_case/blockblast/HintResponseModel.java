@@ -0,0 +1,17 @@
+package use_case.blockblast;
+
+public class HintResponseModel {
+    private final SolverResult result;
+    private final int boardVersion;
+    public HintResponseModel(SolverResult result, int boardVersion) {
+        this.result = result;
+        this.boardVersion = boardVersion;
+    }
+    public SolverResult getResult() {
+        return result;
+    }
+    /** Version of the board the hint was computed for; the hint is stale once the board moves on. */
+    public int getBoardVersion() {
+        return boardVersion;
+    }
+}
@@ -0,0 +1,50 @@
+package use_case.blockblast;
+
+/** One entry read back from a MoveEventLog; see MoveEventLog.append for the fields. */
+public class MoveEvent {
+    private final int kind;
+    private final long timestamp;
+    private final long shapeMask;
+    private final int row;
+    private final int col;
+    private final int linesCleared;
+    private final int score;
+
+    public MoveEvent(int kind, long timestamp, long shapeMask, int row, int col, int linesCleared, int score) {
+        this.kind = kind;
+        this.timestamp = timestamp;
+        this.shapeMask = shapeMask;
+        this.row = row;
+        this.col = col;
+        this.linesCleared = linesCleared;
+        this.score = score;
+    }
+
+    public int getKind() {
+        return kind;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getShapeMask() {
+        return shapeMask;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,22 @@
+package use_case.blockblast;
+
+/**
+ * Append-only analytics log of what players do. Implementations must return immediately:
+ * an event that cannot be queued right away is dropped rather than delaying the move.
+ */
+public interface MoveEventLog {
+    int NEW_GAME = 0;
+    int PLACED = 1;
+    int BLOCKED = 2;
+    int INVALID_PIECE = 3;
+    int GAME_OVER = 4;
+
+    /** A log that discards everything. */
+    MoveEventLog NONE = (kind, timestamp, shapeMask, row, col, linesCleared, score) -> true;
+
+    /**
+     * Queues one event. {@code shapeMask} is the piece's Shape.getBoxMask(), or 0 if there
+     * was no piece. Returns false if the event was dropped.
+     */
+    boolean append(int kind, long timestamp, long shapeMask, int row, int col, int linesCleared, int score);
+}
@@ -3,4 +3,6 @@ package use_case.blockblast;
 public interface PlacePieceInputBoundary {
     void execute(PlacePieceRequestModel requestModel);
     void newGame();
+    void undo();
+    void redo();
 }
\ No newline at end of file
@@ -1,122 +1,99 @@
 package use_case.blockblast;
 
 import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
 import entity.blockblast.GameState;
 import entity.blockblast.Piece;
 import entity.blockblast.PieceGenerator;
 
 public class PlacePieceInteractor implements PlacePieceInputBoundary {
     private final GameState gameState;
-    private final PieceGenerator generator;
+    private final GameEngine engine;
     private final PlacePieceOutputBoundary presenter;
+    private final MoveEventLog eventLog;
 
     public PlacePieceInteractor(GameState gameState, PieceGenerator generator, PlacePieceOutputBoundary presenter) {
-        this.gameState = gameState;
-        this.generator = generator;
-        this.presenter = presenter;
+        this(new GameEngine(gameState, generator), presenter);
+    }
+
+    public PlacePieceInteractor(GameEngine engine, PlacePieceOutputBoundary presenter) {
+        this(engine, presenter, MoveEventLog.NONE);
     }
 
+    /** Every placement attempt and new game is also appended to the event log. */
+    public PlacePieceInteractor(GameEngine engine, PlacePieceOutputBoundary presenter, MoveEventLog eventLog) {
+        this.gameState = engine.getGameState();
+        this.engine = engine;
+        this.presenter = presenter;
+        this.eventLog = eventLog;
+    }
 
     @Override
     public void execute(PlacePieceRequestModel requestModel) {
-        if (gameState.isGameOver()) {
-            presenter.prepareFailView("Game over.");
-            return;
-        }
-
+        int slot = requestModel.getPieceIndex();
         Piece[] pieces = gameState.getCurrentPieces();
-        int idx = requestModel.getPieceIndex();
-        int row = requestModel.getRow();
-        int col = requestModel.getCol();
-
-        if (idx < 0 || idx >= pieces.length || pieces[idx] == null) {
-            presenter.prepareFailView("Invalid piece index");
-            return;
-        }
-
-        Piece piece = pieces[idx];
-        Board board = gameState.getBoard();
-
-        if (!board.canPlace(piece, row, col)) {
-            presenter.prepareFailView("Place not possible");
-            return;
-        }
-
-        board.place(piece, row, col);
-        int cleared = board.clearFullLines();
-        gameState.setScore(gameState.getScore() + cleared * 10);
-
-        pieces[idx] = null;
-        if (allPiecesUsed(pieces)) {
-            for (int i = 0; i < pieces.length; i++) {
-                pieces[i] = generator.generateRandomPiece();
-            }
-        }
-        gameState.setCurrentPieces(pieces);
-
-        if (!validMove(gameState.getBoard(), gameState.getCurrentPieces())) {
-            System.out.println("No valid move → Game Over");
-            gameState.setGameOver(true);
+        Piece piece = slot >= 0 && slot < pieces.length ? pieces[slot] : null;
+        GameEngine.MoveResult result = engine.play(slot, requestModel.getRow(), requestModel.getCol());
+        eventLog.append(eventKind(result), System.currentTimeMillis(), piece == null ? 0L : piece.getShape().getBoxMask(),
+                requestModel.getRow(), requestModel.getCol(),
+                result == GameEngine.MoveResult.PLACED ? engine.getLastLinesCleared() : 0, gameState.getScore());
+        switch (result) {
+            case GAME_OVER:
+                presenter.prepareFailView("Game over.");
+                return;
+            case INVALID_PIECE:
+                presenter.prepareFailView("Invalid piece index");
+                return;
+            case BLOCKED:
+                presenter.prepareFailView("Place not possible");
+                return;
+            default:
+                presenter.prepareSuccessView(new PlacePieceResponseModel(gameState,
+                        changesOf(piece, slot, requestModel.getRow(), requestModel.getCol()), PlacementMap.of(engine)));
         }
-
-        presenter.prepareSuccessView(new PlacePieceResponseModel(gameState));
     }
 
     @Override
     public void newGame() {
-        Board board = gameState.getBoard();
-        board.clear();
+        engine.newGame();
+        eventLog.append(MoveEventLog.NEW_GAME, System.currentTimeMillis(), 0L, 0, 0, 0, 0);
+        presenter.prepareSuccessView(
+                new PlacePieceResponseModel(gameState, BoardChangeSet.EVERYTHING, PlacementMap.of(engine)));
+    }
 
-        Piece[] pieces = gameState.getCurrentPieces();
-        for (int i = 0; i < pieces.length; i++) {
-            pieces[i] = generator.generateRandomPiece();
+    @Override
+    public void undo() {
+        if (engine.undo()) {
+            presenter.prepareSuccessView(
+                    new PlacePieceResponseModel(gameState, BoardChangeSet.EVERYTHING, PlacementMap.of(engine)));
+        } else {
+            presenter.prepareFailView("Nothing to undo");
         }
-        gameState.setCurrentPieces(pieces);
-
-        gameState.setScore(0);
-        gameState.setGameOver(false);
-
-        presenter.prepareSuccessView(new PlacePieceResponseModel(gameState));
     }
 
-    private boolean allPiecesUsed(Piece[] pieces) {
-        for (Piece p : pieces) {
-            if (p != null) return false;
+    @Override
+    public void redo() {
+        if (engine.redo()) {
+            presenter.prepareSuccessView(
+                    new PlacePieceResponseModel(gameState, BoardChangeSet.EVERYTHING, PlacementMap.of(engine)));
+        } else {
+            presenter.prepareFailView("Nothing to redo");
         }
-        return true;
     }
 
-    private boolean validMove(Board board, Piece[] pieces) {
-        int rows = board.getRows();
-        int cols = board.getCols();
-        for (Piece p : pieces) {
-            if (p == null) continue;
-            for (int r = 0; r < board.getRows(); r++) {
-                for (int c = 0; c < board.getCols(); c++) {
-                    boolean canPlace = true;
-                    for (var cell : p.getCells()) {
-                        int rr = r + cell.row;
-                        int cc = c + cell.col;
-                        if (rr < 0 || rr >= rows || cc < 0 || cc >= cols) {
-                            canPlace = false;
-                            break;
-                        }
-
-                        if (board.isFilled(rr, cc)) {
-                            canPlace = false;
-                            break;
-                        }
-                    }
-                    if (canPlace) {
-                        return true;
-                    }
-                }
-            }
+    private static int eventKind(GameEngine.MoveResult result) {
+        switch (result) {
+            case PLACED: return MoveEventLog.PLACED;
+            case BLOCKED: return MoveEventLog.BLOCKED;
+            case INVALID_PIECE: return MoveEventLog.INVALID_PIECE;
+            default: return MoveEventLog.GAME_OVER;
         }
-        return false;
     }
-}
-
-
-
 
+    private BoardChangeSet changesOf(Piece piece, int slot, int row, int col) {
+        Board board = gameState.getBoard();
+        // A filled slot after the move means the tray was refilled.
+        int slots = gameState.getCurrentPieces()[slot] != null ? -1 : 1 << slot;
+        return new BoardChangeSet(piece, row, col, board.getLastClearedRows(), board.getLastClearedCols(), slots);
+    }
+}
@@ -4,10 +4,24 @@ import entity.blockblast.GameState;
 
 public class PlacePieceResponseModel {
     private final GameState gameState;
+    private final BoardChangeSet changes;
+    private final PlacementMap placements;
     public PlacePieceResponseModel(GameState gameState) {
+        this(gameState, BoardChangeSet.EVERYTHING, null);
+    }
+    public PlacePieceResponseModel(GameState gameState, BoardChangeSet changes, PlacementMap placements) {
         this.gameState = gameState;
+        this.changes = changes;
+        this.placements = placements;
     }
     public GameState getGameState() {
         return gameState;
     }
+    public BoardChangeSet getChanges() {
+        return changes;
+    }
+    /** Legal anchors of the tray on the new board, or null if not computed. */
+    public PlacementMap getPlacements() {
+        return placements;
+    }
 }
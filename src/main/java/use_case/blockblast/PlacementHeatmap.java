@@ -0,0 +1,107 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameListener;
+import entity.blockblast.GameState;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts where pieces are placed and which lines clear, across every game it listens to.
+ *
+ * One heatmap can listen to many engines at once. Each counter is a LongAdder, so sessions
+ * on different threads do not contend: a move costs one increment for its anchor cell and
+ * one per cleared line. Undone moves stay counted. Games on boards of another size are
+ * ignored.
+ */
+public class PlacementHeatmap implements GameListener {
+    private final int rows;
+    private final int cols;
+    private final LongAdder games = new LongAdder();
+    private final LongAdder[] placements;
+    private final LongAdder[] rowClears;
+    private final LongAdder[] colClears;
+
+    public PlacementHeatmap(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.placements = adders(rows * cols);
+        this.rowClears = adders(rows);
+        this.colClears = adders(cols);
+    }
+
+    /** A heatmap that continues counting from earlier totals, e.g. ones loaded from disk. */
+    public PlacementHeatmap(HeatmapSnapshot start) {
+        this(start.getRows(), start.getCols());
+        games.add(start.getGames());
+        for (int r = 0; r < rows; r++) {
+            rowClears[r].add(start.getRowClears(r));
+            for (int c = 0; c < cols; c++) {
+                placements[r * cols + c].add(start.getPlacements(r, c));
+            }
+        }
+        for (int c = 0; c < cols; c++) {
+            colClears[c].add(start.getColClears(c));
+        }
+    }
+
+    private static LongAdder[] adders(int n) {
+        LongAdder[] adders = new LongAdder[n];
+        for (int i = 0; i < n; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    @Override
+    public void gameStarted(GameState state, long seed) {
+        if (fits(state.getBoard())) games.increment();
+    }
+
+    @Override
+    public void piecePlaced(GameState state, int pieceIndex, int row, int col, int linesCleared) {
+        Board board = state.getBoard();
+        if (!fits(board)) return;
+        // Anchors can lie off the board for shapes that do not start at (0, 0); those are not counted.
+        if (row >= 0 && row < rows && col >= 0 && col < cols) {
+            placements[row * cols + col].increment();
+        }
+        if (linesCleared > 0) {
+            for (long bits = board.getLastClearedRows(); bits != 0; bits &= bits - 1) {
+                rowClears[Long.numberOfTrailingZeros(bits)].increment();
+            }
+            for (long bits = board.getLastClearedCols(); bits != 0; bits &= bits - 1) {
+                colClears[Long.numberOfTrailingZeros(bits)].increment();
+            }
+        }
+    }
+
+    private boolean fits(Board board) {
+        return board.getRows() == rows && board.getCols() == cols;
+    }
+
+    /** Current totals. Moves made while the snapshot is taken may be partly included. */
+    public HeatmapSnapshot snapshot() {
+        long[] placed = new long[placements.length];
+        for (int i = 0; i < placed.length; i++) {
+            placed[i] = placements[i].sum();
+        }
+        long[] rowCounts = new long[rows];
+        for (int r = 0; r < rows; r++) {
+            rowCounts[r] = rowClears[r].sum();
+        }
+        long[] colCounts = new long[cols];
+        for (int c = 0; c < cols; c++) {
+            colCounts[c] = colClears[c].sum();
+        }
+        return new HeatmapSnapshot(rows, cols, games.sum(), placed, rowCounts, colCounts);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+}
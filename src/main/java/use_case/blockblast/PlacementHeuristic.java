@@ -0,0 +1,13 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+
+/**
+ * Scores a placement sequence for the solver. The score of a sequence is the sum of
+ * scoreLines over its moves plus scoreBoard of the board it leaves behind; keeping the two
+ * parts additive lets the solver reuse results for boards reached by different orders.
+ */
+public interface PlacementHeuristic {
+    double scoreLines(int linesCleared);
+    double scoreBoard(Board board);
+}
@@ -0,0 +1,91 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.LegalAnchorTracker;
+import entity.blockblast.Piece;
+import entity.blockblast.Position;
+
+/**
+ * Where each tray piece can go on the current board, taken once per board change from the
+ * engine's legal-anchor bitmaps, so views can check a hovered anchor with a bit test.
+ * Also predicts which lines a placement would clear, from a copy of the row occupancy.
+ */
+public final class PlacementMap {
+    private final int rows;
+    private final int cols;
+    private final long[][] legal;
+    private final long[] occupancy;
+
+    public PlacementMap(long[][] legal, long[] occupancy, int cols) {
+        this.rows = occupancy.length;
+        this.cols = cols;
+        this.legal = legal;
+        this.occupancy = occupancy;
+    }
+
+    public static PlacementMap of(GameEngine engine) {
+        Board board = engine.getGameState().getBoard();
+        Piece[] tray = engine.getGameState().getCurrentPieces();
+        LegalAnchorTracker anchors = engine.getAnchors();
+        int rows = board.getRows();
+        long[][] legal = new long[tray.length][rows];
+        long[] occupancy = new long[rows];
+        for (int r = 0; r < rows; r++) {
+            occupancy[r] = board.getRowMask(r);
+            for (int slot = 0; slot < tray.length; slot++) {
+                if (tray[slot] != null) {
+                    legal[slot][r] = anchors.getLegalColumns(slot, r);
+                }
+            }
+        }
+        return new PlacementMap(legal, occupancy, board.getCols());
+    }
+
+    public boolean isLegal(int slot, int row, int col) {
+        if (slot < 0 || slot >= legal.length || row < 0 || row >= rows || col < 0 || col >= cols) {
+            return false;
+        }
+        return ((legal[slot][row] >>> col) & 1L) != 0;
+    }
+
+    /** Rows that placing the piece at (row, col) would fill, as a bitmask. Assumes the anchor is legal. */
+    public long rowsCleared(Piece piece, int row, int col) {
+        long full = cols == Long.SIZE ? -1L : (1L << cols) - 1;
+        long cleared = 0L;
+        for (Position cell : piece.getCells()) {
+            int r = row + cell.row;
+            if (((cleared >>> r) & 1L) != 0) continue;
+            long bits = occupancy[r];
+            for (Position other : piece.getCells()) {
+                if (other.row == cell.row) bits |= 1L << (col + other.col);
+            }
+            if (bits == full) cleared |= 1L << r;
+        }
+        return cleared;
+    }
+
+    /**
+     * Columns that placing the piece at (row, col) would fill. Columns are only checked after
+     * full rows are cleared, so a move that clears a row never clears a column.
+     */
+    public long colsCleared(Piece piece, int row, int col) {
+        if (rowsCleared(piece, row, col) != 0) return 0L;
+        long cleared = 0L;
+        long checked = 0L;
+        for (Position cell : piece.getCells()) {
+            int c = col + cell.col;
+            if (((checked >>> c) & 1L) != 0) continue;
+            checked |= 1L << c;
+            int filled = 0;
+            for (int r = 0; r < rows; r++) {
+                if (((occupancy[r] >>> c) & 1L) != 0) filled++;
+            }
+            for (Position other : piece.getCells()) {
+                if (other.col == cell.col) filled++;
+            }
+            if (filled == rows) cleared |= 1L << c;
+        }
+        return cleared;
+    }
+}
@@ -0,0 +1,215 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.Piece;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searches every placement order and anchor for the tray and returns the best sequence
+ * according to a PlacementHeuristic.
+ * The first move of each branch runs as its own fork-join task; boards already reached with
+ * the same pieces left are answered from a transposition cache. The search stops at the time
+ * budget and returns the best sequence found so far.
+ */
+public class PlacementSolver {
+    private static final int PARALLEL_DEPTH = 1;
+
+    private final ForkJoinPool pool;
+    private final PlacementHeuristic heuristic;
+    private final long budgetNanos;
+
+    public PlacementSolver(ForkJoinPool pool, PlacementHeuristic heuristic, long budgetMillis) {
+        this.pool = pool;
+        this.heuristic = heuristic;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    public SolverResult solve(Board board, Piece[] tray) {
+        int remaining = 0;
+        for (int i = 0; i < tray.length; i++) {
+            if (tray[i] != null) remaining |= 1 << i;
+        }
+        Search search = new Search(tray.clone(), System.nanoTime() + budgetNanos);
+        Line best = pool.invoke(search.new Node(board.copyWithoutColors(), remaining, 0));
+
+        List<PlacePieceRequestModel> moves = new ArrayList<>();
+        for (Step s = best.steps; s != null; s = s.next) {
+            moves.add(new PlacePieceRequestModel(s.slot, s.row, s.col));
+        }
+        return new SolverResult(moves, best.value, best.complete);
+    }
+
+    private static final class Step {
+        final int slot, row, col;
+        final Step next;
+
+        Step(int slot, int row, int col, Step next) {
+            this.slot = slot;
+            this.row = row;
+            this.col = col;
+            this.next = next;
+        }
+    }
+
+    /** Best continuation from a node: its moves, their score and how many pieces they place. */
+    private static final class Line {
+        final Step steps;
+        final double value;
+        final int placed;
+        final boolean complete;
+
+        Line(Step steps, double value, int placed, boolean complete) {
+            this.steps = steps;
+            this.value = value;
+            this.placed = placed;
+            this.complete = complete;
+        }
+
+        Line prepend(int slot, int row, int col, double gain) {
+            return new Line(new Step(slot, row, col, steps), value + gain, placed + 1, complete);
+        }
+
+        boolean betterThan(Line other) {
+            if (other == null) return true;
+            if (placed != other.placed) return placed > other.placed;
+            return value > other.value;
+        }
+    }
+
+    private static final class Key {
+        final Board board;
+        final int remaining;
+        final int hash;
+
+        Key(Board board, int remaining) {
+            this.board = board;
+            this.remaining = remaining;
+            this.hash = 31 * board.occupancyHashCode() + remaining;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return remaining == k.remaining && board.sameOccupancy(k.board);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final class Search {
+        final Piece[] tray;
+        final long deadline;
+        final Map<Key, Line> cache = new ConcurrentHashMap<>();
+
+        Search(Piece[] tray, long deadline) {
+            this.tray = tray;
+            this.deadline = deadline;
+        }
+
+        final class Node extends RecursiveTask<Line> {
+            private static final long serialVersionUID = 1L;
+
+            private final Board board;
+            private final int remaining;
+            private final int depth;
+
+            Node(Board board, int remaining, int depth) {
+                this.board = board;
+                this.remaining = remaining;
+                this.depth = depth;
+            }
+
+            @Override
+            protected Line compute() {
+                if (remaining == 0) {
+                    return new Line(null, heuristic.scoreBoard(board), 0, true);
+                }
+                if (System.nanoTime() > deadline) {
+                    return new Line(null, heuristic.scoreBoard(board), 0, false);
+                }
+                Key key = new Key(board, remaining);
+                Line cached = cache.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+
+                boolean parallel = depth < PARALLEL_DEPTH;
+                List<Node> forks = parallel ? new ArrayList<>() : null;
+                List<int[]> forkMoves = parallel ? new ArrayList<>() : null;
+                List<Double> forkGains = parallel ? new ArrayList<>() : null;
+                Line best = null;
+                boolean complete = true;
+
+                search:
+                for (int slot = 0; slot < tray.length; slot++) {
+                    if ((remaining & (1 << slot)) == 0 || sameShapeEarlier(slot)) continue;
+                    Piece piece = tray[slot];
+                    int rest = remaining & ~(1 << slot);
+                    for (int r = 0; r < board.getRows(); r++) {
+                        for (long bits = board.legalColumns(piece, r); bits != 0; bits &= bits - 1) {
+                            if (System.nanoTime() > deadline) {
+                                complete = false;
+                                break search;
+                            }
+                            int c = Long.numberOfTrailingZeros(bits);
+                            Board child = board.copyWithoutColors();
+                            child.place(piece, r, c);
+                            double gain = heuristic.scoreLines(child.clearFullLines());
+                            Node next = new Node(child, rest, depth + 1);
+                            if (parallel) {
+                                forks.add(next);
+                                forkMoves.add(new int[] {slot, r, c});
+                                forkGains.add(gain);
+                            } else {
+                                Line line = next.compute().prepend(slot, r, c, gain);
+                                complete &= line.complete;
+                                if (line.betterThan(best)) best = line;
+                            }
+                        }
+                    }
+                }
+
+                if (parallel) {
+                    invokeAll(forks);
+                    for (int i = 0; i < forks.size(); i++) {
+                        int[] m = forkMoves.get(i);
+                        Line line = forks.get(i).join().prepend(m[0], m[1], m[2], forkGains.get(i));
+                        complete &= line.complete;
+                        if (line.betterThan(best)) best = line;
+                    }
+                }
+
+                if (best == null) {
+                    // No piece fits (the game would end here), or time ran out before any move was tried.
+                    return new Line(null, heuristic.scoreBoard(board), 0, complete);
+                }
+                best = new Line(best.steps, best.value, best.placed, complete);
+                if (complete) {
+                    cache.put(key, best);
+                }
+                return best;
+            }
+
+            /** Identical shapes leave identical boards, so only the first remaining one is tried. */
+            private boolean sameShapeEarlier(int slot) {
+                for (int i = 0; i < slot; i++) {
+                    if ((remaining & (1 << i)) != 0 && tray[i].getShape() == tray[slot].getShape()) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package use_case.blockblast;
+
+import entity.blockblast.GameEngine;
+import entity.blockblast.LegalAnchorTracker;
+import entity.blockblast.Piece;
+
+import java.util.Random;
+
+/** Plays a uniformly random legal move. */
+public class RandomBotPolicy implements BotPolicy {
+
+    @Override
+    public PlacePieceRequestModel chooseMove(GameEngine engine, Random random) {
+        LegalAnchorTracker anchors = engine.getAnchors();
+        Piece[] pieces = engine.getGameState().getCurrentPieces();
+        int total = 0;
+        for (int i = 0; i < pieces.length; i++) {
+            if (pieces[i] != null) total += anchors.countLegalAnchors(i);
+        }
+        if (total == 0) {
+            return null;
+        }
+        int pick = random.nextInt(total);
+        int rows = engine.getGameState().getBoard().getRows();
+        for (int i = 0; i < pieces.length; i++) {
+            if (pieces[i] == null) continue;
+            if (pick >= anchors.countLegalAnchors(i)) {
+                pick -= anchors.countLegalAnchors(i);
+                continue;
+            }
+            for (int r = 0; r < rows; r++) {
+                long bits = anchors.getLegalColumns(i, r);
+                int n = Long.bitCount(bits);
+                if (pick >= n) {
+                    pick -= n;
+                    continue;
+                }
+                for (; pick > 0; pick--) {
+                    bits &= bits - 1;
+                }
+                return new PlacePieceRequestModel(i, r, Long.numberOfTrailingZeros(bits));
+            }
+        }
+        return null;
+    }
+}
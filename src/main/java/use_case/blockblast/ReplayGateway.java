@@ -0,0 +1,11 @@
+package use_case.blockblast;
+
+import entity.blockblast.Replay;
+
+import java.util.List;
+
+public interface ReplayGateway {
+    void save(Replay replay);
+
+    List<Replay> loadAll();
+}
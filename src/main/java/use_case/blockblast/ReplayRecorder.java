@@ -0,0 +1,77 @@
+package use_case.blockblast;
+
+import entity.blockblast.GameListener;
+import entity.blockblast.GameState;
+import entity.blockblast.Replay;
+
+import java.util.Arrays;
+
+/**
+ * Records the seed and moves of the current game and hands the finished replay to the
+ * gateway when the game ends. Each move costs one int until then.
+ */
+public class ReplayRecorder implements GameListener {
+    private final ReplayGateway gateway;
+    private final int dealMode;
+    private int rows;
+    private int cols;
+    private int traySize;
+    private long seed;
+    private int[] moves = new int[64];
+    private int moveCount;
+    private boolean recording;
+
+    public ReplayRecorder(ReplayGateway gateway) {
+        this(gateway, 0);
+    }
+
+    /** Records games whose trays are dealt by a generator with the given getDealMode(). */
+    public ReplayRecorder(ReplayGateway gateway, int dealMode) {
+        this.gateway = gateway;
+        this.dealMode = dealMode;
+    }
+
+    @Override
+    public void gameStarted(GameState state, long seed) {
+        this.rows = state.getBoard().getRows();
+        this.cols = state.getBoard().getCols();
+        this.traySize = state.getCurrentPieces().length;
+        this.seed = seed;
+        this.moveCount = 0;
+        this.recording = true;
+    }
+
+    @Override
+    public void gameResumed(GameState state) {
+        // Without the moves that led here the game cannot be verified, so it is not recorded.
+        recording = false;
+    }
+
+    @Override
+    public void piecePlaced(GameState state, int pieceIndex, int row, int col, int linesCleared) {
+        if (!recording) return;
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moveCount * 2);
+        }
+        moves[moveCount++] = Replay.packMove(rows, cols, pieceIndex, row, col);
+    }
+
+    @Override
+    public void moveUndone(GameState state) {
+        if (recording && moveCount > 0) {
+            moveCount--;
+        }
+    }
+
+    @Override
+    public void gameEnded(GameState state) {
+        if (!recording) return;
+        recording = false;
+        gateway.save(toReplay(state.getScore()));
+    }
+
+    /** The current game so far, as if it ended with the given score. */
+    public Replay toReplay(int finalScore) {
+        return new Replay(rows, cols, traySize, seed, dealMode, Arrays.copyOf(moves, moveCount), finalScore);
+    }
+}
@@ -0,0 +1,59 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceGenerator;
+import entity.blockblast.Replay;
+
+/**
+ * Replays a recorded game headlessly and checks that every move was legal and that the
+ * recorded score is the one the moves actually earn. Instances are not thread-safe; use
+ * one per thread.
+ */
+public class ReplayVerifier {
+
+    public static final class Result {
+        private final boolean valid;
+        private final int replayedScore;
+        private final String message;
+
+        Result(boolean valid, int replayedScore, String message) {
+            this.valid = valid;
+            this.replayedScore = replayedScore;
+            this.message = message;
+        }
+
+        public boolean isValid() {
+            return valid;
+        }
+
+        public int getReplayedScore() {
+            return replayedScore;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    public Result verify(Replay replay) {
+        GameState state = new GameState(
+                new Board(replay.getRows(), replay.getCols()), new Piece[replay.getTraySize()], 0, false);
+        GameEngine engine = new GameEngine(state, PieceGenerator.forDealMode(replay.getDealMode(), replay.getSeed()));
+        engine.startGame(replay.getSeed());
+
+        for (int i = 0; i < replay.getMoveCount(); i++) {
+            GameEngine.MoveResult result = engine.play(replay.getPieceIndex(i), replay.getRow(i), replay.getCol(i));
+            if (result != GameEngine.MoveResult.PLACED) {
+                return new Result(false, state.getScore(), "Move " + i + " rejected: " + result);
+            }
+        }
+        if (state.getScore() != replay.getFinalScore()) {
+            return new Result(false, state.getScore(),
+                    "Score mismatch: recorded " + replay.getFinalScore() + ", replayed " + state.getScore());
+        }
+        return new Result(true, state.getScore(), "OK");
+    }
+}
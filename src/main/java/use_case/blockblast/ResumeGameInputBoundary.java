@@ -0,0 +1,6 @@
+package use_case.blockblast;
+
+public interface ResumeGameInputBoundary {
+    /** Resumes the saved game, returning false if there is no unfinished game to resume. */
+    boolean execute(String saveId);
+}
@@ -0,0 +1,32 @@
+package use_case.blockblast;
+
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+
+public class ResumeGameInteractor implements ResumeGameInputBoundary {
+    private final GameEngine engine;
+    private final GameSaveGateway gateway;
+    private final PlacePieceOutputBoundary presenter;
+
+    public ResumeGameInteractor(GameEngine engine, GameSaveGateway gateway, PlacePieceOutputBoundary presenter) {
+        this.engine = engine;
+        this.gateway = gateway;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public boolean execute(String saveId) {
+        GameState saved = gateway.load(saveId);
+        GameState current = engine.getGameState();
+        if (saved == null || saved.isGameOver()
+                || saved.getBoard().getRows() != current.getBoard().getRows()
+                || saved.getBoard().getCols() != current.getBoard().getCols()
+                || saved.getCurrentPieces().length != current.getCurrentPieces().length) {
+            return false;
+        }
+        engine.resume(saved);
+        presenter.prepareSuccessView(
+                new PlacePieceResponseModel(current, BoardChangeSet.EVERYTHING, PlacementMap.of(engine)));
+        return true;
+    }
+}
@@ -0,0 +1,140 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceGenerator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Many independent Block Blast games keyed by user or session id, for running the game as a
+ * shared service. Each session has its own lock, so moves on different sessions run in
+ * parallel while moves on one session are applied one at a time. Sessions untouched for
+ * longer than the idle timeout are evicted and handed to the eviction listener, e.g. to save
+ * them; the next access to that id creates a fresh session through the factory.
+ */
+public class SessionRegistry {
+    private static final int TRAY_SIZE = 3;
+
+    private final Map<String, BlockBlastSession> sessions = new ConcurrentHashMap<>();
+    private final Function<String, GameEngine> factory;
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+    private volatile Consumer<BlockBlastSession> evictionListener = session -> {};
+
+    /** Sessions start a new game on a rows x cols board. */
+    public SessionRegistry(int rows, int cols, long idleTimeoutMillis) {
+        this(id -> newGame(rows, cols), idleTimeoutMillis, System::nanoTime);
+    }
+
+    /**
+     * @param factory creates the engine for an id with no live session, e.g. by resuming a save;
+     *                when two threads open the same id at once, both may call it and one engine
+     *                is discarded
+     * @param clock   nanosecond time source, replaceable in tests
+     */
+    public SessionRegistry(Function<String, GameEngine> factory, long idleTimeoutMillis, LongSupplier clock) {
+        if (idleTimeoutMillis <= 0) throw new IllegalArgumentException("idle timeout must be positive");
+        this.factory = factory;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.clock = clock;
+    }
+
+    public void setEvictionListener(Consumer<BlockBlastSession> listener) {
+        this.evictionListener = listener;
+    }
+
+    /**
+     * Runs the action on the session's engine while holding the session's lock, creating the
+     * session if needed. The action must not touch the engine after it returns.
+     */
+    public <T> T withSession(String id, Function<GameEngine, T> action) {
+        if (id == null) throw new IllegalArgumentException("session id required");
+        while (true) {
+            BlockBlastSession session = sessions.get(id);
+            if (session == null) {
+                // Built outside the map so a slow factory never holds one of its bin locks.
+                BlockBlastSession created = new BlockBlastSession(id, factory.apply(id), clock.getAsLong());
+                session = sessions.putIfAbsent(id, created);
+                if (session == null) session = created;
+            }
+            session.lock.lock();
+            try {
+                if (session.evicted) {
+                    continue; // lost a race with eviction; the next lookup creates a new session
+                }
+                session.lastAccess = clock.getAsLong();
+                return action.apply(session.getEngine());
+            } finally {
+                session.lock.unlock();
+            }
+        }
+    }
+
+    public GameEngine.MoveResult play(String id, PlacePieceRequestModel move) {
+        return withSession(id, engine -> engine.play(move.getPieceIndex(), move.getRow(), move.getCol()));
+    }
+
+    /** Ends the session now, without notifying the eviction listener. */
+    public void remove(String id) {
+        BlockBlastSession session = sessions.get(id);
+        if (session == null) return;
+        session.lock.lock();
+        try {
+            session.evicted = true;
+            sessions.remove(id, session);
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Evicts every session idle for longer than the timeout. Sessions that are busy are
+     * skipped rather than waited for.
+     */
+    public int evictIdle() {
+        long cutoff = clock.getAsLong() - idleTimeoutNanos;
+        int evicted = 0;
+        for (BlockBlastSession session : sessions.values()) {
+            if (session.lastAccess - cutoff >= 0 || !session.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (session.lastAccess - cutoff < 0 && !session.evicted) {
+                    session.evicted = true;
+                    sessions.remove(session.getId(), session);
+                    evictionListener.accept(session);
+                    evicted++;
+                }
+            } finally {
+                session.lock.unlock();
+            }
+        }
+        return evicted;
+    }
+
+    /** Runs evictIdle on the executor every {@code periodMillis}. */
+    public ScheduledFuture<?> scheduleEviction(ScheduledExecutorService executor, long periodMillis) {
+        return executor.scheduleWithFixedDelay(this::evictIdle, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static GameEngine newGame(int rows, int cols) {
+        GameEngine engine = new GameEngine(
+                new GameState(new Board(rows, cols), new Piece[TRAY_SIZE], 0, false), new PieceGenerator());
+        engine.newGame();
+        return engine;
+    }
+}
@@ -0,0 +1,90 @@
+package use_case.blockblast;
+
+import java.util.Arrays;
+
+/**
+ * Totals from a simulation run. Scores and game lengths are kept as histograms
+ * (count per value) so millions of games cost a few kilobytes.
+ */
+public class SimulationReport {
+    private final long games;
+    private final long moves;
+    private final long elapsedNanos;
+    private final long[] scoreCounts;
+    private final long[] lengthCounts;
+
+    public SimulationReport(long games, long moves, long elapsedNanos, long[] scoreCounts, long[] lengthCounts) {
+        this.games = games;
+        this.moves = moves;
+        this.elapsedNanos = elapsedNanos;
+        this.scoreCounts = scoreCounts.clone();
+        this.lengthCounts = lengthCounts.clone();
+    }
+
+    public long getGames() { return games; }
+    public long getMoves() { return moves; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getGamesPerSecond() {
+        return games / seconds();
+    }
+
+    public double getMovesPerSecond() {
+        return moves / seconds();
+    }
+
+    /** Smallest score reached by at least {@code percentile} percent of games. */
+    public int getScorePercentile(double percentile) {
+        return percentile(scoreCounts, percentile);
+    }
+
+    public int getLengthPercentile(double percentile) {
+        return percentile(lengthCounts, percentile);
+    }
+
+    /** Number of games that lasted exactly {@code index} moves, for every length seen. */
+    public long[] getLengthHistogram() {
+        return lengthCounts.clone();
+    }
+
+    public long[] getScoreHistogram() {
+        return scoreCounts.clone();
+    }
+
+    private double seconds() {
+        return Math.max(1, elapsedNanos) / 1e9;
+    }
+
+    private int percentile(long[] counts, double percentile) {
+        if (games == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * games);
+        long seen = 0;
+        for (int value = 0; value < counts.length; value++) {
+            seen += counts[value];
+            if (seen >= Math.max(1, rank)) {
+                return value;
+            }
+        }
+        return counts.length - 1;
+    }
+
+    /** Adds {@code other} into {@code into}, growing it if needed; returns the merged array. */
+    static long[] merge(long[] into, long[] other) {
+        long[] merged = into.length >= other.length ? into : Arrays.copyOf(into, other.length);
+        for (int i = 0; i < other.length; i++) {
+            merged[i] += other[i];
+        }
+        return merged;
+    }
+
+    /** Increments {@code counts[value]}, growing the array if needed; returns the array to keep. */
+    static long[] record(long[] counts, int value) {
+        if (value >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(value + 1, counts.length * 2));
+        }
+        counts[value]++;
+        return counts;
+    }
+}
@@ -0,0 +1,118 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Plays many headless Block Blast games with a bot policy, spread across worker threads.
+ * Each worker plays a fixed share of the games with its own generator split from the run's
+ * seed, its own policy and its own board, so a run is reproducible for a given seed and
+ * thread count and workers share nothing until the totals are merged.
+ */
+public class SimulationRunner {
+    private static final int TRAY_SIZE = 3;
+
+    private final int rows;
+    private final int cols;
+    private final int threads;
+    private final int maxMovesPerGame;
+    private final Supplier<BotPolicy> policyFactory;
+
+    public SimulationRunner(int rows, int cols, int threads, int maxMovesPerGame, Supplier<BotPolicy> policyFactory) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be at least 1");
+        this.rows = rows;
+        this.cols = cols;
+        this.threads = threads;
+        this.maxMovesPerGame = maxMovesPerGame;
+        this.policyFactory = policyFactory;
+    }
+
+    public SimulationReport run(long games, long seed) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            PieceGenerator root = new PieceGenerator(seed);
+            List<Future<Worker>> futures = new ArrayList<>();
+            for (int w = 0; w < threads; w++) {
+                long share = games / threads + (w < games % threads ? 1 : 0);
+                Worker worker = new Worker(share, root.split());
+                futures.add(executor.submit(() -> {
+                    worker.run();
+                    return worker;
+                }));
+            }
+
+            long totalGames = 0, totalMoves = 0;
+            long[] scores = new long[0], lengths = new long[0];
+            for (Future<Worker> future : futures) {
+                Worker worker = future.get();
+                totalGames += worker.games;
+                totalMoves += worker.moves;
+                scores = SimulationReport.merge(scores, worker.scoreCounts);
+                lengths = SimulationReport.merge(lengths, worker.lengthCounts);
+            }
+            return new SimulationReport(totalGames, totalMoves, System.nanoTime() - start, scores, lengths);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** SplitMix64 finaliser, to derive the policy's seed from the generator's. */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private final class Worker {
+        final long share;
+        final PieceGenerator generator;
+        long games;
+        long moves;
+        long[] scoreCounts = new long[64];
+        long[] lengthCounts = new long[64];
+
+        Worker(long share, PieceGenerator generator) {
+            this.share = share;
+            this.generator = generator;
+        }
+
+        void run() {
+            Random random = new Random(mix(generator.getSeed()));
+            BotPolicy policy = policyFactory.get();
+            GameState state = new GameState(new Board(rows, cols), new Piece[TRAY_SIZE], 0, false);
+            GameEngine engine = new GameEngine(state, generator);
+
+            for (long g = 0; g < share && !Thread.currentThread().isInterrupted(); g++) {
+                engine.newGame();
+                int length = 0;
+                while (!state.isGameOver() && length < maxMovesPerGame) {
+                    PlacePieceRequestModel move = policy.chooseMove(engine, random);
+                    if (move == null
+                            || engine.play(move.getPieceIndex(), move.getRow(), move.getCol()) != GameEngine.MoveResult.PLACED) {
+                        break;
+                    }
+                    length++;
+                }
+                games++;
+                moves += length;
+                scoreCounts = SimulationReport.record(scoreCounts, state.getScore());
+                lengthCounts = SimulationReport.record(lengthCounts, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package use_case.blockblast;
+
+import java.util.List;
+
+public class SolverResult {
+    private final List<PlacePieceRequestModel> moves;
+    private final double score;
+    private final boolean complete;
+
+    public SolverResult(List<PlacePieceRequestModel> moves, double score, boolean complete) {
+        this.moves = List.copyOf(moves);
+        this.score = score;
+        this.complete = complete;
+    }
+
+    /** Moves in the order they should be played; empty if no piece fits. */
+    public List<PlacePieceRequestModel> getMoves() {
+        return moves;
+    }
+    public double getScore() {
+        return score;
+    }
+    /** False if the time budget ran out before every branch was searched. */
+    public boolean isComplete() {
+        return complete;
+    }
+}
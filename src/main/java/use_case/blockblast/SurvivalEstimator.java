@@ -0,0 +1,168 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameListener;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The "danger meter": estimates the chance of getting through the current tray and the next
+ * {@code trays} trays by playing rollouts from the current position with a bot policy.
+ *
+ * Rollouts run on a worker pool. Every change to the game cancels the rollouts in flight and
+ * starts new ones; workers report running totals after every batch, so the estimate sharpens
+ * while the player thinks. The listener callbacks only copy the position and submit work, so
+ * the thread playing the game never waits on a rollout. Future trays are dealt like the real
+ * game's, from a generator of the same deal mode.
+ */
+public class SurvivalEstimator implements GameListener {
+    private static final int BATCH = 16;
+
+    private final ExecutorService executor;
+    private final int workers;
+    private final int rollouts;
+    private final int trays;
+    private final int dealMode;
+    private final Supplier<BotPolicy> policyFactory;
+    private final SurvivalOutputBoundary presenter;
+    private final AtomicInteger generation = new AtomicInteger();
+    private final SplittableRandom seeds = new SplittableRandom();
+    private final List<Future<?>> running = new ArrayList<>();
+
+    public SurvivalEstimator(ExecutorService executor, int workers, int rollouts, int trays, int dealMode,
+                             Supplier<BotPolicy> policyFactory, SurvivalOutputBoundary presenter) {
+        if (workers < 1 || rollouts < 1 || trays < 0) {
+            throw new IllegalArgumentException("Invalid survival estimate settings");
+        }
+        this.executor = executor;
+        this.workers = workers;
+        this.rollouts = rollouts;
+        this.trays = trays;
+        this.dealMode = dealMode;
+        this.policyFactory = policyFactory;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void gameStarted(GameState state, long seed) {
+        restart(state);
+    }
+
+    @Override
+    public void gameResumed(GameState state) {
+        restart(state);
+    }
+
+    @Override
+    public void piecePlaced(GameState state, int pieceIndex, int row, int col, int linesCleared) {
+        restart(state);
+    }
+
+    @Override
+    public void moveUndone(GameState state) {
+        restart(state);
+    }
+
+    /** Stops the rollouts in flight; their results are no longer reported. */
+    public void cancel() {
+        generation.incrementAndGet();
+        for (Future<?> future : running) {
+            future.cancel(true);
+        }
+        running.clear();
+    }
+
+    private void restart(GameState state) {
+        cancel();
+        int gen = generation.get();
+        if (state.isGameOver()) {
+            presenter.prepareSurvivalView(new SurvivalResponseModel(gen, 0, rollouts, rollouts, trays));
+            return;
+        }
+
+        Piece[] tray = state.getCurrentPieces().clone();
+        int moves = trays * tray.length;
+        for (Piece piece : tray) {
+            if (piece != null) moves++;
+        }
+        Run run = new Run(gen, new GameState(state.getBoard().copyWithoutColors(), tray, state.getScore(), false), moves);
+        for (int w = 0; w < workers; w++) {
+            int share = rollouts / workers + (w < rollouts % workers ? 1 : 0);
+            long seed = seeds.nextLong();
+            running.add(executor.submit(() -> {
+                try {
+                    run.work(share, seed);
+                } catch (RuntimeException e) {
+                    // Submitted tasks swallow exceptions, so a failed estimate is reported here.
+                    System.err.println("Survival estimate failed: " + e);
+                    throw e;
+                }
+            }));
+        }
+    }
+
+    /** One estimate: a read-only snapshot of the position and the totals shared by its workers. */
+    private final class Run {
+        final int gen;
+        final GameState start;
+        final int targetMoves;
+        final AtomicLong totals = new AtomicLong();
+
+        Run(int gen, GameState start, int targetMoves) {
+            this.gen = gen;
+            this.start = start;
+            this.targetMoves = targetMoves;
+        }
+
+        void work(int share, long seed) {
+            Board startBoard = start.getBoard();
+            Board board = new Board(startBoard.getRows(), startBoard.getCols()).copyWithoutColors();
+            GameState state = new GameState(board, new Piece[start.getCurrentPieces().length], 0, false);
+            GameEngine engine = new GameEngine(state, PieceGenerator.forDealMode(dealMode, seed));
+            BotPolicy policy = policyFactory.get();
+            Random random = new Random(SimulationRunner.mix(seed));
+
+            for (int done = 0; done < share; ) {
+                int survived = 0;
+                int batch = Math.min(BATCH, share - done);
+                for (int i = 0; i < batch; i++) {
+                    if (generation.get() != gen) return;
+                    if (rollout(engine, policy, random)) survived++;
+                }
+                done += batch;
+                // Survived count in the high half, rollouts in the low half, so both move together.
+                long sum = totals.addAndGet(((long) survived << 32) | batch);
+                if (generation.get() == gen) {
+                    presenter.prepareSurvivalView(
+                            new SurvivalResponseModel(gen, (int) (sum >>> 32), (int) sum, rollouts, trays));
+                }
+            }
+        }
+
+        private boolean rollout(GameEngine engine, BotPolicy policy, Random random) {
+            engine.resume(start);
+            GameState state = engine.getGameState();
+            for (int moves = 0; moves < targetMoves; moves++) {
+                if (state.isGameOver()) return false;
+                PlacePieceRequestModel move = policy.chooseMove(engine, random);
+                if (move == null
+                        || engine.play(move.getPieceIndex(), move.getRow(), move.getCol()) != GameEngine.MoveResult.PLACED) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
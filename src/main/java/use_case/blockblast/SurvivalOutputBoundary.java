@@ -0,0 +1,6 @@
+package use_case.blockblast;
+
+public interface SurvivalOutputBoundary {
+    /** Called from worker threads with running totals, and once more when the estimate is complete. */
+    void prepareSurvivalView(SurvivalResponseModel responseModel);
+}
@@ -0,0 +1,51 @@
+package use_case.blockblast;
+
+/**
+ * Running result of a survival estimate: how many of the rollouts played so far got through
+ * the next {@code trays} trays. Later estimates have a higher generation; within one
+ * generation, a result with more rollouts supersedes one with fewer.
+ */
+public class SurvivalResponseModel {
+    private final int generation;
+    private final int survived;
+    private final int rollouts;
+    private final int targetRollouts;
+    private final int trays;
+
+    public SurvivalResponseModel(int generation, int survived, int rollouts, int targetRollouts, int trays) {
+        this.generation = generation;
+        this.survived = survived;
+        this.rollouts = rollouts;
+        this.targetRollouts = targetRollouts;
+        this.trays = trays;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public int getSurvived() {
+        return survived;
+    }
+
+    public int getRollouts() {
+        return rollouts;
+    }
+
+    public int getTargetRollouts() {
+        return targetRollouts;
+    }
+
+    public int getTrays() {
+        return trays;
+    }
+
+    public boolean isComplete() {
+        return rollouts >= targetRollouts;
+    }
+
+    /** Fraction of rollouts that survived, or 0 before any rollout finished. */
+    public double getProbability() {
+        return rollouts == 0 ? 0.0 : survived / (double) rollouts;
+    }
+}
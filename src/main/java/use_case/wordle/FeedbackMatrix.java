@@ -0,0 +1,95 @@
+package use_case.wordle;
+
+import entity.wordle.Feedback;
+import entity.wordle.PackedWords;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The feedback code (see Feedback) of every guess against every answer, one byte per pair,
+ * row by row: the code for guess g and answer a is at g * answerCount + a. The bytes may be a
+ * read-only memory-mapped file shared by every session, so lookups never copy the matrix.
+ *
+ * Guesses given as PackedWords are kept as they are, so the rows share the word list's packed
+ * int[] and guessIndex is a binary search over it; other guess lists are copied and searched
+ * in order.
+ */
+public final class FeedbackMatrix {
+    private final List<String> guesses;
+    private final List<String> answers;
+    private final ByteBuffer codes;
+    private final Map<String, Integer> answerIndex = new HashMap<>();
+
+    public FeedbackMatrix(List<String> guesses, List<String> answers, ByteBuffer codes) {
+        if ((long) guesses.size() * answers.size() != codes.capacity()) {
+            throw new IllegalArgumentException("Matrix has " + codes.capacity() + " codes, expected "
+                    + (long) guesses.size() * answers.size());
+        }
+        this.guesses = guesses instanceof PackedWords ? guesses : List.copyOf(guesses);
+        this.answers = List.copyOf(answers);
+        this.codes = codes.asReadOnlyBuffer();
+        for (int i = 0; i < answers.size(); i++) answerIndex.putIfAbsent(answers.get(i), i);
+    }
+
+    /** Computes every row in parallel on the common pool. */
+    public static FeedbackMatrix compute(List<String> guesses, List<String> answers) {
+        return new FeedbackMatrix(guesses, answers, ByteBuffer.wrap(computeCodes(guesses, answers)));
+    }
+
+    public static byte[] computeCodes(List<String> guesses, List<String> answers) {
+        int n = answers.size();
+        byte[] codes = new byte[Math.multiplyExact(guesses.size(), n)];
+        String[] answerArray = answers.toArray(new String[0]);
+        IntStream.range(0, guesses.size()).parallel().forEach(g -> {
+            String guess = guesses.get(g);
+            int row = g * n;
+            for (int a = 0; a < n; a++) {
+                codes[row + a] = (byte) Feedback.of(guess, answerArray[a]);
+            }
+        });
+        return codes;
+    }
+
+    /**
+     * Identifies the word lists a matrix was built from, so a stored matrix can be checked
+     * against the current lists: FNV-1a over both lists in order.
+     */
+    public static long fingerprint(List<String> guesses, List<String> answers) {
+        long h = 0xcbf29ce484222325L;
+        for (List<String> words : List.of(guesses, answers)) {
+            for (String word : words) {
+                for (int i = 0; i < word.length(); i++) h = (h ^ word.charAt(i)) * 0x100000001b3L;
+                h = (h ^ '\n') * 0x100000001b3L;
+            }
+            h = (h ^ 0xFF) * 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /** The feedback code for guess index g against answer index a. */
+    public int feedback(int guess, int answer) {
+        return codes.get(guess * answers.size() + answer) & 0xFF;
+    }
+
+    /** Index of a guess word, or -1 if it is not a row of the matrix. */
+    public int guessIndex(String word) {
+        return guesses.indexOf(word);
+    }
+
+    /** Index of an answer word, or -1 if it is not a column of the matrix. */
+    public int answerIndex(String word) {
+        return answerIndex.getOrDefault(word, -1);
+    }
+
+    public List<String> getGuesses() {
+        return guesses;
+    }
+
+    public List<String> getAnswers() {
+        return answers;
+    }
+}
@@ -0,0 +1,11 @@
+package use_case.wordle;
+
+import java.util.List;
+
+/**
+ * Supplies the feedback matrix for a pair of word lists, building it if it is missing or was
+ * built from different lists.
+ */
+public interface FeedbackMatrixGateway {
+    FeedbackMatrix load(List<String> guesses, List<String> answers);
+}
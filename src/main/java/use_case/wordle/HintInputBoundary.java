@@ -0,0 +1,5 @@
+package use_case.wordle;
+
+public interface HintInputBoundary {
+    void hint(HintInputData request);
+}
@@ -0,0 +1,14 @@
+package use_case.wordle;
+
+public class HintInputData {
+    private final String userId;
+    private final boolean hardMode;
+
+    public HintInputData(String userId, boolean hardMode) {
+        this.userId = userId;
+        this.hardMode = hardMode;
+    }
+
+    public String getUserId() { return userId; }
+    public boolean isHardMode() { return hardMode; }
+}
@@ -0,0 +1,256 @@
+package use_case.wordle;
+
+import entity.wordle.AnswerIndex;
+import entity.wordle.Feedback;
+import entity.wordle.Guess;
+import entity.wordle.LetterState;
+import entity.wordle.WordleGame;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Suggests the valid word whose feedback tells the most about the answer: the one with the
+ * highest entropy over the answers still consistent with the game's feedback so far, taken
+ * from the game's candidate bitset (see AnswerIndex). Every valid word is scored by splitting
+ * those answers by feedback code through the precomputed FeedbackMatrix, in parallel chunks
+ * on the pool. Ties go to words that could themselves be the answer, then to the earlier word.
+ *
+ * In hard mode only words that keep every green letter in place and reuse every revealed
+ * letter are suggested. Suggestions depend only on the guesses and their feedback, so they
+ * are cached by that history; the first hint of a game is the same for every game.
+ *
+ * hint() only copies the game's guesses and candidates; loading the matrix and the search run
+ * on the executor, so the caller (the EDT) never waits on them. Results are for the guesses
+ * they carry, which the presenter compares with what is shown.
+ */
+public class HintInteractor implements HintInputBoundary {
+    static final int CACHE_SIZE = 1024;
+    private static final int CHUNKS = 64;
+    private static final double EPSILON = 1e-9;
+
+    private final WordListGateway wordList;
+    private final GameSessionGateway sessionGateway;
+    private final FeedbackMatrixGateway matrixGateway;
+    private final HintOutputBoundary presenter;
+    private final ForkJoinPool pool;
+    private final Executor executor;
+    private final Map<String, Suggestion> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Suggestion> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    private FeedbackMatrix matrix;
+    private AnswerIndex index;
+
+    public HintInteractor(WordListGateway wordList, GameSessionGateway sessionGateway,
+                          FeedbackMatrixGateway matrixGateway, HintOutputBoundary presenter, ForkJoinPool pool,
+                          Executor executor) {
+        this.wordList = Objects.requireNonNull(wordList);
+        this.sessionGateway = Objects.requireNonNull(sessionGateway);
+        this.matrixGateway = Objects.requireNonNull(matrixGateway);
+        this.presenter = Objects.requireNonNull(presenter);
+        this.pool = Objects.requireNonNull(pool);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public void hint(HintInputData request) {
+        WordleGame game = sessionGateway.load(request.getUserId());
+        if (game == null) {
+            presenter.presentHint(new HintOutputData(List.of(), 0, null, 0, -1, "No active game — start a new game first."));
+            return;
+        }
+        List<Guess> guesses = game.getGuesses();
+        int attemptsLeft = WordleGame.MAX_ATTEMPTS - guesses.size();
+        if (game.isFinished()) {
+            presenter.presentHint(new HintOutputData(guesses, attemptsLeft, null, 0, game.getCandidateCount(), "The game is over."));
+            return;
+        }
+
+        AnswerIndex answers = game.getAnswerIndex();
+        long[] tracked = game.getCandidates();
+        boolean hardMode = request.isHardMode();
+        CompletableFuture.supplyAsync(() -> {
+            // Games over the same answer index already track their candidates.
+            long[] candidates = answers != null && answers == index() ? tracked : null;
+            return suggest(guesses, candidates, hardMode);
+        }, executor).whenComplete((s, error) -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                presenter.presentHint(new HintOutputData(guesses, attemptsLeft, null, 0,
+                        tracked == null ? -1 : AnswerIndex.count(tracked), "Hint failed: " + cause.getMessage()));
+                return;
+            }
+            String message = s.word == null
+                    ? "No word fits the feedback so far."
+                    : String.format("Hint: %s (%.2f bits, %d possible answer%s left)",
+                            s.word.toUpperCase(), s.bits, s.answersLeft, s.answersLeft == 1 ? "" : "s");
+            presenter.presentHint(new HintOutputData(guesses, attemptsLeft, s.word, s.bits, s.answersLeft, message));
+        });
+    }
+
+    /** Loads the feedback matrix and works out the opening hint now rather than on the first request. */
+    public void prepare() {
+        suggest(List.of(), null, false);
+    }
+
+    /** The suggestion after these guesses; candidates may be null, and are then worked out from the history. */
+    Suggestion suggest(List<Guess> history, long[] candidates, boolean hardMode) {
+        // Before the first guess hard mode rules nothing out.
+        hardMode &= !history.isEmpty();
+        StringBuilder key = new StringBuilder(hardMode ? "H" : "N");
+        for (Guess g : history) key.append(g.getGuess()).append(g.getFeedback()).append(',');
+        String k = key.toString();
+        synchronized (cache) {
+            Suggestion cached = cache.get(k);
+            if (cached != null) return cached;
+        }
+        FeedbackMatrix m = matrix();
+        if (candidates == null) {
+            AnswerIndex answers = index();
+            candidates = answers.all();
+            for (Guess g : history) answers.narrow(candidates, g.getGuess(), g.getFeedback());
+        }
+        Suggestion s = compute(m, AnswerIndex.indices(candidates), history, hardMode);
+        synchronized (cache) {
+            cache.put(k, s);
+        }
+        return s;
+    }
+
+    private synchronized FeedbackMatrix matrix() {
+        if (matrix == null) {
+            matrix = matrixGateway.load(wordList.getAllValidWords(), wordList.getAllAnswers());
+            AnswerIndex shared = wordList.getAnswerIndex();
+            index = shared != null && shared.getAnswers().equals(matrix.getAnswers())
+                    ? shared : new AnswerIndex(matrix.getAnswers());
+        }
+        return matrix;
+    }
+
+    /** The answer index whose bits line up with the matrix columns. */
+    private synchronized AnswerIndex index() {
+        matrix();
+        return index;
+    }
+
+    private Suggestion compute(FeedbackMatrix m, int[] candidates, List<Guess> history, boolean hardMode) {
+        if (candidates.length == 0) return new Suggestion(null, 0, 0);
+        boolean[] isCandidate = new boolean[m.getAnswers().size()];
+        for (int a : candidates) isCandidate[a] = true;
+        double[] cLogC = new double[candidates.length + 1];
+        for (int c = 2; c <= candidates.length; c++) cLogC[c] = c * Math.log(c) / Math.log(2);
+
+        int guessCount = m.getGuesses().size();
+        int chunk = (guessCount + CHUNKS - 1) / CHUNKS;
+        Best best;
+        try {
+            best = pool.submit(() -> IntStream.range(0, CHUNKS).parallel()
+                    .mapToObj(i -> scoreRange(m, i * chunk, Math.min(guessCount, (i + 1) * chunk),
+                            candidates, isCandidate, cLogC, history, hardMode))
+                    .reduce(new Best(), Best::better)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hint interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Hint failed", e.getCause());
+        }
+        if (best.guess < 0) return new Suggestion(null, 0, candidates.length);
+        double bits = Math.log(candidates.length) / Math.log(2) - best.sumCLogC / candidates.length;
+        return new Suggestion(m.getGuesses().get(best.guess), bits, candidates.length);
+    }
+
+    /**
+     * Scores guesses [from, to). The guess with the smallest sum of c log c over its feedback
+     * partition has the highest entropy, so that sum is what is compared.
+     */
+    private static Best scoreRange(FeedbackMatrix m, int from, int to, int[] candidates, boolean[] isCandidate,
+                                   double[] cLogC, List<Guess> history, boolean hardMode) {
+        int[] counts = new int[Feedback.CODES];
+        int[] touched = new int[Feedback.CODES];
+        Best best = new Best();
+        for (int g = from; g < to; g++) {
+            if (hardMode && !allowedInHardMode(m.getGuesses().get(g), history)) continue;
+            int distinct = 0;
+            for (int a : candidates) {
+                int code = m.feedback(g, a);
+                if (counts[code]++ == 0) touched[distinct++] = code;
+            }
+            double sum = 0;
+            for (int i = 0; i < distinct; i++) {
+                int code = touched[i];
+                sum += cLogC[counts[code]];
+                counts[code] = 0;
+            }
+            if (sum > best.sumCLogC + EPSILON) continue;
+            best = best.better(new Best(g, sum, isCandidateWord(m, g, isCandidate)));
+        }
+        return best;
+    }
+
+    private static boolean isCandidateWord(FeedbackMatrix m, int guess, boolean[] isCandidate) {
+        int a = m.answerIndex(m.getGuesses().get(guess));
+        return a >= 0 && isCandidate[a];
+    }
+
+    /** Hard mode: green letters stay where they are and every revealed letter is used again. */
+    static boolean allowedInHardMode(String word, List<Guess> history) {
+        for (Guess g : history) {
+            String previous = g.getGuess();
+            int[] revealed = new int[26];
+            for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+                LetterState state = Feedback.state(g.getFeedback(), i);
+                if (state == LetterState.CORRECT && word.charAt(i) != previous.charAt(i)) return false;
+                if (state != LetterState.ABSENT) revealed[previous.charAt(i) - 'a']++;
+            }
+            for (int i = 0; i < WordleGame.WORD_LENGTH; i++) revealed[word.charAt(i) - 'a']--;
+            for (int count : revealed) if (count > 0) return false;
+        }
+        return true;
+    }
+
+    static final class Suggestion {
+        final String word;
+        final double bits;
+        final int answersLeft;
+
+        Suggestion(String word, double bits, int answersLeft) {
+            this.word = word;
+            this.bits = bits;
+            this.answersLeft = answersLeft;
+        }
+    }
+
+    private static final class Best {
+        final int guess;
+        final double sumCLogC;
+        final boolean candidate;
+
+        Best() {
+            this(-1, Double.POSITIVE_INFINITY, false);
+        }
+
+        Best(int guess, double sumCLogC, boolean candidate) {
+            this.guess = guess;
+            this.sumCLogC = sumCLogC;
+            this.candidate = candidate;
+        }
+
+        Best better(Best other) {
+            if (other.guess < 0) return this;
+            if (guess < 0) return other;
+            if (Math.abs(other.sumCLogC - sumCLogC) > EPSILON) return other.sumCLogC < sumCLogC ? other : this;
+            if (other.candidate != candidate) return other.candidate ? other : this;
+            return other.guess < guess ? other : this;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package use_case.wordle;
+
+public interface HintOutputBoundary {
+    /** May be called from a background thread; the hint is for data.guesses, which may no longer be current. */
+    void presentHint(HintOutputData data);
+}
@@ -0,0 +1,26 @@
+package use_case.wordle;
+
+import entity.wordle.Guess;
+import java.util.List;
+
+/**
+ * A suggested guess for the game in progress. hint is null when there is nothing to suggest,
+ * and message says why.
+ */
+public class HintOutputData {
+    public final List<Guess> guesses;
+    public final int attemptsLeft;
+    public final String hint;
+    public final double expectedBits;
+    public final int answersLeft;
+    public final String message;
+
+    public HintOutputData(List<Guess> guesses, int attemptsLeft, String hint, double expectedBits, int answersLeft, String message) {
+        this.guesses = guesses;
+        this.attemptsLeft = attemptsLeft;
+        this.hint = hint;
+        this.expectedBits = expectedBits;
+        this.answersLeft = answersLeft;
+        this.message = message;
+    }
+}
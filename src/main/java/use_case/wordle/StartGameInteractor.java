@@ -26,10 +26,11 @@ public class StartGameInteractor implements StartGameInputBoundary {
         } else {
             answer = wordList.pickAnswer();
         }
-        WordleGame game = new WordleGame(answer);
+        WordleGame game = new WordleGame(answer, wordList.getAnswerIndex());
         sessionGateway.save(request.getUserId(), game);
 
-        WordleOutputData out = new WordleOutputData(game.getGuesses(), WordleGame.MAX_ATTEMPTS, false, false, null, "New game started");
+        WordleOutputData out = new WordleOutputData(game.getGuesses(), WordleGame.MAX_ATTEMPTS, false, false, null, "New game started",
+                game.getCandidateCount());
         presenter.presentStart(out);
     }
 }
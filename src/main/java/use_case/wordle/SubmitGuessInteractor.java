@@ -38,7 +38,8 @@ public class SubmitGuessInteractor implements SubmitGuessInputBoundary {
                     game.isFinished(),
                     game.isWon(),
                     null,
-                    "Guess must be " + WordleGame.WORD_LENGTH + " letters."
+                    "Guess must be " + WordleGame.WORD_LENGTH + " letters.",
+                    game.getCandidateCount()
             ));
             return;
         }
@@ -50,7 +51,8 @@ public class SubmitGuessInteractor implements SubmitGuessInputBoundary {
                     game.isFinished(),
                     game.isWon(),
                     null,
-                    "'" + guess + "' is not a valid word."
+                    "'" + guess + "' is not a valid word.",
+                    game.getCandidateCount()
             ));
             return;
         }
@@ -76,7 +78,8 @@ public class SubmitGuessInteractor implements SubmitGuessInputBoundary {
                     game.isFinished(),
                     game.isWon(),
                     game.isFinished() ? game.getAnswer() : null,
-                    "Guess accepted"
+                    "Guess accepted",
+                    game.getCandidateCount()
             ));
 
         } catch (Exception e) {
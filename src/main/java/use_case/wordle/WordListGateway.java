@@ -1,9 +1,13 @@
 package use_case.wordle;
 
+import entity.wordle.AnswerIndex;
+
 import java.util.List;
 
 public interface WordListGateway {
     boolean isValidWord(String word);
     String pickAnswer();
     List<String> getAllAnswers();
+    List<String> getAllValidWords();
+    AnswerIndex getAnswerIndex();
 }
@@ -10,13 +10,19 @@ public class WordleOutputData {
     public final boolean won;
     public final String answerIfFinished;
     public final String message;
+    public final int answersLeft; // -1 when the game does not track candidates
 
     public WordleOutputData(List<Guess> guesses, int attemptsLeft, boolean finished, boolean won, String answerIfFinished, String message) {
+        this(guesses, attemptsLeft, finished, won, answerIfFinished, message, -1);
+    }
+
+    public WordleOutputData(List<Guess> guesses, int attemptsLeft, boolean finished, boolean won, String answerIfFinished, String message, int answersLeft) {
         this.guesses = guesses;
         this.attemptsLeft = attemptsLeft;
         this.finished = finished;
         this.won = won;
         this.answerIfFinished = answerIfFinished;
         this.message = message;
+        this.answersLeft = answersLeft;
     }
 }
@@ -0,0 +1,39 @@
+package view.blockblast;
+
+import entity.blockblast.PieceColor;
+
+import java.awt.Color;
+
+/** Colours used to draw the Block Blast board and tray. */
+public final class BlockBlastTheme {
+    public static final BlockBlastTheme DEFAULT = new BlockBlastTheme(
+            new Color[] {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW, Color.ORANGE, new Color(128, 0, 128), Color.CYAN},
+            new Color(220, 230, 255, 160),
+            Color.WHITE);
+
+    private final Color[] pieceColors;
+    private final Color gridColor;
+    private final Color cellBorderColor;
+
+    /** {@code pieceColors} is indexed by PieceColor ordinal. */
+    public BlockBlastTheme(Color[] pieceColors, Color gridColor, Color cellBorderColor) {
+        if (pieceColors.length != PieceColor.values().length) {
+            throw new IllegalArgumentException("Need one colour per PieceColor");
+        }
+        this.pieceColors = pieceColors.clone();
+        this.gridColor = gridColor;
+        this.cellBorderColor = cellBorderColor;
+    }
+
+    public Color colorOf(PieceColor pc) {
+        return pc == null ? Color.BLUE : pieceColors[pc.ordinal()];
+    }
+
+    public Color getGridColor() {
+        return gridColor;
+    }
+
+    public Color getCellBorderColor() {
+        return cellBorderColor;
+    }
+}
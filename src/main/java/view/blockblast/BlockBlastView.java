@@ -1,12 +1,16 @@
 package view.blockblast;
 
 import entity.Games;
+import entity.blockblast.BoardSnapshot;
 import entity.blockblast.Piece;
 import entity.blockblast.PieceColor;
 import interface_adapter.ViewManagerModel;
 import interface_adapter.blockblast.BlockBlastController;
 import interface_adapter.blockblast.BlockBlastViewModel;
 import interface_adapter.leaderboard.LeaderBoardController;
+import use_case.blockblast.BoardChangeSet;
+import use_case.blockblast.HeatmapSnapshot;
+import use_case.blockblast.PlacementMap;
 
 import javax.swing.*;
 import java.awt.*;
@@ -24,21 +28,42 @@ public class BlockBlastView extends JPanel implements PropertyChangeListener {
     private String userId = "default-user"; // Will be set from logged-in user
     private boolean scoreSubmitted = false; // Track if score was already submitted for current game
 
-    private static final int CELL_SIZE = 50;
+    // Cells shrink from MAX_CELL_SIZE so that large boards still fit the window.
+    private static final int MAX_CELL_SIZE = 50;
+    private static final int MIN_CELL_SIZE = 6;
+    private static final int BOARD_MARGIN = 10;
     private static final int OFFSET_Y  = 100;
 
     private static final int PREVIEW_CELL_SIZE = 26;
     private static final int PREVIEW_BOX_SIZE  = PREVIEW_CELL_SIZE * 4;
     private static final int PREVIEW_MARGIN    = 20;
-    private static final Color GRID_COLOR = new Color(220, 230, 255, 160);
 
     private final JLabel scoreLabel;
     private final JLabel messageLabel;
+    private final JLabel dangerLabel;
     private final JButton newGameButton;
 
 
     private final JPanel previewPanel;
     private int selectedPieceIndex = -1;
+    private Rectangle hintBounds;
+
+    // Ghost of the selected piece under the pointer, while hovering or dragging.
+    private static final Color ILLEGAL_GHOST_COLOR = new Color(255, 0, 0, 110);
+    private static final Color CLEAR_PREVIEW_COLOR = new Color(255, 255, 255, 90);
+    private static final int HEATMAP_MAX_ALPHA = 170;
+    private static final int HEATMAP_BAR = 5;
+    private boolean dragging;
+    private boolean ghostVisible;
+    private Piece ghostPiece;
+    private int ghostRow;
+    private int ghostCol;
+    private boolean ghostLegal;
+    private long ghostRows;
+    private long ghostCols;
+    private int cellSize = MAX_CELL_SIZE;
+    private final RenderLayers layers =
+            new RenderLayers(MAX_CELL_SIZE, PREVIEW_CELL_SIZE, PREVIEW_BOX_SIZE, BlockBlastTheme.DEFAULT);
 
     public BlockBlastView(BlockBlastViewModel viewModel,
                           BlockBlastController controller,
@@ -58,6 +83,8 @@ public class BlockBlastView extends JPanel implements PropertyChangeListener {
         scoreLabel.setFont(scoreLabel.getFont().deriveFont(Font.BOLD, 24f));
         messageLabel.setForeground(Color.YELLOW);
         messageLabel.setFont(messageLabel.getFont().deriveFont(Font.BOLD, 18f));
+        dangerLabel = new JLabel("");
+        dangerLabel.setFont(dangerLabel.getFont().deriveFont(Font.BOLD, 18f));
 
         newGameButton = new JButton("New Game");
         newGameButton.setFocusPainted(false);
@@ -86,6 +113,43 @@ public class BlockBlastView extends JPanel implements PropertyChangeListener {
             }
         });
 
+        JButton hintButton = new JButton("Hint");
+        hintButton.setFocusPainted(false);
+        hintButton.setBackground(new Color(144, 238, 144, 220));
+        hintButton.setForeground(Color.BLACK);
+        hintButton.setFont(hintButton.getFont().deriveFont(Font.BOLD, 16f));
+        hintButton.addActionListener(e -> {
+            messageLabel.setText("Thinking...");
+            controller.hint();
+        });
+
+        JButton undoButton = new JButton("Undo");
+        undoButton.setFocusPainted(false);
+        undoButton.setBackground(new Color(255, 255, 255, 220));
+        undoButton.setForeground(Color.BLACK);
+        undoButton.setFont(undoButton.getFont().deriveFont(Font.BOLD, 16f));
+        undoButton.addActionListener(e -> {
+            selectedPieceIndex = -1;
+            controller.undo();
+        });
+
+        JButton redoButton = new JButton("Redo");
+        redoButton.setFocusPainted(false);
+        redoButton.setBackground(new Color(255, 255, 255, 220));
+        redoButton.setForeground(Color.BLACK);
+        redoButton.setFont(redoButton.getFont().deriveFont(Font.BOLD, 16f));
+        redoButton.addActionListener(e -> {
+            selectedPieceIndex = -1;
+            controller.redo();
+        });
+
+        JToggleButton heatmapButton = new JToggleButton("Heatmap");
+        heatmapButton.setFocusPainted(false);
+        heatmapButton.setBackground(new Color(255, 255, 255, 220));
+        heatmapButton.setForeground(Color.BLACK);
+        heatmapButton.setFont(heatmapButton.getFont().deriveFont(Font.BOLD, 16f));
+        heatmapButton.addActionListener(e -> controller.showHeatmap(heatmapButton.isSelected()));
+
         JButton leaderboardButton = new JButton("Leaderboard");
         leaderboardButton.setFocusPainted(false);
         leaderboardButton.setBackground(new Color(255, 215, 0, 220)); // Gold color
@@ -107,6 +171,16 @@ public class BlockBlastView extends JPanel implements PropertyChangeListener {
         topBar.add(backButton);
         topBar.add(Box.createHorizontalStrut(10));
         topBar.add(leaderboardButton);
+        topBar.add(Box.createHorizontalStrut(10));
+        topBar.add(hintButton);
+        topBar.add(Box.createHorizontalStrut(10));
+        topBar.add(undoButton);
+        topBar.add(Box.createHorizontalStrut(10));
+        topBar.add(redoButton);
+        topBar.add(Box.createHorizontalStrut(10));
+        topBar.add(heatmapButton);
+        topBar.add(Box.createHorizontalStrut(30));
+        topBar.add(dangerLabel);
         topBar.add(Box.createHorizontalStrut(30));
         topBar.add(messageLabel);
         add(topBar, BorderLayout.NORTH);
@@ -119,136 +193,340 @@ public class BlockBlastView extends JPanel implements PropertyChangeListener {
             }
         };
         previewPanel.setOpaque(false);
-        previewPanel.setPreferredSize(new Dimension(400, PREVIEW_BOX_SIZE + 2 * PREVIEW_MARGIN));
+        previewPanel.setPreferredSize(new Dimension(previewWidth(traySize()), PREVIEW_BOX_SIZE + 2 * PREVIEW_MARGIN));
         add(previewPanel, BorderLayout.SOUTH);
 
-        addMouseListener(new MouseAdapter() {
+        MouseAdapter boardMouse = new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
                 handleBoardClick(e);
             }
-        });
 
-        previewPanel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                updateGhost(e.getPoint());
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                hideGhost();
+            }
+        };
+        addMouseListener(boardMouse);
+        addMouseMotionListener(boardMouse);
+
+        // Pieces can be dragged from the tray onto the board, or clicked and then placed.
+        MouseAdapter trayMouse = new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
                 handlePreviewClick(e);
             }
-        });
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                int slot = previewSlotAt(e.getX(), e.getY());
+                Piece[] pieces = viewModel.getPieces();
+                if (SwingUtilities.isLeftMouseButton(e) && slot >= 0 && pieces != null && pieces[slot] != null) {
+                    selectedPieceIndex = slot;
+                    dragging = true;
+                    previewPanel.repaint();
+                }
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (dragging) {
+                    updateGhost(SwingUtilities.convertPoint(previewPanel, e.getPoint(), BlockBlastView.this));
+                }
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                if (!dragging) return;
+                dragging = false;
+                boolean drop = ghostVisible && ghostLegal;
+                int row = ghostRow, col = ghostCol;
+                hideGhost();
+                if (drop) {
+                    controller.placePiece(selectedPieceIndex, row, col);
+                }
+            }
+        };
+        previewPanel.addMouseListener(trayMouse);
+        previewPanel.addMouseMotionListener(trayMouse);
     }
 
-    private int getBoardOffsetX(boolean[][] board) {
-        int rows = board.length;
-        int cols = board[0].length;
-        int boardWidth = cols * CELL_SIZE;
-        int panelWidth = getWidth();
-        return Math.max(0, (panelWidth - boardWidth) / 2);
+    /** Sizes the cells so the whole board fits the panel, and returns the board's left edge. */
+    private int layoutBoard(BoardSnapshot board) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int size = MAX_CELL_SIZE;
+        if (getWidth() > 0) {
+            int height = getHeight() - OFFSET_Y - previewPanel.getHeight() - BOARD_MARGIN;
+            size = Math.min(size, Math.min((getWidth() - 2 * BOARD_MARGIN) / cols, height / rows));
+        }
+        cellSize = Math.max(MIN_CELL_SIZE, size);
+        layers.setCellSize(cellSize);
+        return Math.max(0, (getWidth() - cols * cellSize) / 2);
     }
 
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        boolean[][] board = viewModel.getBoard();
-        PieceColor[][] colors = viewModel.getCellColors();
+        BoardSnapshot board = viewModel.getBoard();
         if (board == null) {
             return;
         }
 
-        int rows = board.length;
-        int cols = board[0].length;
-        int offsetX = getBoardOffsetX(board);
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                int x = offsetX + c * CELL_SIZE;
-                int y = OFFSET_Y + r * CELL_SIZE;
-
-                g.setColor(GRID_COLOR);
-                g.drawRect(x, y, CELL_SIZE, CELL_SIZE);
-
-                if (board[r][c]) {
-                    Color fill = toAwtColor(colors[r][c]);
-                    g.setColor(fill);
-                    g.fillRect(x + 1, y + 1, CELL_SIZE - 2, CELL_SIZE - 2);
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int offsetX = layoutBoard(board);
+
+        // Only the cells inside the clip are drawn, so a dirty-region repaint stays cheap;
+        // the grid lines come from one cached image.
+        Rectangle clip = g.getClipBounds();
+        int firstRow = 0, lastRow = rows - 1, firstCol = 0, lastCol = cols - 1;
+        if (clip != null) {
+            firstRow = Math.max(0, (clip.y - OFFSET_Y) / cellSize - 1);
+            lastRow = Math.min(rows - 1, (clip.y + clip.height - OFFSET_Y) / cellSize);
+            firstCol = Math.max(0, (clip.x - offsetX) / cellSize - 1);
+            lastCol = Math.min(cols - 1, (clip.x + clip.width - offsetX) / cellSize);
+        }
 
-                    g.setColor(Color.WHITE);
-                    g.drawRect(x + 1, y + 1, CELL_SIZE - 2, CELL_SIZE - 2);
+        layers.validate(getGraphicsConfiguration());
+        g.drawImage(layers.grid(rows, cols), offsetX, OFFSET_Y, null);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstCol; c <= lastCol; c++) {
+                PieceColor color = board.getColor(r, c);
+                if (color != null) {
+                    g.drawImage(layers.cell(color), offsetX + c * cellSize, OFFSET_Y + r * cellSize, null);
                 }
             }
         }
 
+        drawHeatmap(g, offsetX, rows, cols);
+        drawHint(g, offsetX);
+        drawGhost(g, offsetX, rows, cols);
     }
 
-    private Color toAwtColor(PieceColor pc) {
-        if (pc == null) return Color.BLUE;
-        switch (pc) {
-            case RED:    return Color.RED;
-            case GREEN:  return Color.GREEN;
-            case BLUE:   return Color.BLUE;
-            case YELLOW: return Color.YELLOW;
-            case ORANGE: return Color.ORANGE;
-            case PURPLE: return new Color(128, 0, 128);
-            case CYAN:   return Color.CYAN;
-            default:     return Color.BLUE;
+    /** Tints each cell by how often pieces were anchored there, with clear counts as bars along the edges. */
+    private void drawHeatmap(Graphics g, int offsetX, int rows, int cols) {
+        HeatmapSnapshot heatmap = viewModel.getHeatmap();
+        if (heatmap == null || heatmap.getRows() != rows || heatmap.getCols() != cols) {
+            return;
+        }
+        long maxPlacements = Math.max(1, heatmap.getMaxPlacements());
+        long maxClears = Math.max(1, heatmap.getMaxClears());
+        Graphics2D g2 = (Graphics2D) g.create();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                g2.setColor(heat(heatmap.getPlacements(r, c), maxPlacements));
+                g2.fillRect(offsetX + c * cellSize + 1, OFFSET_Y + r * cellSize + 1, cellSize - 1, cellSize - 1);
+            }
+            g2.setColor(heat(heatmap.getRowClears(r), maxClears));
+            g2.fillRect(offsetX - HEATMAP_BAR - 2, OFFSET_Y + r * cellSize + 1, HEATMAP_BAR, cellSize - 1);
+        }
+        for (int c = 0; c < cols; c++) {
+            g2.setColor(heat(heatmap.getColClears(c), maxClears));
+            g2.fillRect(offsetX + c * cellSize + 1, OFFSET_Y - HEATMAP_BAR - 2, cellSize - 1, HEATMAP_BAR);
         }
+        g2.dispose();
     }
 
-    private void handleBoardClick(MouseEvent e) {
-        if (!SwingUtilities.isLeftMouseButton(e)) {
+    private static Color heat(long count, long max) {
+        double share = count / (double) max;
+        return new Color(255, (int) (200 * (1 - share)), 0, (int) (HEATMAP_MAX_ALPHA * share));
+    }
+
+    private void drawGhost(Graphics g, int offsetX, int rows, int cols) {
+        if (!ghostVisible) {
             return;
         }
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setColor(CLEAR_PREVIEW_COLOR);
+        for (long bits = ghostRows; bits != 0; bits &= bits - 1) {
+            int r = Long.numberOfTrailingZeros(bits);
+            g2.fillRect(offsetX + 1, OFFSET_Y + r * cellSize + 1, cols * cellSize - 1, cellSize - 1);
+        }
+        for (long bits = ghostCols; bits != 0; bits &= bits - 1) {
+            int c = Long.numberOfTrailingZeros(bits);
+            g2.fillRect(offsetX + c * cellSize + 1, OFFSET_Y + 1, cellSize - 1, rows * cellSize - 1);
+        }
+        Color color = toAwtColor(ghostPiece.getColor());
+        g2.setColor(ghostLegal ? new Color(color.getRed(), color.getGreen(), color.getBlue(), 150) : ILLEGAL_GHOST_COLOR);
+        for (var cell : ghostPiece.getCells()) {
+            int r = ghostRow + cell.row;
+            int c = ghostCol + cell.col;
+            if (r >= 0 && r < rows && c >= 0 && c < cols) {
+                g2.fillRect(offsetX + c * cellSize + 1, OFFSET_Y + r * cellSize + 1, cellSize - 2, cellSize - 2);
+            }
+        }
+        g2.dispose();
+    }
 
-        if (selectedPieceIndex < 0) {
+    /**
+     * Moves the ghost to the anchor under the pointer. Legality and the lines that would clear
+     * come from the precomputed placement map, and nothing is repainted unless the anchor changed.
+     */
+    private void updateGhost(Point p) {
+        BoardSnapshot board = viewModel.getBoard();
+        Piece[] pieces = viewModel.getPieces();
+        Piece piece = selectedPieceIndex >= 0 && pieces != null ? pieces[selectedPieceIndex] : null;
+        if (board == null || piece == null) {
+            hideGhost();
+            return;
+        }
+        int offsetX = layoutBoard(board);
+        int row = Math.floorDiv(p.y - OFFSET_Y, cellSize);
+        int col = Math.floorDiv(p.x - offsetX, cellSize);
+        if (row < 0 || row >= board.getRows() || col < 0 || col >= board.getCols()) {
+            hideGhost();
             return;
         }
 
-        boolean[][] board = viewModel.getBoard();
-        if (board == null) {
+        // A dragged piece is held by the middle of its bounding box; otherwise the pointer is on
+        // the anchor cell, where a click places the piece.
+        int anchorRow = row;
+        int anchorCol = col;
+        if (dragging) {
+            int minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE;
+            int minCol = Integer.MAX_VALUE, maxCol = Integer.MIN_VALUE;
+            for (var cell : piece.getCells()) {
+                minRow = Math.min(minRow, cell.row);
+                maxRow = Math.max(maxRow, cell.row);
+                minCol = Math.min(minCol, cell.col);
+                maxCol = Math.max(maxCol, cell.col);
+            }
+            anchorRow -= (minRow + maxRow) / 2;
+            anchorCol -= (minCol + maxCol) / 2;
+        }
+        if (ghostVisible && piece == ghostPiece && anchorRow == ghostRow && anchorCol == ghostCol) {
             return;
         }
 
-        int rows = board.length;
-        int cols = board[0].length;
+        hideGhost();
+        PlacementMap placements = viewModel.getPlacements();
+        ghostPiece = piece;
+        ghostRow = anchorRow;
+        ghostCol = anchorCol;
+        ghostLegal = placements != null && placements.isLegal(selectedPieceIndex, anchorRow, anchorCol);
+        ghostRows = ghostLegal ? placements.rowsCleared(piece, anchorRow, anchorCol) : 0L;
+        ghostCols = ghostLegal ? placements.colsCleared(piece, anchorRow, anchorCol) : 0L;
+        ghostVisible = true;
+        repaintGhost();
+    }
 
-        int x = e.getX();
-        int y = e.getY();
+    private void hideGhost() {
+        if (ghostVisible) {
+            repaintGhost();
+            ghostVisible = false;
+        }
+    }
 
-        if (y < OFFSET_Y) {
+    private void repaintGhost() {
+        BoardSnapshot board = viewModel.getBoard();
+        if (board == null) {
+            return;
+        }
+        int offsetX = layoutBoard(board);
+        repaint(cellBounds(offsetX, ghostPiece, ghostRow, ghostCol));
+        for (long bits = ghostRows; bits != 0; bits &= bits - 1) {
+            int r = Long.numberOfTrailingZeros(bits);
+            repaint(offsetX, OFFSET_Y + r * cellSize, board.getCols() * cellSize + 1, cellSize + 1);
+        }
+        for (long bits = ghostCols; bits != 0; bits &= bits - 1) {
+            int c = Long.numberOfTrailingZeros(bits);
+            repaint(offsetX + c * cellSize, OFFSET_Y, cellSize + 1, board.getRows() * cellSize + 1);
+        }
+    }
+
+    private void drawHint(Graphics g, int offsetX) {
+        int hintIndex = viewModel.getHintPieceIndex();
+        Piece[] pieces = viewModel.getPieces();
+        if (hintIndex < 0 || pieces == null || pieces[hintIndex] == null) {
             return;
         }
+        hintBounds = cellBounds(offsetX, pieces[hintIndex], viewModel.getHintRow(), viewModel.getHintCol());
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setStroke(new BasicStroke(3f));
+        for (var cell : pieces[hintIndex].getCells()) {
+            int x = offsetX + (viewModel.getHintCol() + cell.col) * cellSize;
+            int y = OFFSET_Y + (viewModel.getHintRow() + cell.row) * cellSize;
+            g2.setColor(new Color(255, 255, 255, 90));
+            g2.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+            g2.setColor(toAwtColor(pieces[hintIndex].getColor()));
+            g2.drawRect(x + 2, y + 2, cellSize - 4, cellSize - 4);
+        }
+        g2.dispose();
+    }
 
-        int offsetX = getBoardOffsetX(board);
-        int boardWidth  = cols * CELL_SIZE;
-        int boardHeight = rows * CELL_SIZE;
+    private Color toAwtColor(PieceColor pc) {
+        return layers.getTheme().colorOf(pc);
+    }
 
-        if (x < offsetX || x >= offsetX + boardWidth) {
+    /** Switches the colours; the cached layers are redrawn on the next paint. */
+    public void setTheme(BlockBlastTheme theme) {
+        layers.setTheme(theme);
+        repaint();
+        previewPanel.repaint();
+    }
+
+    private void handleBoardClick(MouseEvent e) {
+        if (!SwingUtilities.isLeftMouseButton(e)) {
             return;
         }
-        if (y < OFFSET_Y || y >= OFFSET_Y + boardHeight) {
+
+        if (selectedPieceIndex < 0) {
             return;
         }
 
-        int col = (x - offsetX) / CELL_SIZE;
-        int row = (y - OFFSET_Y) / CELL_SIZE;
+        // Places the piece anchored at the clicked cell, where its hover ghost is shown.
+        updateGhost(e.getPoint());
+        if (ghostVisible) {
+            controller.placePiece(selectedPieceIndex, ghostRow, ghostCol);
+        }
+    }
+
+    /** Number of tray slots; challenge packs may deal more or fewer than three pieces at a time. */
+    private int traySize() {
+        Piece[] pieces = viewModel.getPieces();
+        return pieces != null ? pieces.length : 3;
+    }
+
+    private static int previewWidth(int slots) {
+        return slots * PREVIEW_BOX_SIZE + (slots + 1) * PREVIEW_MARGIN;
+    }
 
-        controller.placePiece(selectedPieceIndex, row, col);
+    /** Widens the tray panel when the tray holds more slots than it was laid out for. */
+    private void fitPreviewPanel() {
+        int width = previewWidth(traySize());
+        if (previewPanel.getPreferredSize().width != width) {
+            previewPanel.setPreferredSize(new Dimension(width, PREVIEW_BOX_SIZE + 2 * PREVIEW_MARGIN));
+            previewPanel.revalidate();
+        }
     }
 
     private int getPreviewOffsetX() {
-        int totalWidth = 3 * PREVIEW_BOX_SIZE + 4 * PREVIEW_MARGIN;
+        int totalWidth = previewWidth(traySize());
         int panelWidth = previewPanel.getWidth();
         return Math.max(0, (panelWidth - totalWidth) / 2);
     }
 
+    private Rectangle previewBounds(int slot) {
+        int boxX = getPreviewOffsetX() + PREVIEW_MARGIN + slot * (PREVIEW_BOX_SIZE + PREVIEW_MARGIN);
+        return new Rectangle(boxX - 2, 8, PREVIEW_BOX_SIZE + 4, PREVIEW_BOX_SIZE + 4);
+    }
+
     private void drawPreviews(Graphics g) {
         Piece[] pieces = viewModel.getPieces();
         if (pieces == null) return;
+        layers.validate(previewPanel.getGraphicsConfiguration());
 
         int offsetX = getPreviewOffsetX();
         int baseY   = 10;
 
-        for (int i = 0; i < 3; i++) {
+        for (int i = 0; i < pieces.length; i++) {
             int boxX = offsetX + PREVIEW_MARGIN + i * (PREVIEW_BOX_SIZE + PREVIEW_MARGIN);
             int boxY = baseY;
 
@@ -258,6 +536,9 @@ public class BlockBlastView extends JPanel implements PropertyChangeListener {
             if (i == selectedPieceIndex) {
                 g.setColor(Color.BLACK);
                 ((Graphics2D) g).setStroke(new BasicStroke(2f));
+            } else if (i == viewModel.getHintPieceIndex()) {
+                g.setColor(new Color(34, 139, 34));
+                ((Graphics2D) g).setStroke(new BasicStroke(2f));
             } else {
                 g.setColor(Color.LIGHT_GRAY);
                 ((Graphics2D) g).setStroke(new BasicStroke(1f));
@@ -267,45 +548,26 @@ public class BlockBlastView extends JPanel implements PropertyChangeListener {
             Piece p = pieces[i];
             if (p == null) continue;
 
-            int minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE;
-            int minCol = Integer.MAX_VALUE, maxCol = Integer.MIN_VALUE;
-            for (var cell : p.getCells()) {
-                minRow = Math.min(minRow, cell.row);
-                maxRow = Math.max(maxRow, cell.row);
-                minCol = Math.min(minCol, cell.col);
-                maxCol = Math.max(maxCol, cell.col);
-            }
-            int pieceRows = maxRow - minRow + 1;
-            int pieceCols = maxCol - minCol + 1;
-
-            int piecePixelW = pieceCols * PREVIEW_CELL_SIZE;
-            int piecePixelH = pieceRows * PREVIEW_CELL_SIZE;
-
-            int startX = boxX + (PREVIEW_BOX_SIZE - piecePixelW) / 2;
-            int startY = boxY + (PREVIEW_BOX_SIZE - piecePixelH) / 2;
-
-            for (var cell : p.getCells()) {
-                int relRow = cell.row - minRow;
-                int relCol = cell.col - minCol;
-
-                int cellX = startX + relCol * PREVIEW_CELL_SIZE;
-                int cellY = startY + relRow * PREVIEW_CELL_SIZE;
-
-                g.setColor(toAwtColor(p.getColor()));
-                g.fillRect(cellX + 1, cellY + 1,
-                        PREVIEW_CELL_SIZE - 2, PREVIEW_CELL_SIZE - 2);
-            }
+            Image thumbnail = layers.thumbnail(p);
+            int startX = boxX + (PREVIEW_BOX_SIZE - thumbnail.getWidth(null)) / 2;
+            int startY = boxY + (PREVIEW_BOX_SIZE - thumbnail.getHeight(null)) / 2;
+            g.drawImage(thumbnail, startX, startY, null);
         }
     }
 
     private void handlePreviewClick(MouseEvent e) {
-        int x = e.getX();
-        int y = e.getY();
+        int slot = previewSlotAt(e.getX(), e.getY());
+        if (slot >= 0) {
+            selectedPieceIndex = slot;
+            previewPanel.repaint();
+        }
+    }
 
+    private int previewSlotAt(int x, int y) {
         int offsetX = getPreviewOffsetX();
         int baseY   = 5;
 
-        for (int i = 0; i < 3; i++) {
+        for (int i = 0; i < traySize(); i++) {
             int boxX = offsetX + PREVIEW_MARGIN + i * (PREVIEW_BOX_SIZE + PREVIEW_MARGIN);
             int boxY = baseY;
             int w    = PREVIEW_BOX_SIZE;
@@ -313,15 +575,22 @@ public class BlockBlastView extends JPanel implements PropertyChangeListener {
 
             if (x >= boxX && x <= boxX + w &&
                     y >= boxY && y <= boxY + h) {
-                selectedPieceIndex = i;
-                previewPanel.repaint();
-                break;
+                return i;
             }
         }
+        return -1;
     }
 
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
+        if (BlockBlastViewModel.SURVIVAL_PROPERTY.equals(evt.getPropertyName())) {
+            updateDangerMeter();
+            return;
+        }
+        if (BlockBlastViewModel.HEATMAP_PROPERTY.equals(evt.getPropertyName())) {
+            repaint();
+            return;
+        }
         scoreLabel.setText("Score: " + viewModel.getScore());
         messageLabel.setText(viewModel.getMessage());
 
@@ -331,8 +600,79 @@ public class BlockBlastView extends JPanel implements PropertyChangeListener {
             scoreSubmitted = true; // Prevent multiple submissions
         }
 
-        repaint();
-        previewPanel.repaint();
+        if (BlockBlastViewModel.HINT_PROPERTY.equals(evt.getPropertyName())) {
+            repaint();
+            previewPanel.repaint();
+        } else {
+            // The board or tray changed, so the ghost's legality is stale.
+            hideGhost();
+            fitPreviewPanel();
+            repaintChanges(viewModel.getChanges());
+        }
+    }
+
+    /** Shows the chance of surviving the next trays, coloured by how risky the position is. */
+    private void updateDangerMeter() {
+        double probability = viewModel.getSurvivalProbability();
+        if (probability < 0) {
+            dangerLabel.setText("");
+            return;
+        }
+        int percent = (int) Math.round(probability * 100);
+        dangerLabel.setText("Survive " + viewModel.getSurvivalTrays() + " trays: " + percent + "%"
+                + (viewModel.isSurvivalComplete() ? "" : "..."));
+        dangerLabel.setForeground(percent >= 80 ? new Color(144, 238, 144)
+                : percent >= 40 ? Color.ORANGE : new Color(255, 90, 90));
+    }
+
+    /** Repaints only the cells and tray slots the last move changed, plus any hint it replaced. */
+    private void repaintChanges(BoardChangeSet changes) {
+        BoardSnapshot board = viewModel.getBoard();
+        if (board == null || changes.isEverything()) {
+            hintBounds = null;
+            repaint();
+            previewPanel.repaint();
+            return;
+        }
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int offsetX = layoutBoard(board);
+
+        if (hintBounds != null) {
+            repaint(hintBounds);
+            previewPanel.repaint();
+            hintBounds = null;
+        }
+        if (changes.getPlacedPiece() != null) {
+            repaint(cellBounds(offsetX, changes.getPlacedPiece(), changes.getRow(), changes.getCol()));
+        }
+        for (long bits = changes.getClearedRows(); bits != 0; bits &= bits - 1) {
+            int r = Long.numberOfTrailingZeros(bits);
+            repaint(offsetX, OFFSET_Y + r * cellSize, cols * cellSize + 1, cellSize + 1);
+        }
+        for (long bits = changes.getClearedCols(); bits != 0; bits &= bits - 1) {
+            int c = Long.numberOfTrailingZeros(bits);
+            repaint(offsetX + c * cellSize, OFFSET_Y, cellSize + 1, rows * cellSize + 1);
+        }
+        for (int i = 0; i < traySize(); i++) {
+            if (changes.isSlotChanged(i)) {
+                previewPanel.repaint(previewBounds(i));
+            }
+        }
+    }
+
+    /** Screen area covered by the piece anchored at (row, col). */
+    private Rectangle cellBounds(int offsetX, Piece piece, int row, int col) {
+        int minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE;
+        int minCol = Integer.MAX_VALUE, maxCol = Integer.MIN_VALUE;
+        for (var cell : piece.getCells()) {
+            minRow = Math.min(minRow, cell.row);
+            maxRow = Math.max(maxRow, cell.row);
+            minCol = Math.min(minCol, cell.col);
+            maxCol = Math.max(maxCol, cell.col);
+        }
+        return new Rectangle(offsetX + (col + minCol) * cellSize, OFFSET_Y + (row + minRow) * cellSize,
+                (maxCol - minCol + 1) * cellSize + 1, (maxRow - minRow + 1) * cellSize + 1);
     }
 
     private void submitScoreToLeaderboard(int finalScore) {
@@ -0,0 +1,138 @@
+package view.blockblast;
+
+import entity.blockblast.Piece;
+import entity.blockblast.PieceColor;
+import entity.blockblast.Position;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Offscreen images reused across repaints: the empty grid, one sprite per PieceColor for
+ * board cells and one thumbnail per tray piece. Painting then costs one image copy per filled
+ * cell instead of several shape draws. Everything is dropped when the theme, the cell size
+ * or the screen's graphics configuration changes.
+ */
+final class RenderLayers {
+    private int cellSize;
+    private final int previewCellSize;
+    private final int previewBoxSize;
+    private BlockBlastTheme theme;
+    private GraphicsConfiguration config;
+
+    private BufferedImage grid;
+    private int gridRows;
+    private int gridCols;
+    private final BufferedImage[] cells = new BufferedImage[PieceColor.values().length];
+    private final Map<Piece, BufferedImage> thumbnails = new HashMap<>();
+
+    RenderLayers(int cellSize, int previewCellSize, int previewBoxSize, BlockBlastTheme theme) {
+        this.cellSize = cellSize;
+        this.previewCellSize = previewCellSize;
+        this.previewBoxSize = previewBoxSize;
+        this.theme = theme;
+    }
+
+    /** Board cells are redrawn at the new size; tray thumbnails do not depend on it. */
+    void setCellSize(int cellSize) {
+        if (cellSize != this.cellSize) {
+            this.cellSize = cellSize;
+            grid = null;
+            Arrays.fill(cells, null);
+        }
+    }
+
+    BlockBlastTheme getTheme() {
+        return theme;
+    }
+
+    void setTheme(BlockBlastTheme theme) {
+        this.theme = theme;
+        invalidate();
+    }
+
+    /** Drops every cached image if the component moved to a screen with another configuration. */
+    void validate(GraphicsConfiguration current) {
+        if (current != config) {
+            config = current;
+            invalidate();
+        }
+    }
+
+    BufferedImage grid(int rows, int cols) {
+        if (grid == null || rows != gridRows || cols != gridCols) {
+            grid = create(cols * cellSize + 1, rows * cellSize + 1);
+            gridRows = rows;
+            gridCols = cols;
+            Graphics2D g = grid.createGraphics();
+            g.setColor(theme.getGridColor());
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    g.drawRect(c * cellSize, r * cellSize, cellSize, cellSize);
+                }
+            }
+            g.dispose();
+        }
+        return grid;
+    }
+
+    BufferedImage cell(PieceColor color) {
+        int i = color.ordinal();
+        if (cells[i] == null) {
+            BufferedImage sprite = create(cellSize, cellSize);
+            Graphics2D g = sprite.createGraphics();
+            g.setColor(theme.colorOf(color));
+            g.fillRect(1, 1, cellSize - 2, cellSize - 2);
+            g.setColor(theme.getCellBorderColor());
+            g.drawRect(1, 1, cellSize - 2, cellSize - 2);
+            g.dispose();
+            cells[i] = sprite;
+        }
+        return cells[i];
+    }
+
+    /** The piece drawn at preview scale, shrunk if needed to fit a preview box and cropped to its bounding box. */
+    BufferedImage thumbnail(Piece piece) {
+        // Keyed by the shape's shared piece of that colour, so equal pieces share a thumbnail.
+        piece = piece.getShape().piece(piece.getColor());
+        BufferedImage image = thumbnails.get(piece);
+        if (image == null) {
+            int minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE;
+            int minCol = Integer.MAX_VALUE, maxCol = Integer.MIN_VALUE;
+            for (Position cell : piece.getCells()) {
+                minRow = Math.min(minRow, cell.row);
+                maxRow = Math.max(maxRow, cell.row);
+                minCol = Math.min(minCol, cell.col);
+                maxCol = Math.max(maxCol, cell.col);
+            }
+            int size = Math.min(previewCellSize,
+                    (previewBoxSize - 4) / Math.max(maxRow - minRow + 1, maxCol - minCol + 1));
+            image = create((maxCol - minCol + 1) * size, (maxRow - minRow + 1) * size);
+            Graphics2D g = image.createGraphics();
+            g.setColor(theme.colorOf(piece.getColor()));
+            for (Position cell : piece.getCells()) {
+                g.fillRect((cell.col - minCol) * size + 1, (cell.row - minRow) * size + 1, size - 2, size - 2);
+            }
+            g.dispose();
+            thumbnails.put(piece, image);
+        }
+        return image;
+    }
+
+    private void invalidate() {
+        grid = null;
+        Arrays.fill(cells, null);
+        thumbnails.clear();
+    }
+
+    private BufferedImage create(int width, int height) {
+        return config != null
+                ? config.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+}
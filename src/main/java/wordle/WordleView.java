@@ -30,6 +30,7 @@ public class WordleView extends JPanel {
     private final JTextField typingField;
     private final JLabel statusLabel;
     private final JLabel scoreLabel;
+    private final JLabel answersLabel;
     private int score = 0; // number of games won
     private final JButton backButton;
     private ViewManagerModel viewManagerModel = null;
@@ -70,6 +71,13 @@ public class WordleView extends JPanel {
         scoreLabel.setFont(WordleStyles.KEY_FONT.deriveFont(18f));
         add(scoreLabel);
 
+        answersLabel = new JLabel(" ");
+        answersLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        answersLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        answersLabel.setForeground(Color.LIGHT_GRAY);
+        answersLabel.setFont(WordleStyles.KEY_FONT.deriveFont(14f));
+        add(answersLabel);
+
 
         add(Box.createVerticalStrut(10));
 
@@ -161,6 +169,25 @@ public class WordleView extends JPanel {
 
         controls.add(clear);
 
+        if (controller.hasHints()) {
+            JButton hint = new JButton("Hint");
+            hint.setFont(FontLoader.jersey10.deriveFont(20f));
+            hint.setBackground(new Color(218, 165, 32));
+            hint.setForeground(Color.WHITE);
+            hint.setOpaque(true);
+            hint.setBorderPainted(false);
+            JCheckBox hardMode = new JCheckBox("Hard");
+            hardMode.setFont(FontLoader.jersey10.deriveFont(18f));
+            hardMode.setForeground(Color.WHITE);
+            hardMode.setOpaque(false);
+            hint.addActionListener(e -> {
+                controller.requestHint(userId, hardMode.isSelected());
+                typingField.requestFocusInWindow();
+            });
+            controls.add(hint);
+            controls.add(hardMode);
+        }
+
         // add back button
 
         this.viewManagerModel = viewManagerModel;
@@ -234,6 +261,9 @@ public class WordleView extends JPanel {
         if (vm == null) return;
         boardPanel.setViewModel(vm);
         statusLabel.setText(vm.message != null ? vm.message : " ");
+        if (vm.answersLeft >= 0) {
+            answersLabel.setText(vm.answersLeft + (vm.answersLeft == 1 ? " possible answer left" : " possible answers left"));
+        }
         // Update status message
         if (vm.finished) {
             int updatedScore = controller.getScore(userId);
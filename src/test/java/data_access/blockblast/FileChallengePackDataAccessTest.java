@@ -0,0 +1,73 @@
+package data_access.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.Challenge;
+import entity.blockblast.PieceLibrary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trips challenge packs through the text format.
+ */
+public class FileChallengePackDataAccessTest {
+    private static final String PACK = "# two small challenges\n"
+            + "challenge corner tray 2\n"
+            + "....\n"
+            + "....\n"
+            + "##..\n"
+            + "###.\n"
+            + "pieces domino:1 single square\n"
+            + "solution 0,2,3 1,2,2\n"
+            + "\n"
+            + "challenge plain\n"
+            + "....\n"
+            + "....\n"
+            + "....\n"
+            + "###.\n"
+            + "pieces single line3\n";
+
+    @Test
+    public void saveAndLoad_roundTripsBoardsPiecesAndSolutions(@TempDir Path dir) throws IOException {
+        List<Challenge> pack = FileChallengePackDataAccess.parse(new StringReader(PACK), PieceLibrary.standard());
+        FileChallengePackDataAccess file = new FileChallengePackDataAccess(dir.resolve("pack.txt"));
+        file.save(pack);
+        List<Challenge> loaded = file.load();
+
+        assertEquals(2, loaded.size());
+        for (int i = 0; i < pack.size(); i++) {
+            Challenge expected = pack.get(i);
+            Challenge actual = loaded.get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getTraySize(), actual.getTraySize());
+            Board expectedBoard = expected.copyBoardWithoutColors();
+            Board actualBoard = actual.copyBoardWithoutColors();
+            assertTrue(expectedBoard.sameOccupancy(actualBoard));
+            assertEquals(expected.getPieces(), actual.getPieces());
+            assertEquals(expected.hasSolution(), actual.hasSolution());
+            if (expected.hasSolution()) assertArrayEquals(expected.getSolution(), actual.getSolution());
+        }
+        assertEquals(2, loaded.get(0).getTraySize());
+        assertEquals(3, loaded.get(0).getPieces().size());
+        assertFalse(loaded.get(1).hasSolution());
+    }
+
+    @Test
+    public void parse_rejectsMalformedChallenges() {
+        PieceLibrary library = PieceLibrary.standard();
+        assertThrows(IllegalArgumentException.class, () -> FileChallengePackDataAccess.parse(
+                new StringReader("challenge unknown\n#...\npieces blob\n"), library));
+        assertThrows(IllegalArgumentException.class, () -> FileChallengePackDataAccess.parse(
+                new StringReader("challenge full\n####\n....\npieces single\n"), library));
+        assertThrows(IllegalArgumentException.class, () -> FileChallengePackDataAccess.parse(
+                new StringReader("challenge ragged\n#...\n..\npieces single\n"), library));
+        assertThrows(IllegalArgumentException.class, () -> FileChallengePackDataAccess.parse(
+                new StringReader("challenge open\n#...\n....\n"), library));
+    }
+}
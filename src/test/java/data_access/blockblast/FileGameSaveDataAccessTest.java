@@ -0,0 +1,97 @@
+package data_access.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+import entity.blockblast.LegalAnchorTracker;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceColor;
+import entity.blockblast.PieceGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trips games in progress through the binary save format and the save directory.
+ */
+public class FileGameSaveDataAccessTest {
+
+    @Test
+    public void encode_decode_roundTripsTheWholeGame() {
+        GameState state = playedGame(5, 12);
+        state.getCurrentPieces()[1] = null;
+        state.setGameOver(true);
+
+        byte[] bytes = FileGameSaveDataAccess.encode(state);
+        GameState loaded = FileGameSaveDataAccess.decode(bytes);
+
+        assertTrue(bytes.length <= 48, "save took " + bytes.length + " bytes");
+        assertSameGame(state, loaded);
+    }
+
+    @Test
+    public void decode_rejectsCorruptData() {
+        byte[] bytes = FileGameSaveDataAccess.encode(playedGame(9, 6));
+        assertThrows(IllegalArgumentException.class,
+                () -> FileGameSaveDataAccess.decode(Arrays.copyOf(bytes, 12)));
+        bytes[3] = 99;
+        assertThrows(IllegalArgumentException.class, () -> FileGameSaveDataAccess.decode(bytes));
+    }
+
+    @Test
+    public void save_writesInTheBackgroundAndLoadsBack(@TempDir Path dir) throws InterruptedException {
+        FileGameSaveDataAccess saves = new FileGameSaveDataAccess(dir);
+        assertNull(saves.load("player one"));
+
+        GameState state = playedGame(13, 8);
+        saves.save("player one", state);
+        saves.flush();
+
+        GameState loaded = new FileGameSaveDataAccess(dir).load("player one");
+        assertNotNull(loaded);
+        assertSameGame(state, loaded);
+    }
+
+    private static GameState playedGame(long seed, int moves) {
+        GameState state = new GameState(new Board(8, 8), new Piece[3], 0, false);
+        GameEngine engine = new GameEngine(state, new PieceGenerator(seed));
+        engine.newGame();
+        for (int move = 0; move < moves && !state.isGameOver(); move++) {
+            playFirstLegalMove(engine);
+        }
+        return state;
+    }
+
+    private static void playFirstLegalMove(GameEngine engine) {
+        LegalAnchorTracker anchors = engine.getAnchors();
+        Piece[] tray = engine.getGameState().getCurrentPieces();
+        for (int slot = 0; slot < tray.length; slot++) {
+            for (int r = 0; tray[slot] != null && r < engine.getGameState().getBoard().getRows(); r++) {
+                long bits = anchors.getLegalColumns(slot, r);
+                if (bits != 0) {
+                    engine.play(slot, r, Long.numberOfTrailingZeros(bits));
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void assertSameGame(GameState expected, GameState actual) {
+        Board board = expected.getBoard();
+        PieceColor[][] grid = board.getGrid();
+        PieceColor[][] loadedGrid = actual.getBoard().getGrid();
+        for (int r = 0; r < board.getRows(); r++) {
+            assertEquals(board.getRowMask(r), actual.getBoard().getRowMask(r));
+            for (int c = 0; c < board.getCols(); c++) {
+                if (board.isFilled(r, c)) assertEquals(grid[r][c], loadedGrid[r][c]);
+            }
+        }
+        assertArrayEquals(expected.getCurrentPieces(), actual.getCurrentPieces());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.isGameOver(), actual.isGameOver());
+    }
+}
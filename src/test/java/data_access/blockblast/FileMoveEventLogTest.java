@@ -0,0 +1,148 @@
+package data_access.blockblast;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import use_case.blockblast.MoveEvent;
+import use_case.blockblast.MoveEventLog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the lock-free event ring and the segment files the background writer produces.
+ */
+public class FileMoveEventLogTest {
+
+    @Test
+    public void ring_rejectsOffersWhenFullAndDeliversEveryRecordOnce() throws InterruptedException {
+        EventRing ring = new EventRing(4);
+        for (int i = 0; i < 4; i++) assertTrue(ring.offer(i, 0, 0));
+        assertFalse(ring.offer(4, 0, 0));
+
+        EventRing shared = new EventRing(64);
+        int producers = 4, perProducer = 5000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!shared.offer(id, i, 0)) Thread.onSpinWait();
+                }
+            });
+            threads[p].start();
+        }
+        int[] next = new int[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            received += shared.drain((a, b, c) -> {
+                assertEquals(next[(int) a]++, b, "records from one producer arrive in order");
+            }, 32);
+        }
+        for (Thread thread : threads) thread.join();
+        assertEquals(0, shared.size());
+        for (int count : next) assertEquals(perProducer, count);
+    }
+
+    @Test
+    public void close_writesEveryAcceptedEventAndReadsItBack(@TempDir Path dir) throws Exception {
+        FileMoveEventLog log = new FileMoveEventLog(dir);
+        assertTrue(log.append(MoveEventLog.NEW_GAME, 1000L, 0L, 0, 0, 0, 0));
+        assertTrue(log.append(MoveEventLog.PLACED, 1001L, 0x0303L, 6, -1, 2, 123456));
+        log.close();
+
+        List<MoveEvent> events = FileMoveEventLog.readSegment(dir.resolve("events-000000.bbe"));
+        assertEquals(2, events.size());
+        MoveEvent placed = events.get(1);
+        assertEquals(MoveEventLog.PLACED, placed.getKind());
+        assertEquals(1001L, placed.getTimestamp());
+        assertEquals(0x0303L, placed.getShapeMask());
+        assertEquals(6, placed.getRow());
+        assertEquals(-1, placed.getCol());
+        assertEquals(2, placed.getLinesCleared());
+        assertEquals(123456, placed.getScore());
+        assertEquals(2, log.getWritten());
+        assertFalse(log.append(MoveEventLog.PLACED, 1002L, 0L, 0, 0, 0, 0), "closed logs drop events");
+    }
+
+    @Test
+    public void close_writesEventsAcceptedWhileItRuns(@TempDir Path dir) throws Exception {
+        FileMoveEventLog log = new FileMoveEventLog(dir, 1024, 1 << 20, 1000, 0);
+        AtomicBoolean closing = new AtomicBoolean();
+        int producers = 4;
+        long[] accepted = new long[producers];
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            threads[p] = new Thread(() -> {
+                for (long t = 0; ; t++) {
+                    if (log.append(MoveEventLog.PLACED, t, 0L, 0, 0, 0, 0)) {
+                        accepted[id]++;
+                    } else if (closing.get()) {
+                        return;
+                    }
+                }
+            });
+            threads[p].start();
+        }
+        Thread.sleep(20);
+        closing.set(true);
+        log.close();
+        for (Thread thread : threads) thread.join();
+
+        long total = 0;
+        for (long count : accepted) total += count;
+        assertEquals(total, log.getWritten(), "every accepted event is written, even mid-close");
+        long records = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.collect(Collectors.toList())) records += FileMoveEventLog.readSegment(file).size();
+        }
+        assertEquals(total, records);
+    }
+
+    @Test
+    public void segments_rotateAndOnlyTheNewestAreKept(@TempDir Path dir) throws Exception {
+        int perSegment = 10;
+        FileMoveEventLog log = new FileMoveEventLog(dir, 16, 4 + perSegment * FileMoveEventLog.RECORD_BYTES, 3, 0);
+        int appended = 95;
+        for (int i = 0; i < appended; i++) {
+            log.append(MoveEventLog.PLACED, i, 1L, i % 8, i % 8, 0, i);
+        }
+        log.close();
+
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(dir)) {
+            segments = files.sorted().collect(Collectors.toList());
+        }
+        assertTrue(segments.size() <= 3, "kept " + segments);
+        assertEquals(appended, log.getWritten() + log.getDropped());
+
+        long read = 0;
+        long lastTimestamp = -1;
+        for (Path segment : segments) {
+            for (MoveEvent event : FileMoveEventLog.readSegment(segment)) {
+                assertTrue(event.getTimestamp() > lastTimestamp);
+                lastTimestamp = event.getTimestamp();
+                read++;
+            }
+        }
+        assertEquals(Math.min(log.getWritten(), 3 * perSegment), read);
+
+        FileMoveEventLog reopened = new FileMoveEventLog(dir, 16, 1 << 10, 3, 0);
+        reopened.append(MoveEventLog.NEW_GAME, 0L, 0L, 0, 0, 0, 0);
+        reopened.close();
+        assertEquals(1, FileMoveEventLog.readSegment(lastOf(dir)).size(), "a restart starts a new segment");
+    }
+
+    private static Path lastOf(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.max(Path::compareTo).orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package data_access.wordle;
+
+import entity.wordle.Feedback;
+import entity.wordle.PackedWords;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import use_case.wordle.FeedbackMatrix;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileFeedbackMatrixDataAccessTest {
+    private static final List<String> GUESSES = List.of("crane", "speed", "eerie", "lolly", "abide", "belly");
+    private static final List<String> ANSWERS = List.of("abide", "belly", "speed");
+
+    @Test
+    void load_buildsTheMatrixOnceAndMapsItAfterwards(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("matrix.wfm");
+        FeedbackMatrix built = new FileFeedbackMatrixDataAccess(file).load(GUESSES, ANSWERS);
+        assertTrue(Files.exists(file));
+        assertEquals(FileFeedbackMatrixDataAccess.HEADER_SIZE + GUESSES.size() * ANSWERS.size(), Files.size(file));
+
+        FileFeedbackMatrixDataAccess reopened = new FileFeedbackMatrixDataAccess(file);
+        assertTrue(reopened.isCurrent(GUESSES, ANSWERS));
+        FeedbackMatrix mapped = reopened.load(GUESSES, ANSWERS);
+        assertSame(mapped, reopened.load(GUESSES, ANSWERS));
+        for (String guess : GUESSES) {
+            for (String answer : ANSWERS) {
+                int expected = Feedback.of(guess, answer);
+                assertEquals(expected, built.feedback(built.guessIndex(guess), built.answerIndex(answer)));
+                assertEquals(expected, mapped.feedback(mapped.guessIndex(guess), mapped.answerIndex(answer)));
+            }
+        }
+        assertEquals(-1, mapped.guessIndex("zzzzz"));
+    }
+
+    @Test
+    void load_rebuildsWhenTheWordListsChange(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("matrix.wfm");
+        new FileFeedbackMatrixDataAccess(file).load(GUESSES, ANSWERS);
+
+        List<String> answers = List.of("abide", "belly", "crane");
+        FileFeedbackMatrixDataAccess gateway = new FileFeedbackMatrixDataAccess(file);
+        assertFalse(gateway.isCurrent(GUESSES, answers));
+        FeedbackMatrix matrix = gateway.load(GUESSES, answers);
+
+        assertTrue(gateway.isCurrent(GUESSES, answers));
+        assertEquals(Feedback.ALL_CORRECT, matrix.feedback(matrix.guessIndex("crane"), matrix.answerIndex("crane")));
+    }
+
+    @Test
+    void load_keepsPackedGuessesAndSearchesThem(@TempDir Path dir) {
+        PackedWords guesses = PackedWords.of(GUESSES);
+        FeedbackMatrix matrix = new FileFeedbackMatrixDataAccess(dir.resolve("matrix.wfm")).load(guesses, ANSWERS);
+
+        assertSame(guesses, matrix.getGuesses());
+        for (String guess : GUESSES) {
+            assertEquals(Feedback.of(guess, "belly"), matrix.feedback(matrix.guessIndex(guess), matrix.answerIndex("belly")));
+        }
+        assertEquals(-1, matrix.guessIndex("zzzzz"));
+    }
+
+    @Test
+    void build_writesThroughItsOwnTemporaryFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("matrix.wfm");
+        Thread[] builders = new Thread[4];
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = new Thread(() -> {
+                try {
+                    new FileFeedbackMatrixDataAccess(file).build(GUESSES, ANSWERS);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            builders[i].start();
+        }
+        for (Thread builder : builders) builder.join();
+        assertEquals(List.of(), failures);
+        assertTrue(new FileFeedbackMatrixDataAccess(file).isCurrent(GUESSES, ANSWERS));
+
+        // A build that cannot replace the file leaves no temporary file behind.
+        Path blocked = dir.resolve("blocked.wfm");
+        Files.createDirectories(blocked.resolve("child"));
+        assertThrows(IOException.class, () -> new FileFeedbackMatrixDataAccess(blocked).build(GUESSES, ANSWERS));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of("blocked.wfm", "matrix.wfm"),
+                    files.map(f -> f.getFileName().toString()).sorted().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void load_rebuildsACorruptFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("matrix.wfm");
+        Files.write(file, new byte[] {'W', 'F', 'M', 9});
+        FeedbackMatrix matrix = new FileFeedbackMatrixDataAccess(file).load(GUESSES, ANSWERS);
+        assertEquals(Feedback.of("eerie", "speed"), matrix.feedback(2, 2));
+    }
+}
@@ -0,0 +1,44 @@
+package data_access.wordle;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileWordListDataAccessTest {
+    private static final FileWordListDataAccess WORDS = new FileWordListDataAccess();
+
+    @Test
+    void isValidWord_acceptsEveryListedWordInAnyCase() throws IOException {
+        List<String> listed = resourceLines("/wordlists/valid_words.txt");
+        for (String word : listed) {
+            assertTrue(WORDS.isValidWord(word), word);
+        }
+        assertTrue(WORDS.isValidWord("CrAnE"));
+        assertEquals(listed, WORDS.getAllValidWords());
+    }
+
+    @Test
+    void isValidWord_rejectsEverythingElse() {
+        assertFalse(WORDS.isValidWord(null));
+        assertFalse(WORDS.isValidWord(""));
+        assertFalse(WORDS.isValidWord("cran"));
+        assertFalse(WORDS.isValidWord("cranes"));
+        assertFalse(WORDS.isValidWord("cr4ne"));
+        assertFalse(WORDS.isValidWord("qqqqq"));
+        assertFalse(WORDS.isValidWord("crané"));
+    }
+
+    private static List<String> resourceLines(String path) throws IOException {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                FileWordListDataAccessTest.class.getResourceAsStream(path), StandardCharsets.UTF_8))) {
+            return in.lines().map(String::strip).filter(w -> !w.isEmpty()).collect(Collectors.toList());
+        }
+    }
+}
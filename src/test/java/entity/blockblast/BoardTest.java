@@ -0,0 +1,209 @@
+package entity.blockblast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bitboard Board, on both the single-word 8x8 layout
+ * and multi-word layouts where rows are split across several longs.
+ */
+public class BoardTest {
+
+    private static Piece horizontal(int length, PieceColor color) {
+        List<Position> cells = new ArrayList<>();
+        for (int c = 0; c < length; c++) {
+            cells.add(new Position(0, c));
+        }
+        return Shape.of(cells).piece(color);
+    }
+
+    private static Piece vertical(int length, PieceColor color) {
+        List<Position> cells = new ArrayList<>();
+        for (int r = 0; r < length; r++) {
+            cells.add(new Position(r, 0));
+        }
+        return Shape.of(cells).piece(color);
+    }
+
+    @Test
+    public void canPlace_rejectsOutOfBoundsAndOverlap() {
+        Board board = new Board(8, 8);
+        Piece bar = horizontal(3, PieceColor.RED);
+
+        assertTrue(board.canPlace(bar, 0, 5));
+        assertFalse(board.canPlace(bar, 0, 6));
+        assertFalse(board.canPlace(bar, -1, 0));
+        assertFalse(board.canPlace(bar, 8, 0));
+
+        board.place(bar, 3, 2);
+        assertTrue(board.isFilled(3, 2));
+        assertTrue(board.isFilled(3, 4));
+        assertFalse(board.isFilled(3, 5));
+        assertEquals(PieceColor.RED, board.getGrid()[3][3]);
+        assertFalse(board.canPlace(vertical(2, PieceColor.BLUE), 2, 4));
+        assertTrue(board.canPlace(vertical(2, PieceColor.BLUE), 1, 5));
+    }
+
+    @Test
+    public void clearFullLines_clearsRowsAndColours() {
+        Board board = new Board(8, 8);
+        board.place(horizontal(8, PieceColor.GREEN), 7, 0);
+        board.place(horizontal(2, PieceColor.BLUE), 6, 0);
+
+        assertEquals(1, board.clearFullLines());
+        for (int c = 0; c < 8; c++) {
+            assertFalse(board.isFilled(7, c));
+            assertNull(board.getGrid()[7][c]);
+        }
+        assertTrue(board.isFilled(6, 1));
+    }
+
+    @Test
+    public void clearFullLines_clearsColumnsOnMultiWordBoard() {
+        Board board = new Board(10, 10);
+        board.place(vertical(5, PieceColor.CYAN), 0, 9);
+        board.place(vertical(5, PieceColor.CYAN), 5, 9);
+        board.place(vertical(5, PieceColor.PURPLE), 5, 0);
+
+        assertFalse(board.canPlace(vertical(1, PieceColor.RED), 6, 9));
+        assertEquals(1, board.clearFullLines());
+        for (int r = 0; r < 10; r++) {
+            assertFalse(board.isFilled(r, 9));
+        }
+        assertTrue(board.isFilled(9, 0));
+    }
+
+    @Test
+    public void wideBoard_usesOneWordPerRow() {
+        Board board = new Board(3, 64);
+        Piece bar = horizontal(4, PieceColor.ORANGE);
+
+        assertTrue(board.canPlace(bar, 2, 60));
+        assertFalse(board.canPlace(bar, 2, 61));
+        board.place(bar, 2, 60);
+        assertTrue(board.isFilled(2, 63));
+        assertFalse(board.isFilled(1, 63));
+
+        board.clear();
+        assertFalse(board.isFilled(2, 63));
+        assertNull(board.getGrid()[2][63]);
+    }
+
+    @Test
+    public void shapes_areInternedAndPiecesShared() {
+        Piece a = horizontal(3, PieceColor.RED);
+        Piece b = Shape.of(List.of(new Position(0, 2), new Position(0, 0), new Position(0, 1)))
+                .piece(PieceColor.RED);
+
+        assertSame(a.getShape(), b.getShape());
+        assertSame(a, b);
+        assertThrows(UnsupportedOperationException.class, () -> a.getCells().add(new Position(1, 1)));
+    }
+
+    @Test
+    public void canPlace_tableLookupMatchesShapeOffsets() {
+        Board board = new Board(16, 16);
+        Piece offset = Shape.of(List.of(new Position(1, 1), new Position(2, 1))).piece(PieceColor.YELLOW);
+
+        assertTrue(board.canPlace(offset, 13, 14));
+        assertFalse(board.canPlace(offset, 14, 14));
+        assertTrue(board.canPlace(offset, -1, -1));
+        board.place(offset, 5, 7);
+        assertTrue(board.isFilled(6, 8));
+        assertTrue(board.isFilled(7, 8));
+        assertFalse(board.canPlace(offset, 6, 7));
+        assertTrue(board.canPlace(offset, 7, 7));
+    }
+
+    @Test
+    public void fillCounters_matchTheCellsThroughPlaceClearAndUndo() {
+        Random random = new Random(14);
+        Board board = new Board(16, 12);
+        List<Piece> pieces = new ArrayList<>();
+        for (Shape shape : PieceGenerator.getShapes()) {
+            pieces.add(shape.piece(PieceColor.RED));
+        }
+        pieces.add(horizontal(12, PieceColor.BLUE));
+        pieces.add(vertical(16, PieceColor.GREEN));
+        int cleared = 0;
+        for (int move = 0; move < 20_000; move++) {
+            Piece piece = pieces.get(random.nextInt(pieces.size()));
+            int r = random.nextInt(16), c = random.nextInt(12);
+            if (!board.canPlace(piece, r, c)) continue;
+            board.place(piece, r, c);
+            cleared += board.clearFullLines();
+            if (move % 3 == 0 && (board.getLastClearedRows() | board.getLastClearedCols()) != 0) {
+                byte[] colors = board.getLastClearedColors().clone();
+                board.restoreLines(board.getLastClearedRows(), board.getLastClearedCols(), colors);
+                board.remove(piece, r, c);
+            }
+            assertCountersMatch(board);
+        }
+        assertTrue(cleared > 0, "the board should clear some lines");
+    }
+
+    @Test
+    public void snapshot_isUnaffectedByLaterMovesAndSharesUnchangedRows() {
+        Board board = new Board(8, 8);
+        board.place(horizontal(2, PieceColor.RED), 1, 0);
+        BoardSnapshot first = board.snapshot();
+        assertSame(first, board.snapshot(), "no change, no new snapshot");
+
+        board.place(horizontal(7, PieceColor.BLUE), 5, 0);
+        board.place(horizontal(1, PieceColor.GREEN), 5, 7);
+        assertEquals(1, board.clearFullLines());
+        BoardSnapshot second = board.snapshot();
+
+        assertNotSame(first, second);
+        assertEquals(PieceColor.RED, first.getColor(1, 0));
+        assertFalse(first.isFilled(5, 0));
+        assertFalse(second.isFilled(5, 0));
+        assertEquals(PieceColor.RED, second.getColor(1, 1));
+        assertSame(first.row(1), second.row(1), "untouched rows are shared");
+        assertNotSame(first.row(5), second.row(5));
+
+        board.clear();
+        assertEquals(PieceColor.RED, second.getColor(1, 0));
+        assertFalse(board.snapshot().isFilled(1, 0));
+    }
+
+    @Test
+    public void copyFrom_copiesColoursAndRefusesBoardsWithoutThem() {
+        Board source = new Board(8, 8);
+        source.place(horizontal(7, PieceColor.GREEN), 7, 0);
+        Board target = new Board(8, 8);
+        target.copyFrom(source);
+        assertEquals(PieceColor.GREEN, target.getGrid()[7][6]);
+        target.place(horizontal(1, PieceColor.BLUE), 7, 7);
+        assertEquals(1, target.clearFullLines());
+
+        Board occupancy = source.copyWithoutColors();
+        assertThrows(IllegalArgumentException.class, () -> target.copyFrom(occupancy));
+        Board scratch = new Board(8, 8).copyWithoutColors();
+        scratch.copyFrom(source);
+        assertTrue(scratch.sameOccupancy(source));
+    }
+
+    private static void assertCountersMatch(Board board) {
+        for (int r = 0; r < board.getRows(); r++) {
+            int filled = 0;
+            for (int c = 0; c < board.getCols(); c++) {
+                if (board.isFilled(r, c)) filled++;
+            }
+            assertEquals(filled, board.getRowFill(r), "row " + r);
+            assertTrue(filled < board.getCols(), "full row " + r + " was left on the board");
+        }
+        for (int c = 0; c < board.getCols(); c++) {
+            int filled = 0;
+            for (int r = 0; r < board.getRows(); r++) {
+                if (board.isFilled(r, c)) filled++;
+            }
+            assertEquals(filled, board.getColFill(c), "column " + c);
+        }
+    }
+}
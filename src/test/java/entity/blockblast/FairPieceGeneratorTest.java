@@ -0,0 +1,89 @@
+package entity.blockblast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks fair deals against an exhaustive search on crowded boards.
+ */
+public class FairPieceGeneratorTest {
+    private static final Piece CELL = Shape.of(List.of(new Position(0, 0))).piece(PieceColor.RED);
+
+    private static Board crowdedBoard(Random random, double density) {
+        Board board = new Board(8, 8);
+        for (int r = 0; r < 8; r++) {
+            for (int c = 0; c < 8; c++) {
+                if (random.nextDouble() < density) board.place(CELL, r, c);
+            }
+        }
+        board.clearFullLines();
+        return board;
+    }
+
+    private static boolean playable(Board board, Piece[] tray, int remaining) {
+        if (remaining == 0) return true;
+        for (int i = 0; i < tray.length; i++) {
+            if ((remaining & 1 << i) == 0) continue;
+            for (int r = 0; r < board.getRows(); r++) {
+                for (long cols = board.legalColumns(tray[i], r); cols != 0; cols &= cols - 1) {
+                    Board next = board.copyWithoutColors();
+                    next.place(tray[i], r, Long.numberOfTrailingZeros(cols));
+                    next.clearFullLines();
+                    if (playable(next, tray, remaining & ~(1 << i))) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void deal_onlyDealsTraysThatCanBePlaced() {
+        Random random = new Random(15);
+        PieceGenerator uniform = new PieceGenerator(15L);
+        FairPieceGenerator fair = new FairPieceGenerator(15L, 0);
+        Piece[] tray = new Piece[3];
+        int unfairUniformDeals = 0;
+        for (int i = 0; i < 200; i++) {
+            Board board = crowdedBoard(random, 0.6);
+            uniform.deal(tray, board);
+            if (!playable(board, tray, 7)) unfairUniformDeals++;
+            fair.deal(tray, board);
+            assertTrue(playable(board, tray, 7), "deal " + i);
+        }
+        assertTrue(unfairUniformDeals > 0, "the boards should be crowded enough to matter");
+    }
+
+    @Test
+    public void deal_meetsTheAnchorTarget() {
+        Board board = crowdedBoard(new Random(3), 0.5);
+        FairPieceGenerator generator = new FairPieceGenerator(3L, 40);
+        Piece[] tray = new Piece[3];
+        for (int i = 0; i < 50; i++) {
+            generator.deal(tray, board);
+            int anchors = 0;
+            for (Piece piece : tray) {
+                for (int r = 0; r < 8; r++) anchors += Long.bitCount(board.legalColumns(piece, r));
+            }
+            assertTrue(anchors >= 40, "deal " + i + " had " + anchors + " anchors");
+        }
+    }
+
+    @Test
+    public void forDealMode_recreatesTheSameDeals() {
+        FairPieceGenerator original = new FairPieceGenerator(8L, 5);
+        PieceGenerator copy = PieceGenerator.forDealMode(original.getDealMode(), 8L);
+        Board board = crowdedBoard(new Random(8), 0.6);
+        Piece[] a = new Piece[3];
+        Piece[] b = new Piece[3];
+        for (int i = 0; i < 20; i++) {
+            original.deal(a, board);
+            copy.deal(b, board);
+            assertArrayEquals(a, b);
+        }
+        assertEquals(0, PieceGenerator.forDealMode(0, 8L).getDealMode());
+    }
+}
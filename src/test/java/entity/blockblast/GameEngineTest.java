@@ -0,0 +1,123 @@
+package entity.blockblast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEngineTest {
+
+    private static final class Snapshot {
+        final PieceColor[][] grid;
+        final Piece[] tray;
+        final int score;
+
+        Snapshot(GameState state) {
+            PieceColor[][] source = state.getBoard().getGrid();
+            grid = new PieceColor[source.length][];
+            for (int r = 0; r < source.length; r++) grid[r] = source[r].clone();
+            tray = state.getCurrentPieces().clone();
+            score = state.getScore();
+        }
+
+        void assertMatches(GameState state, String when) {
+            Board board = state.getBoard();
+            assertTrue(Arrays.deepEquals(grid, board.getGrid()), when);
+            for (int r = 0; r < board.getRows(); r++) {
+                for (int c = 0; c < board.getCols(); c++) {
+                    assertEquals(grid[r][c] != null, board.isFilled(r, c), when);
+                }
+            }
+            assertArrayEquals(tray, state.getCurrentPieces(), when);
+            assertEquals(score, state.getScore(), when);
+        }
+    }
+
+    private static boolean playRandomMove(GameEngine engine, Random random) {
+        LegalAnchorTracker anchors = engine.getAnchors();
+        Piece[] tray = engine.getGameState().getCurrentPieces();
+        List<int[]> moves = new ArrayList<>();
+        for (int slot = 0; slot < tray.length; slot++) {
+            for (int r = 0; tray[slot] != null && r < engine.getGameState().getBoard().getRows(); r++) {
+                for (long bits = anchors.getLegalColumns(slot, r); bits != 0; bits &= bits - 1) {
+                    moves.add(new int[] {slot, r, Long.numberOfTrailingZeros(bits)});
+                }
+            }
+        }
+        if (moves.isEmpty()) return false;
+        int[] move = moves.get(random.nextInt(moves.size()));
+        return engine.play(move[0], move[1], move[2]) == GameEngine.MoveResult.PLACED;
+    }
+
+    @Test
+    public void undoAndRedo_restoreEveryPositionOfTheGame() {
+        GameState state = new GameState(new Board(8, 8), new Piece[3], 0, false);
+        GameEngine engine = new GameEngine(state, new PieceGenerator(29L));
+        engine.newGame();
+        Random random = new Random(29);
+
+        List<Snapshot> history = new ArrayList<>();
+        history.add(new Snapshot(state));
+        int linesCleared = 0;
+        while (history.size() <= 30 && playRandomMove(engine, random) && !state.isGameOver()) {
+            linesCleared += engine.getLastLinesCleared();
+            history.add(new Snapshot(state));
+        }
+        assertTrue(linesCleared > 0, "the game should clear some lines");
+
+        for (int i = history.size() - 1; i > 0; i--) {
+            assertTrue(engine.undo());
+            history.get(i - 1).assertMatches(state, "after undoing move " + i);
+        }
+        assertFalse(engine.undo());
+
+        for (int i = 1; i < history.size(); i++) {
+            assertTrue(engine.redo());
+            history.get(i).assertMatches(state, "after redoing move " + i);
+        }
+        assertFalse(engine.redo());
+        assertTrue(engine.hasLegalMove() || state.isGameOver());
+    }
+
+    @Test
+    public void undo_keepsTheNextDealAndDropsRedoOnNewMove() {
+        GameState state = new GameState(new Board(8, 8), new Piece[3], 0, false);
+        GameEngine engine = new GameEngine(state, new PieceGenerator(11L));
+        engine.newGame();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(playRandomMove(engine, random));
+        }
+        Piece[] dealt = state.getCurrentPieces().clone();
+
+        assertTrue(engine.undo());
+        assertTrue(playRandomMove(engine, random));
+        assertFalse(engine.canRedo());
+        assertArrayEquals(dealt, state.getCurrentPieces());
+    }
+
+    @Test
+    public void undoAndRedo_dealTheSameFairTrayAgain() {
+        GameState state = new GameState(new Board(8, 8), new Piece[3], 0, false);
+        GameEngine engine = new GameEngine(state, new FairPieceGenerator(17L, 4));
+        engine.newGame();
+        Random random = new Random(17);
+
+        int refills = 0;
+        while (refills < 5 && playRandomMove(engine, random) && !state.isGameOver()) {
+            if (!Arrays.asList(state.getCurrentPieces()).contains(null)) {
+                refills++;
+                Snapshot dealt = new Snapshot(state);
+                assertTrue(engine.undo());
+                assertTrue(engine.redo());
+                dealt.assertMatches(state, "after redoing refill " + refills);
+            }
+        }
+        assertEquals(5, refills);
+    }
+}
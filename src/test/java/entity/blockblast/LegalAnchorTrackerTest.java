@@ -0,0 +1,89 @@
+package entity.blockblast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the incrementally maintained anchors always match a full rescan with canPlace.
+ */
+public class LegalAnchorTrackerTest {
+
+    private static void assertMatchesRescan(Board board, Piece[] tray, LegalAnchorTracker tracker) {
+        boolean any = false;
+        for (int i = 0; i < tray.length; i++) {
+            int count = 0;
+            for (int r = 0; r < board.getRows(); r++) {
+                for (int c = 0; c < board.getCols(); c++) {
+                    boolean expected = tray[i] != null && board.canPlace(tray[i], r, c);
+                    assertEquals(expected, tracker.isLegal(i, r, c), "slot " + i + " at " + r + "," + c);
+                    if (expected) count++;
+                }
+            }
+            assertEquals(count, tracker.countLegalAnchors(i));
+            any |= count > 0;
+        }
+        assertEquals(any, tracker.hasLegalMove());
+    }
+
+    @Test
+    public void update_matchesFullRescanOverRandomGames() {
+        Random random = new Random(7);
+        for (int size : new int[] {8, 10}) {
+            PieceGenerator generator = new PieceGenerator();
+            Board board = new Board(size, size);
+            LegalAnchorTracker tracker = new LegalAnchorTracker(board);
+            Piece[] tray = new Piece[3];
+            for (int i = 0; i < tray.length; i++) tray[i] = generator.generateRandomPiece();
+            tracker.sync(tray);
+
+            for (int move = 0; move < 200 && tracker.hasLegalMove(); move++) {
+                int slot;
+                do {
+                    slot = random.nextInt(tray.length);
+                } while (tracker.countLegalAnchors(slot) == 0);
+                int pick = random.nextInt(tracker.countLegalAnchors(slot));
+                int row = -1, col = -1;
+                for (int r = 0; r < size && row < 0; r++) {
+                    for (long bits = tracker.getLegalColumns(slot, r); bits != 0; bits &= bits - 1) {
+                        if (pick-- == 0) {
+                            row = r;
+                            col = Long.numberOfTrailingZeros(bits);
+                            break;
+                        }
+                    }
+                }
+
+                Piece piece = tray[slot];
+                board.place(piece, row, col);
+                board.clearFullLines();
+                tracker.update(piece, row);
+                tray[slot] = null;
+                if (tray[0] == null && tray[1] == null && tray[2] == null) {
+                    for (int i = 0; i < tray.length; i++) tray[i] = generator.generateRandomPiece();
+                }
+                tracker.sync(tray);
+                assertMatchesRescan(board, tray, tracker);
+            }
+        }
+    }
+
+    @Test
+    public void sync_rebuildsWhenBoardChangedExternally() {
+        Board board = new Board(4, 4);
+        PieceGenerator generator = new PieceGenerator();
+        Piece[] tray = {generator.generateRandomPiece(), null, null};
+        LegalAnchorTracker tracker = new LegalAnchorTracker(board);
+        tracker.sync(tray);
+
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                board.place(Shape.of(java.util.List.of(new Position(0, 0))).piece(PieceColor.RED), r, c);
+            }
+        }
+        tracker.sync(tray);
+        assertFalse(tracker.hasLegalMove());
+    }
+}
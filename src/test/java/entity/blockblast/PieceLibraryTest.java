@@ -0,0 +1,111 @@
+package entity.blockblast;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests parsing of piece library files, rotations and weighted picks.
+ */
+public class PieceLibraryTest {
+
+    private static Shape shape(int... rowCols) {
+        Position[] cells = new Position[rowCols.length / 2];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Position(rowCols[2 * i], rowCols[2 * i + 1]);
+        }
+        return Shape.of(List.of(cells));
+    }
+
+    @Test
+    public void standardLibrary_keepsTheOriginalShapeOrder() {
+        // Recorded replays index into this list, so it must not change.
+        List<Shape> expected = List.of(
+                shape(0, 0),
+                shape(0, 0, 0, 1),
+                shape(0, 0, 1, 0),
+                shape(0, 0, 0, 1, 1, 0, 1, 1),
+                shape(0, 0, 1, 0, 1, 1),
+                shape(0, 0, 0, 1, 0, 2),
+                shape(0, 0, 1, 0, 2, 0),
+                shape(0, 0, 0, 1, 0, 2, 1, 1),
+                shape(0, 0, 0, 1, 1, 1, 1, 2));
+        PieceLibrary library = PieceLibrary.standard();
+        assertEquals(expected, library.getShapes());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(1, library.getWeight(i));
+        }
+    }
+
+    @Test
+    public void parse_expandsDistinctRotationsWithTheirWeight() throws IOException {
+        PieceLibrary library = PieceLibrary.parse(new StringReader(
+                "# comment\n\npiece ell 3 rotate\n#.\n#.\n##\n\npiece square 5 rotate\n##\n##\n"));
+
+        List<Shape> shapes = library.getShapes();
+        assertEquals(5, shapes.size());
+        assertEquals(shape(0, 0, 1, 0, 2, 0, 2, 1), shapes.get(0));
+        assertEquals(shape(0, 0, 0, 1, 0, 2, 1, 0), shapes.get(1));
+        assertEquals(shape(0, 0, 0, 1, 1, 1, 2, 1), shapes.get(2));
+        assertEquals(shape(0, 2, 1, 0, 1, 1, 1, 2), shapes.get(3));
+        assertEquals(shape(0, 0, 0, 1, 1, 0, 1, 1), shapes.get(4));
+        assertEquals(3, library.getWeight(3));
+        assertEquals(5, library.getWeight(4));
+    }
+
+    @Test
+    public void parse_movesDrawingsToStartAtTheOrigin() throws IOException {
+        PieceLibrary library = PieceLibrary.parse(new StringReader("piece hook 1\n...\n..#\n.##\n"));
+        Shape hook = library.getShapes().get(0);
+        assertEquals(shape(0, 1, 1, 0, 1, 1), hook);
+
+        // The anchor that puts the hook in the bottom-right corner survives a replay round trip.
+        Board board = new Board(8, 8);
+        Piece piece = hook.piece(PieceColor.RED);
+        assertTrue(board.canPlace(piece, 6, 6));
+        assertFalse(board.canPlace(piece, 7, 7));
+        Replay replay = new Replay(8, 8, 3, 0L, new int[] {Replay.packMove(8, 8, 2, 6, 6)}, 0);
+        assertEquals(2, replay.getPieceIndex(0));
+        assertEquals(6, replay.getRow(0));
+        assertEquals(6, replay.getCol(0));
+    }
+
+    @Test
+    public void packMove_rejectsAnchorsOffTheBoard() {
+        // Shapes built directly can still start away from (0, 0) and be placed from such anchors.
+        Piece offset = Shape.of(List.of(new Position(1, 1))).piece(PieceColor.RED);
+        assertTrue(new Board(8, 8).canPlace(offset, -1, -1));
+        assertThrows(IllegalArgumentException.class, () -> Replay.packMove(8, 8, 0, -1, -1));
+        assertThrows(IllegalArgumentException.class, () -> Replay.packMove(8, 8, 0, 0, 8));
+    }
+
+    @Test
+    public void pick_followsTheWeights() throws IOException {
+        PieceLibrary library = PieceLibrary.parse(new StringReader("piece a 1\n#\n\npiece b 3\n##\n"));
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[2];
+        for (int i = 0; i < 40_000; i++) {
+            counts[library.pick(random)]++;
+        }
+        assertEquals(3.0, counts[1] / (double) counts[0], 0.15);
+    }
+
+    @Test
+    public void parse_rejectsBadPieces() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PieceLibrary.parse(new StringReader("piece a 0\n#\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> PieceLibrary.parse(new StringReader("piece a 1\n#x\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> PieceLibrary.parse(new StringReader("piece a 1\n.\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> PieceLibrary.parse(new StringReader("piece a 1\n#########\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> PieceLibrary.parse(new StringReader("")));
+    }
+}
@@ -0,0 +1,64 @@
+package entity.wordle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnswerIndexTest {
+
+    @Test
+    void narrow_keepsExactlyTheAnswersThatGiveTheSameFeedback() {
+        Random random = new Random(11);
+        // More than 64 answers over a small alphabet: several words, many repeated letters.
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < 150; i++) answers.add(randomWord(random));
+        AnswerIndex index = new AnswerIndex(answers);
+
+        for (int game = 0; game < 200; game++) {
+            String answer = answers.get(random.nextInt(answers.size()));
+            long[] set = index.all();
+            List<String> guesses = new ArrayList<>();
+            for (int turn = 0; turn < 4; turn++) {
+                String guess = randomWord(random);
+                guesses.add(guess);
+                index.narrow(set, guess, Feedback.of(guess, answer));
+
+                for (int a = 0; a < answers.size(); a++) {
+                    boolean fits = true;
+                    for (String g : guesses) fits &= Feedback.of(g, answers.get(a)) == Feedback.of(g, answer);
+                    assertEquals(fits, AnswerIndex.contains(set, a), guesses + " vs " + answers.get(a));
+                }
+            }
+            assertTrue(AnswerIndex.contains(set, answers.indexOf(answer)));
+        }
+    }
+
+    @Test
+    void all_coversEveryAnswerOnce() {
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < 130; i++) answers.add("crane");
+        long[] set = new AnswerIndex(answers).all();
+        assertEquals(130, AnswerIndex.count(set));
+        assertEquals(129, AnswerIndex.indices(set)[129]);
+    }
+
+    @Test
+    void game_countsTheAnswersLeft() {
+        AnswerIndex index = new AnswerIndex(List.of("cigar", "rebut", "sissy", "humph", "awake"));
+        WordleGame game = new WordleGame("sissy", index);
+        assertEquals(5, game.getCandidateCount());
+        game.submitGuess("stash");
+        assertEquals(1, game.getCandidateCount());
+        assertEquals(-1, new WordleGame("sissy").getCandidateCount());
+    }
+
+    private static String randomWord(Random random) {
+        char[] word = new char[WordleGame.WORD_LENGTH];
+        for (int i = 0; i < word.length; i++) word[i] = (char) ('a' + random.nextInt(5));
+        return new String(word);
+    }
+}
@@ -0,0 +1,83 @@
+package entity.wordle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackTest {
+    private static final LetterState C = LetterState.CORRECT;
+    private static final LetterState P = LetterState.PRESENT;
+    private static final LetterState A = LetterState.ABSENT;
+
+    @Test
+    void of_handlesDuplicateLetters() {
+        assertEquals(List.of(A, A, P, A, P), Feedback.states(Feedback.of("speed", "abide")));
+        assertEquals(List.of(P, P, A, A, A), Feedback.states(Feedback.of("eerie", "speed")));
+        assertEquals(List.of(A, A, C, C, C), Feedback.states(Feedback.of("lolly", "belly")));
+        assertEquals(Feedback.ALL_CORRECT, Feedback.of("Crane", "cRANE"));
+        assertEquals(0, Feedback.of("crane", "fluff"));
+    }
+
+    @Test
+    void of_matchesTheReferenceEvaluationOnRandomWords() {
+        Random random = new Random(7);
+        for (int n = 0; n < 20_000; n++) {
+            // A small alphabet makes repeated letters common.
+            String guess = randomWord(random, 4);
+            String answer = randomWord(random, 4);
+            int code = Feedback.of(guess, answer);
+            assertEquals(reference(guess, answer), Feedback.states(code), guess + " vs " + answer);
+            assertEquals(code, Feedback.encode(Feedback.states(code)));
+        }
+    }
+
+    @Test
+    void of_rejectsNonLetters() {
+        assertThrows(IllegalArgumentException.class, () -> Feedback.of("cr4ne", "crane"));
+        assertThrows(IllegalArgumentException.class, () -> Feedback.of("cran", "crane"));
+    }
+
+    @Test
+    void guess_decodesStatesFromItsCode() {
+        WordleGame game = new WordleGame("abide");
+        Guess guess = game.submitGuess("speed");
+        assertEquals(Feedback.of("speed", "abide"), guess.getFeedback());
+        assertEquals(WordleGame.evaluate("speed", "abide"), guess.getStates());
+        assertFalse(game.isFinished());
+        assertTrue(game.submitGuess("ABIDE").isCorrect());
+        assertTrue(game.isWon());
+    }
+
+    private static String randomWord(Random random, int letters) {
+        char[] word = new char[WordleGame.WORD_LENGTH];
+        for (int i = 0; i < word.length; i++) word[i] = (char) ('a' + random.nextInt(letters));
+        return new String(word);
+    }
+
+    /** The original map-based evaluation. */
+    private static List<LetterState> reference(String guess, String answer) {
+        LetterState[] states = new LetterState[WordleGame.WORD_LENGTH];
+        Map<Character, Integer> remaining = new HashMap<>();
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            if (guess.charAt(i) == answer.charAt(i)) states[i] = C;
+            else remaining.merge(answer.charAt(i), 1, Integer::sum);
+        }
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            if (states[i] == C) continue;
+            Integer count = remaining.get(guess.charAt(i));
+            if (count != null && count > 0) {
+                states[i] = P;
+                remaining.put(guess.charAt(i), count - 1);
+            } else {
+                states[i] = A;
+            }
+        }
+        return new ArrayList<>(List.of(states));
+    }
+}
@@ -0,0 +1,34 @@
+package entity.wordle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedWordsTest {
+
+    @Test
+    void pack_keepsAlphabeticalOrderAndRoundTrips() {
+        assertTrue(PackedWords.pack("aahed") < PackedWords.pack("aalii"));
+        assertTrue(PackedWords.pack("azzzz") < PackedWords.pack("baaaa"));
+        assertEquals("zymic", PackedWords.unpack(PackedWords.pack("ZYMIC")));
+        assertEquals(-1, PackedWords.pack("ab-cd"));
+        assertEquals(-1, PackedWords.pack("cran"));
+    }
+
+    @Test
+    void of_sortsDropsRepeatsAndInvalidWordsAndSearchesByCode() {
+        PackedWords words = PackedWords.of(List.of("stomp", "Crane", "crane", "cr4ne", "abide", "toolong"));
+
+        assertEquals(List.of("abide", "crane", "stomp"), words);
+        assertEquals(1, words.indexOf("crane"));
+        assertEquals(1, words.find("CRANE"));
+        assertEquals(-1, words.indexOf("CRANE"));
+        assertEquals(-1, words.indexOf("slate"));
+        assertEquals(-1, words.find("cr4ne"));
+        assertTrue(words.contains("stomp"));
+        assertEquals(words, PackedWords.of(List.of("abide", "crane", "stomp")));
+        assertEquals(List.of("abide", "crane", "stomp").hashCode(), words.hashCode());
+    }
+}
@@ -0,0 +1,100 @@
+package use_case.blockblast;
+
+import data_access.blockblast.FileChallengePackDataAccess;
+import entity.blockblast.Board;
+import entity.blockblast.Challenge;
+import entity.blockblast.ChallengePieceGenerator;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceLibrary;
+import entity.blockblast.Replay;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChallengeSolverTest {
+
+    @Test
+    public void solve_findsShortestSolutionsForTheBundledPack() throws IOException {
+        List<Challenge> pack = bundledPack();
+        ChallengeSolver solver = new ChallengeSolver();
+        int[] shortest = {1, 2, 2, 3};
+
+        for (int i = 0; i < pack.size(); i++) {
+            Challenge challenge = pack.get(i);
+            ChallengeSolver.Result result = solver.solve(challenge);
+            assertEquals(ChallengeSolver.Status.SOLVED, result.getStatus(), challenge.getName());
+            assertEquals(shortest[i], result.getMoves().length, challenge.getName());
+            assertTrue(playsToEmptyBoard(challenge, result.getMoves()), challenge.getName());
+        }
+    }
+
+    @Test
+    public void solve_provesChallengesUnsolvable() throws IOException {
+        Challenge lonelyCell = parse("challenge lonely\n#...\n....\n....\n....\npieces single single\n").get(0);
+        ChallengeSolver.Result result = new ChallengeSolver().solve(lonelyCell);
+
+        assertEquals(ChallengeSolver.Status.UNSOLVABLE, result.getStatus());
+        assertNull(result.getMoves());
+    }
+
+    @Test
+    public void verify_keepsSolvableChallengesWithTheirSolutions() throws IOException {
+        List<Challenge> pack = new ArrayList<>(bundledPack());
+        pack.add(1, parse("challenge lonely\n#.......\n........\n........\n........\n........\n........\n"
+                + "........\n........\npieces single single single\n").get(0));
+
+        ChallengeImporter.Report report = new ChallengeImporter(ForkJoinPool.commonPool(),
+                ChallengeSolver.DEFAULT_NODE_BUDGET).verify(pack);
+
+        assertEquals(List.of("lonely: no sequence of moves empties the board"), report.getRejected());
+        assertEquals(4, report.getAccepted().size());
+        assertEquals("double-clear", report.getAccepted().get(1).getName());
+        for (Challenge challenge : report.getAccepted()) {
+            assertTrue(challenge.hasSolution());
+            assertTrue(playsToEmptyBoard(challenge, challenge.getSolution()));
+        }
+    }
+
+    @Test
+    public void solve_givesUpWhenTheBudgetRunsOut() throws IOException {
+        Challenge gaps = bundledPack().get(3);
+        assertEquals(ChallengeSolver.Status.BUDGET_EXCEEDED, new ChallengeSolver(5).solve(gaps).getStatus());
+    }
+
+    /** Plays the moves through the real engine, with the challenge's pieces dealt tray by tray. */
+    private static boolean playsToEmptyBoard(Challenge challenge, int[] moves) {
+        GameState state = new GameState(new Board(challenge.getRows(), challenge.getCols()),
+                new Piece[challenge.getTraySize()], 0, false);
+        GameEngine engine = new GameEngine(state, new ChallengePieceGenerator(List.of(challenge)));
+        engine.newGame();
+        Replay replay = new Replay(challenge.getRows(), challenge.getCols(), challenge.getTraySize(), 0L, moves, 0);
+        for (int i = 0; i < replay.getMoveCount(); i++) {
+            if (engine.play(replay.getPieceIndex(i), replay.getRow(i), replay.getCol(i)) != GameEngine.MoveResult.PLACED) {
+                return false;
+            }
+        }
+        return state.getBoard().isEmpty();
+    }
+
+    private static List<Challenge> bundledPack() throws IOException {
+        try (InputStream in = ChallengeSolverTest.class.getResourceAsStream("/blockblast/challenges.txt")) {
+            return FileChallengePackDataAccess.parse(new InputStreamReader(in, StandardCharsets.UTF_8),
+                    PieceLibrary.standard());
+        }
+    }
+
+    private static List<Challenge> parse(String pack) throws IOException {
+        return FileChallengePackDataAccess.parse(new StringReader(pack), PieceLibrary.standard());
+    }
+}
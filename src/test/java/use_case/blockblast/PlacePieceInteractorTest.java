@@ -1,10 +1,12 @@
 package use_case.blockblast;
 
 import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
 import entity.blockblast.GameState;
 import entity.blockblast.Piece;
 import entity.blockblast.PieceColor;
 import entity.blockblast.Position;
+import entity.blockblast.Shape;
 import entity.blockblast.PieceGenerator;
 
 import org.junit.jupiter.api.Test;
@@ -56,7 +58,7 @@ public class PlacePieceInteractorTest {
     private static Piece singleCellPiece(PieceColor color) {
         List<Position> cells = new ArrayList<>();
         cells.add(new Position(0, 0));
-        return new Piece(cells, color);
+        return Shape.of(cells).piece(color);
     }
 
     /**
@@ -68,7 +70,7 @@ public class PlacePieceInteractorTest {
         List<Position> cells = new ArrayList<>();
         cells.add(new Position(0, 0));
         cells.add(new Position(1, 0));
-        return new Piece(cells, color);
+        return Shape.of(cells).piece(color);
     }
 
     /** Helper: build a 2x2 square piece using cells (0,0), (0,1), (1,0), (1,1). */
@@ -78,7 +80,7 @@ public class PlacePieceInteractorTest {
         cells.add(new Position(0, 1));
         cells.add(new Position(1, 0));
         cells.add(new Position(1, 1));
-        return new Piece(cells, color);
+        return Shape.of(cells).piece(color);
     }
 
     /** Correct Path **/
@@ -112,6 +114,38 @@ public class PlacePieceInteractorTest {
         assertNull(presenter.errorMessage);
     }
 
+    /** The response reports only the placed piece, the cleared line and the used slot. */
+    @Test
+    public void execute_reportsChangeSetOfTheMove() {
+        Board board = new Board(4, 4);
+        for (int c = 0; c < 3; c++) {
+            board.place(singleCellPiece(PieceColor.RED), 2, c);
+        }
+        Piece placed = singleCellPiece(PieceColor.BLUE);
+        Piece[] pieces = new Piece[] {
+                singleCellPiece(PieceColor.GREEN),
+                placed,
+                singleCellPiece(PieceColor.YELLOW)
+        };
+        GameState gameState = new GameState(board, pieces, 0, false);
+
+        TestPresenter presenter = new TestPresenter();
+        PlacePieceInteractor interactor =
+                new PlacePieceInteractor(gameState, new PieceGenerator(), presenter);
+        interactor.execute(new PlacePieceRequestModel(1, 2, 3));
+
+        BoardChangeSet changes = presenter.lastResponse.getChanges();
+        assertFalse(changes.isEverything());
+        assertSame(placed, changes.getPlacedPiece());
+        assertEquals(2, changes.getRow());
+        assertEquals(3, changes.getCol());
+        assertEquals(1L << 2, changes.getClearedRows());
+        assertEquals(0L, changes.getClearedCols());
+        assertTrue(changes.isSlotChanged(1));
+        assertFalse(changes.isSlotChanged(0));
+        assertFalse(changes.isSlotChanged(2));
+    }
+
     /** Error path: invalid piece index triggers fail view and returns early. */
     @Test
     public void execute_withInvalidIndex_callsFailView() {
@@ -305,4 +339,32 @@ public class PlacePieceInteractorTest {
         assertTrue(gameState.isGameOver(),
                 "Game should be over when no valid move remains");
     }
+
+    /** Every attempt is logged with its outcome, the piece's box mask and the resulting score. */
+    @Test
+    public void execute_appendsAnEventForEveryAttempt() {
+        Board board = new Board(4, 4);
+        Piece[] pieces = new Piece[] {
+                verticalTwoPiece(PieceColor.RED),
+                singleCellPiece(PieceColor.BLUE),
+                null
+        };
+        GameState gameState = new GameState(board, pieces, 0, false);
+        List<long[]> events = new ArrayList<>();
+        MoveEventLog log = (kind, timestamp, shapeMask, row, col, linesCleared, score) ->
+                events.add(new long[] {kind, shapeMask, row, col, linesCleared, score});
+        PlacePieceInteractor interactor = new PlacePieceInteractor(
+                new GameEngine(gameState, new PieceGenerator(3)), new TestPresenter(), log);
+
+        interactor.execute(new PlacePieceRequestModel(0, 3, 0));
+        interactor.execute(new PlacePieceRequestModel(0, 1, 2));
+        interactor.execute(new PlacePieceRequestModel(2, 0, 0));
+        interactor.newGame();
+
+        assertEquals(4, events.size());
+        assertArrayEquals(new long[] {MoveEventLog.BLOCKED, 0x101L, 3, 0, 0, 0}, events.get(0));
+        assertArrayEquals(new long[] {MoveEventLog.PLACED, 0x101L, 1, 2, 0, gameState.getScore()}, events.get(1));
+        assertArrayEquals(new long[] {MoveEventLog.INVALID_PIECE, 0L, 0, 0, 0, gameState.getScore()}, events.get(2));
+        assertEquals(MoveEventLog.NEW_GAME, events.get(3)[0]);
+    }
 }
@@ -0,0 +1,98 @@
+package use_case.blockblast;
+
+import data_access.blockblast.FileHeatmapDataAccess;
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameListener;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the heatmap counts every placement and cleared line, from several games at once.
+ */
+public class PlacementHeatmapTest {
+
+    @Test
+    public void concurrentGames_countEveryPlacementAndClear() throws InterruptedException {
+        PlacementHeatmap heatmap = new PlacementHeatmap(8, 8);
+        int threads = 4;
+        int[] moves = new int[threads];
+        int[] lines = new int[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                GameEngine engine = new GameEngine(
+                        new GameState(new Board(8, 8), new Piece[3], 0, false), new PieceGenerator(id));
+                engine.addListener(heatmap);
+                engine.addListener(new GameListener() {
+                    @Override
+                    public void piecePlaced(GameState state, int pieceIndex, int row, int col, int linesCleared) {
+                        moves[id]++;
+                        lines[id] += linesCleared;
+                    }
+                });
+                GreedyBotPolicy policy = new GreedyBotPolicy(new DefaultPlacementHeuristic());
+                Random random = new Random(id);
+                for (int game = 0; game < 3; game++) {
+                    engine.newGame();
+                    while (!engine.getGameState().isGameOver()) {
+                        PlacePieceRequestModel move = policy.chooseMove(engine, random);
+                        if (move == null) break;
+                        engine.play(move.getPieceIndex(), move.getRow(), move.getCol());
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) worker.join();
+
+        HeatmapSnapshot snapshot = heatmap.snapshot();
+        long placed = 0, cleared = 0;
+        for (int r = 0; r < 8; r++) {
+            cleared += snapshot.getRowClears(r) + snapshot.getColClears(r);
+            for (int c = 0; c < 8; c++) placed += snapshot.getPlacements(r, c);
+        }
+        long expectedMoves = 0, expectedLines = 0;
+        for (int t = 0; t < threads; t++) {
+            expectedMoves += moves[t];
+            expectedLines += lines[t];
+        }
+        assertEquals(3L * threads, snapshot.getGames());
+        assertEquals(expectedMoves, placed);
+        assertEquals(expectedLines, cleared);
+        assertTrue(expectedLines > 0);
+    }
+
+    @Test
+    public void savedTotals_areContinuedAfterLoading(@TempDir Path dir) {
+        PlacementHeatmap heatmap = new PlacementHeatmap(8, 8);
+        GameEngine engine = new GameEngine(
+                new GameState(new Board(8, 8), new Piece[3], 0, false), new PieceGenerator(5));
+        engine.addListener(heatmap);
+        engine.newGame();
+        engine.play(0, 0, 0);
+
+        FileHeatmapDataAccess gateway = new FileHeatmapDataAccess(dir);
+        assertNull(gateway.load(8, 8));
+        gateway.save(heatmap.snapshot());
+        HeatmapSnapshot loaded = gateway.load(8, 8);
+        assertNotNull(loaded);
+        assertEquals(1, loaded.getPlacements(0, 0));
+        assertEquals(1, loaded.getGames());
+        assertNull(gateway.load(10, 10));
+
+        PlacementHeatmap continued = new PlacementHeatmap(loaded);
+        engine.addListener(continued);
+        engine.newGame();
+        assertEquals(2, continued.snapshot().getGames());
+    }
+}
@@ -0,0 +1,54 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the placement map's legality and line-clear predictions against really placing
+ * each piece on a copy of the board.
+ */
+public class PlacementMapTest {
+
+    @Test
+    public void predictions_matchPlacingOnACopy() {
+        Random random = new Random(21);
+        GameState state = new GameState(new Board(8, 8), new Piece[3], 0, false);
+        GameEngine engine = new GameEngine(state, new PieceGenerator(21L));
+        engine.newGame();
+        BotPolicy bot = new RandomBotPolicy();
+        int clearingAnchors = 0;
+
+        for (int move = 0; move < 30 && !state.isGameOver(); move++) {
+            PlacementMap map = PlacementMap.of(engine);
+            Board board = state.getBoard();
+            Piece[] tray = state.getCurrentPieces();
+            for (int slot = 0; slot < tray.length; slot++) {
+                for (int r = 0; r < board.getRows(); r++) {
+                    for (int c = 0; c < board.getCols(); c++) {
+                        boolean legal = tray[slot] != null && board.canPlace(tray[slot], r, c);
+                        assertEquals(legal, map.isLegal(slot, r, c));
+                        if (!legal) continue;
+
+                        Board copy = board.copyWithoutColors();
+                        copy.place(tray[slot], r, c);
+                        copy.clearFullLines();
+                        assertEquals(copy.getLastClearedRows(), map.rowsCleared(tray[slot], r, c));
+                        assertEquals(copy.getLastClearedCols(), map.colsCleared(tray[slot], r, c));
+                        if (copy.getLastClearedRows() != 0 || copy.getLastClearedCols() != 0) clearingAnchors++;
+                    }
+                }
+            }
+            PlacePieceRequestModel next = bot.chooseMove(engine, random);
+            engine.play(next.getPieceIndex(), next.getRow(), next.getCol());
+        }
+        assertTrue(clearingAnchors > 0);
+    }
+}
@@ -0,0 +1,82 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceColor;
+import entity.blockblast.PieceGenerator;
+import entity.blockblast.Position;
+import entity.blockblast.Shape;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlacementSolverTest {
+
+    private static Piece piece(PieceColor color, int... rowCols) {
+        Position[] cells = new Position[rowCols.length / 2];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Position(rowCols[2 * i], rowCols[2 * i + 1]);
+        }
+        return Shape.of(List.of(cells)).piece(color);
+    }
+
+    @Test
+    public void solve_findsSequenceThatClearsLines() {
+        Board board = new Board(8, 8);
+        Piece six = piece(PieceColor.RED, 0, 0, 0, 1, 0, 2, 0, 3, 0, 4, 0, 5);
+        board.place(six, 7, 0);
+        board.place(six, 6, 0);
+
+        Piece domino = piece(PieceColor.BLUE, 0, 0, 0, 1);
+        Piece tall = piece(PieceColor.GREEN, 0, 0, 1, 0);
+        Piece[] tray = {tall, domino, domino};
+
+        PlacementSolver solver = new PlacementSolver(ForkJoinPool.commonPool(),
+                new DefaultPlacementHeuristic(10.0, 0.0, 0.0), 5_000);
+        SolverResult result = solver.solve(board, tray);
+
+        assertTrue(result.isComplete());
+        assertEquals(3, result.getMoves().size());
+        assertEquals(20.0, result.getScore(), 1e-9);
+
+        for (PlacePieceRequestModel move : result.getMoves()) {
+            Piece p = tray[move.getPieceIndex()];
+            assertTrue(board.canPlace(p, move.getRow(), move.getCol()));
+            board.place(p, move.getRow(), move.getCol());
+            board.clearFullLines();
+        }
+        assertFalse(board.isFilled(7, 0));
+        assertFalse(board.isFilled(6, 0));
+    }
+
+    @Test
+    public void solve_returnsEmptyWhenNothingFits() {
+        Board board = new Board(2, 2);
+        Piece square = piece(PieceColor.BLUE, 0, 0, 0, 1, 1, 0, 1, 1);
+        board.place(piece(PieceColor.RED, 0, 0), 0, 0);
+
+        PlacementSolver solver = new PlacementSolver(ForkJoinPool.commonPool(), new DefaultPlacementHeuristic(), 1_000);
+        SolverResult result = solver.solve(board, new Piece[] {square, null, null});
+
+        assertTrue(result.getMoves().isEmpty());
+    }
+
+    @Test
+    public void solve_staysWithinTimeBudgetOnLargeBoard() {
+        Board board = new Board(32, 32);
+        PieceGenerator generator = new PieceGenerator();
+        Piece[] tray = {generator.generateRandomPiece(), generator.generateRandomPiece(), generator.generateRandomPiece()};
+
+        PlacementSolver solver = new PlacementSolver(ForkJoinPool.commonPool(), new DefaultPlacementHeuristic(), 100);
+        long start = System.nanoTime();
+        SolverResult result = solver.solve(board, tray);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(result.getMoves().isEmpty());
+        assertTrue(elapsedMillis < 1_000, "solver took " + elapsedMillis + " ms");
+    }
+}
@@ -0,0 +1,130 @@
+package use_case.blockblast;
+
+import data_access.blockblast.FileReplayDataAccess;
+import entity.blockblast.Board;
+import entity.blockblast.FairPieceGenerator;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceGenerator;
+import entity.blockblast.Replay;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplayVerifierTest {
+
+    private static Replay playRecordedGame(long seed) {
+        return playRecordedGame(new PieceGenerator(seed), seed);
+    }
+
+    private static Replay playRecordedGame(PieceGenerator generator, long seed) {
+        return playRecordedGame(generator, seed, false);
+    }
+
+    /** Plays a bot game; with undoRefills every move that refills the tray is taken back once and replaced. */
+    private static Replay playRecordedGame(PieceGenerator generator, long seed, boolean undoRefills) {
+        List<Replay> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(new ReplayGateway() {
+            @Override
+            public void save(Replay replay) {
+                saved.add(replay);
+            }
+
+            @Override
+            public List<Replay> loadAll() {
+                return saved;
+            }
+        }, generator.getDealMode());
+        GameState state = new GameState(new Board(8, 8), new Piece[3], 0, false);
+        GameEngine engine = new GameEngine(state, generator);
+        engine.addListener(recorder);
+        engine.newGame();
+
+        BotPolicy bot = new RandomBotPolicy();
+        Random random = new Random(seed);
+        int undone = 0;
+        boolean retrying = false;
+        while (!state.isGameOver()) {
+            PlacePieceRequestModel move = bot.chooseMove(engine, random);
+            boolean lastPiece = remaining(state.getCurrentPieces()) == 1;
+            assertEquals(GameEngine.MoveResult.PLACED, engine.play(move.getPieceIndex(), move.getRow(), move.getCol()));
+            if (undoRefills && lastPiece && !retrying && !state.isGameOver()) {
+                assertTrue(engine.undo());
+                undone++;
+                retrying = true;
+            } else {
+                retrying = false;
+            }
+        }
+        assertTrue(!undoRefills || undone > 0, "the game should undo some refills");
+        assertEquals(1, saved.size());
+        assertEquals(state.getScore(), saved.get(0).getFinalScore());
+        return saved.get(0);
+    }
+
+    @Test
+    public void verify_acceptsRecordedGameAfterBinaryRoundTrip() {
+        Replay replay = playRecordedGame(77L);
+        byte[] bytes = FileReplayDataAccess.encode(replay);
+        Replay decoded = FileReplayDataAccess.decode(bytes);
+
+        assertEquals(replay, decoded);
+        assertTrue(bytes.length <= 20 + 2 * replay.getMoveCount());
+        ReplayVerifier.Result result = new ReplayVerifier().verify(decoded);
+        assertTrue(result.isValid(), result.getMessage());
+        assertEquals(replay.getFinalScore(), result.getReplayedScore());
+    }
+
+    @Test
+    public void verify_acceptsFairlyDealtGame() {
+        Replay replay = playRecordedGame(new FairPieceGenerator(31L, 2), 31L);
+        Replay decoded = FileReplayDataAccess.decode(FileReplayDataAccess.encode(replay));
+
+        assertEquals(3, decoded.getDealMode());
+        ReplayVerifier.Result result = new ReplayVerifier().verify(decoded);
+        assertTrue(result.isValid(), result.getMessage());
+    }
+
+    @Test
+    public void verify_acceptsFairlyDealtGameWithRefillsUndone() {
+        Replay replay = playRecordedGame(new FairPieceGenerator(6L, 20), 6L, true);
+
+        ReplayVerifier.Result result = new ReplayVerifier().verify(replay);
+        assertTrue(result.isValid(), result.getMessage());
+        assertEquals(replay.getFinalScore(), result.getReplayedScore());
+    }
+
+    @Test
+    public void verify_rejectsTamperedScore() {
+        Replay replay = playRecordedGame(5L);
+        int[] moves = new int[replay.getMoveCount()];
+        for (int i = 0; i < moves.length; i++) moves[i] = replay.getMove(i);
+        Replay tampered = new Replay(8, 8, 3, replay.getSeed(), moves, replay.getFinalScore() + 10);
+
+        assertFalse(new ReplayVerifier().verify(tampered).isValid());
+    }
+
+    private static int remaining(Piece[] tray) {
+        int n = 0;
+        for (Piece p : tray) if (p != null) n++;
+        return n;
+    }
+
+    @Test
+    public void generator_sameSeedDealsSamePiecesAndSplitsDiffer() {
+        PieceGenerator a = new PieceGenerator(99L);
+        PieceGenerator b = new PieceGenerator(99L);
+        for (int i = 0; i < 50; i++) {
+            Piece pa = a.generateRandomPiece();
+            Piece pb = b.generateRandomPiece();
+            assertSame(pa.getShape(), pb.getShape());
+            assertEquals(pa.getColor(), pb.getColor());
+        }
+        assertNotEquals(a.split().getSeed(), a.split().getSeed());
+    }
+}
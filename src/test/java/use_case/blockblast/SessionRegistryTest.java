@@ -0,0 +1,136 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionRegistryTest {
+
+    @Test
+    public void withSession_keepsConcurrentMovesOnOneSessionConsistent() throws Exception {
+        SessionRegistry registry = new SessionRegistry(SessionRegistryTest::seededGame, 60_000, System::nanoTime);
+        // Moves in the order each session applied them; appended under the session's lock.
+        Map<String, List<int[]>> applied = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> placed = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int worker = t;
+                placed.add(pool.submit(() -> {
+                    Random random = new Random(worker);
+                    BotPolicy bot = new RandomBotPolicy();
+                    int count = 0;
+                    for (int i = 0; i < 200; i++) {
+                        String id = "user-" + (i % 10);
+                        boolean ok = registry.withSession(id, engine -> {
+                            List<int[]> log = applied.computeIfAbsent(id, key -> new ArrayList<>());
+                            if (engine.getGameState().isGameOver()) {
+                                engine.newGame();
+                                log.add(null);
+                            }
+                            PlacePieceRequestModel move = bot.chooseMove(engine, random);
+                            log.add(new int[] {move.getPieceIndex(), move.getRow(), move.getCol()});
+                            return engine.play(move.getPieceIndex(), move.getRow(), move.getCol())
+                                    == GameEngine.MoveResult.PLACED;
+                        });
+                        if (ok) count++;
+                    }
+                    return count;
+                }));
+            }
+            for (Future<Integer> f : placed) {
+                assertEquals(200, f.get());
+            }
+            assertEquals(10, registry.size());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Each session must end exactly where its own moves, played on one thread, lead.
+        for (int u = 0; u < 10; u++) {
+            String id = "user-" + u;
+            GameEngine serial = seededGame(id);
+            List<int[]> log = applied.get(id);
+            assertEquals(80, log.stream().filter(Objects::nonNull).count());
+            for (int[] move : log) {
+                if (move == null) {
+                    serial.newGame();
+                } else {
+                    assertEquals(GameEngine.MoveResult.PLACED, serial.play(move[0], move[1], move[2]));
+                }
+            }
+            GameState expected = serial.getGameState();
+            registry.withSession(id, engine -> {
+                GameState actual = engine.getGameState();
+                Board board = expected.getBoard();
+                for (int r = 0; r < board.getRows(); r++) {
+                    assertEquals(board.getRowMask(r), actual.getBoard().getRowMask(r), id + " row " + r);
+                }
+                assertEquals(expected.getScore(), actual.getScore(), id);
+                assertArrayEquals(expected.getCurrentPieces(), actual.getCurrentPieces(), id);
+                return null;
+            });
+        }
+    }
+
+    private static GameEngine seededGame(String id) {
+        GameEngine engine = new GameEngine(new GameState(new Board(8, 8), new Piece[3], 0, false),
+                new PieceGenerator(id.hashCode()));
+        engine.newGame();
+        return engine;
+    }
+
+    @Test
+    public void withSession_runsTheFactoryOutsideTheMap() {
+        // "a" and "q" hash to the same bin, which a factory run inside computeIfAbsent would hold.
+        SessionRegistry[] registry = new SessionRegistry[1];
+        registry[0] = new SessionRegistry(id -> {
+            if (id.equals("a")) registry[0].withSession("q", engine -> null);
+            return seededGame(id);
+        }, 60_000, System::nanoTime);
+
+        registry[0].withSession("a", engine -> null);
+        assertEquals(2, registry[0].size());
+    }
+
+    @Test
+    public void evictIdle_removesOnlyIdleSessions() {
+        AtomicLong now = new AtomicLong();
+        SessionRegistry registry = new SessionRegistry(id -> {
+            GameEngine engine = new GameEngine(new GameState(
+                    new Board(8, 8), new Piece[3], 0, false),
+                    new PieceGenerator(1L));
+            engine.newGame();
+            return engine;
+        }, 1_000, now::get);
+        List<String> evicted = new ArrayList<>();
+        registry.setEvictionListener(session -> evicted.add(session.getId()));
+
+        registry.withSession("a", engine -> engine.play(0, 0, 0));
+        now.addAndGet(800_000_000L);
+        registry.withSession("b", engine -> null);
+        now.addAndGet(800_000_000L);
+
+        assertEquals(1, registry.evictIdle());
+        assertEquals(List.of("a"), evicted);
+        assertEquals(1, registry.size());
+        assertEquals(0, (int) registry.withSession("a", engine -> engine.getGameState().getScore()));
+        assertEquals(2, registry.size());
+    }
+}
@@ -0,0 +1,34 @@
+package use_case.blockblast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationRunnerTest {
+
+    @Test
+    public void run_playsEveryGameAndIsReproducible() throws InterruptedException {
+        SimulationRunner runner = new SimulationRunner(8, 8, 3, 10_000, RandomBotPolicy::new);
+
+        SimulationReport first = runner.run(200, 1234L);
+        SimulationReport second = runner.run(200, 1234L);
+
+        assertEquals(200, first.getGames());
+        assertEquals(Arrays.stream(first.getLengthHistogram()).sum(), first.getGames());
+        assertTrue(first.getMoves() > first.getGames());
+        assertEquals(first.getMoves(), second.getMoves());
+        assertArrayEquals(first.getScoreHistogram(), second.getScoreHistogram());
+        assertTrue(first.getScorePercentile(50) <= first.getScorePercentile(99));
+    }
+
+    @Test
+    public void run_greedyPolicyOutscoresRandom() throws InterruptedException {
+        SimulationReport random = new SimulationRunner(8, 8, 2, 200, RandomBotPolicy::new).run(10, 9L);
+        SimulationReport greedy = new SimulationRunner(8, 8, 2, 200,
+                () -> new GreedyBotPolicy(new DefaultPlacementHeuristic())).run(10, 9L);
+
+        assertTrue(greedy.getScorePercentile(50) > random.getScorePercentile(50));
+    }
+}
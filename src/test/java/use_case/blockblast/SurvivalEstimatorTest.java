@@ -0,0 +1,96 @@
+package use_case.blockblast;
+
+import entity.blockblast.Board;
+import entity.blockblast.GameEngine;
+import entity.blockblast.GameState;
+import entity.blockblast.Piece;
+import entity.blockblast.PieceGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the danger meter on a real pool and checks what it reports, and that a new move
+ * supersedes the estimate in flight.
+ */
+public class SurvivalEstimatorTest {
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void shutDown() {
+        pool.shutdownNow();
+    }
+
+    /** Collects every report and lets the test wait for a complete one of a given generation. */
+    private static final class Recorder implements SurvivalOutputBoundary {
+        final List<SurvivalResponseModel> reports = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch complete = new CountDownLatch(1);
+
+        @Override
+        public void prepareSurvivalView(SurvivalResponseModel responseModel) {
+            reports.add(responseModel);
+            if (responseModel.isComplete()) complete.countDown();
+        }
+
+        SurvivalResponseModel awaitComplete() throws InterruptedException {
+            assertTrue(complete.await(30, TimeUnit.SECONDS), "the estimate should finish");
+            SurvivalResponseModel last = null;
+            for (SurvivalResponseModel report : reports) {
+                if (report.isComplete() && (last == null || report.getGeneration() > last.getGeneration())) last = report;
+            }
+            return last;
+        }
+    }
+
+    private static SurvivalEstimator estimator(ExecutorService pool, Recorder recorder) {
+        return new SurvivalEstimator(pool, 2, 200, 2, 0, RandomBotPolicy::new, recorder);
+    }
+
+    @Test
+    public void emptyBoard_almostAlwaysSurvivesAndStreamsPartialResults() throws InterruptedException {
+        Recorder recorder = new Recorder();
+        GameState state = new GameState(new Board(8, 8), new Piece[3], 0, false);
+        GameEngine engine = new GameEngine(state, new PieceGenerator(16L));
+        engine.addListener(estimator(pool, recorder));
+        engine.newGame();
+
+        SurvivalResponseModel result = recorder.awaitComplete();
+        assertEquals(200, result.getRollouts());
+        assertEquals(2, result.getTrays());
+        assertTrue(result.getProbability() > 0.9, "survival was " + result.getProbability());
+        assertTrue(recorder.reports.size() > 2, "partial results should be reported");
+    }
+
+    @Test
+    public void newMove_supersedesTheEstimateInFlight() throws InterruptedException {
+        Recorder recorder = new Recorder();
+        GameState state = new GameState(new Board(8, 8), new Piece[3], 0, false);
+        GameEngine engine = new GameEngine(state, new PieceGenerator(17L));
+        SurvivalEstimator estimator = estimator(pool, recorder);
+        engine.addListener(estimator);
+        engine.newGame();
+        int first = recorder.reports.isEmpty() ? 0 : recorder.reports.get(0).getGeneration();
+
+        PlacePieceRequestModel move = new RandomBotPolicy().chooseMove(engine, new Random(1));
+        engine.play(move.getPieceIndex(), move.getRow(), move.getCol());
+        SurvivalResponseModel result = recorder.awaitComplete();
+        assertTrue(result.getGeneration() > first);
+
+        // Once the game is over the meter drops to zero straight away.
+        recorder.complete = new CountDownLatch(1);
+        state.setGameOver(true);
+        estimator.piecePlaced(state, 0, 0, 0, 0);
+        SurvivalResponseModel over = recorder.awaitComplete();
+        assertEquals(0.0, over.getProbability());
+        assertTrue(over.getGeneration() > result.getGeneration());
+    }
+}
@@ -0,0 +1,148 @@
+package use_case.wordle;
+
+import data_access.wordle.FileWordListDataAccess;
+import data_access.wordle.InMemoryGameSessionGateway;
+import entity.wordle.Feedback;
+import entity.wordle.Guess;
+import entity.wordle.LetterState;
+import entity.wordle.WordleGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HintInteractorTest {
+    private static final FileWordListDataAccess WORDS = new FileWordListDataAccess();
+
+    private final InMemoryGameSessionGateway sessions = new InMemoryGameSessionGateway();
+    private final List<HintOutputData> presented = new ArrayList<>();
+    private final AtomicInteger matrixLoads = new AtomicInteger();
+    private HintInteractor interactor;
+
+    @BeforeEach
+    void setUp() {
+        FeedbackMatrixGateway matrices = (guesses, answers) -> {
+            matrixLoads.incrementAndGet();
+            return FeedbackMatrix.compute(guesses, answers);
+        };
+        interactor = new HintInteractor(WORDS, sessions, matrices, presented::add, ForkJoinPool.commonPool(),
+                Runnable::run);
+    }
+
+    @Test
+    void hint_suggestsTheMostInformativeWordAndCachesIt() {
+        sessions.save("u1", new WordleGame("cigar"));
+        interactor.hint(new HintInputData("u1", false));
+
+        HintOutputData first = presented.get(0);
+        assertNotNull(first.hint);
+        assertEquals(WORDS.getAllAnswers().size(), first.answersLeft);
+        assertTrue(first.expectedBits > 4.5, "expected bits " + first.expectedBits);
+        assertTrue(first.message.contains(first.hint.toUpperCase()));
+        assertEquals(bestByBruteForce(WORDS.getAllAnswers()), first.expectedBits, 1e-9);
+
+        // Another game with the same (empty) history gets the cached suggestion.
+        sessions.save("u2", new WordleGame("rebut"));
+        interactor.hint(new HintInputData("u2", false));
+        assertEquals(first.hint, presented.get(1).hint);
+        assertSame(interactor.suggest(List.of(), null, false), interactor.suggest(List.of(), null, false));
+        assertEquals(1, matrixLoads.get());
+    }
+
+    @Test
+    void hint_onlyCountsAnswersThatFitTheFeedback() {
+        WordleGame game = new WordleGame("cigar");
+        game.submitGuess("crane");
+        game.submitGuess("stomp");
+        sessions.save("u1", game);
+        interactor.hint(new HintInputData("u1", false));
+
+        long fitting = WORDS.getAllAnswers().stream()
+                .filter(a -> Feedback.of("crane", a) == game.getGuesses().get(0).getFeedback()
+                        && Feedback.of("stomp", a) == game.getGuesses().get(1).getFeedback())
+                .count();
+        assertEquals(fitting, presented.get(0).answersLeft);
+        assertTrue(presented.get(0).answersLeft >= 1);
+
+        // A game that tracks its own candidates gives the same hint from its bitset.
+        WordleGame tracked = new WordleGame("cigar", WORDS.getAnswerIndex());
+        tracked.submitGuess("crane");
+        tracked.submitGuess("stomp");
+        sessions.save("u2", tracked);
+        interactor.hint(new HintInputData("u2", false));
+        assertEquals(fitting, tracked.getCandidateCount());
+        assertEquals(presented.get(0).hint, presented.get(1).hint);
+        assertEquals(fitting, presented.get(1).answersLeft);
+    }
+
+    @Test
+    void hint_inHardModeKeepsGreensAndUsesRevealedLetters() {
+        WordleGame game = new WordleGame("cigar");
+        Guess crane = game.submitGuess("crane");
+        sessions.save("u1", game);
+        interactor.hint(new HintInputData("u1", true));
+
+        String hint = presented.get(0).hint;
+        assertNotNull(hint);
+        assertTrue(HintInteractor.allowedInHardMode(hint, List.of(crane)));
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            LetterState state = Feedback.state(crane.getFeedback(), i);
+            if (state == LetterState.CORRECT) assertEquals("crane".charAt(i), hint.charAt(i));
+            if (state == LetterState.PRESENT) assertTrue(hint.indexOf("crane".charAt(i)) >= 0);
+        }
+        assertFalse(HintInteractor.allowedInHardMode("stomp", List.of(crane)));
+    }
+
+    @Test
+    void hint_runsTheSearchOnTheExecutorForTheGuessesAtRequestTime() {
+        Deque<Runnable> queued = new ArrayDeque<>();
+        AtomicInteger loads = new AtomicInteger();
+        HintInteractor queuedInteractor = new HintInteractor(WORDS, sessions, (guesses, answers) -> {
+            loads.incrementAndGet();
+            return FeedbackMatrix.compute(guesses, answers);
+        }, presented::add, ForkJoinPool.commonPool(), queued::add);
+        WordleGame game = new WordleGame("cigar", WORDS.getAnswerIndex());
+        game.submitGuess("crane");
+        sessions.save("u1", game);
+
+        queuedInteractor.hint(new HintInputData("u1", false));
+        assertTrue(presented.isEmpty());
+        assertEquals(0, loads.get());
+
+        // A guess made while the hint waits does not change what it was asked for.
+        game.submitGuess("stomp");
+        queued.poll().run();
+        assertEquals(1, loads.get());
+        assertEquals(1, presented.get(0).guesses.size());
+        assertEquals(presented.get(0).hint, queuedInteractor.suggest(game.getGuesses().subList(0, 1), null, false).word);
+    }
+
+    @Test
+    void hint_withoutAGameExplainsWhy() {
+        interactor.hint(new HintInputData("nobody", false));
+        assertNull(presented.get(0).hint);
+        assertEquals("No active game — start a new game first.", presented.get(0).message);
+    }
+
+    /** The highest entropy of any valid word over all answers, the slow way. */
+    private static double bestByBruteForce(List<String> answers) {
+        double best = 0;
+        for (String guess : WORDS.getAllValidWords()) {
+            int[] counts = new int[Feedback.CODES];
+            for (String answer : answers) counts[Feedback.of(guess, answer)]++;
+            double bits = 0;
+            for (int c : counts) {
+                if (c > 0) bits -= (double) c / answers.size() * Math.log((double) c / answers.size()) / Math.log(2);
+            }
+            best = Math.max(best, bits);
+        }
+        return best;
+    }
+}